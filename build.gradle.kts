@@ -13,6 +13,9 @@ plugins {
      */
     id("com.gradleup.shadow") version "9.3.1"
     id("org.danilopianini.gradle-java-qa") version "1.164.0"
+
+    // Microbenchmarks in src/jmh/java: ./gradlew jmh
+    id("me.champeau.jmh") version "0.7.3"
 }
 
 repositories {
@@ -26,6 +29,15 @@ java {
     }
 }
 
+// Build-time tools in src/tools/java, kept out of the game jar
+val tools: SourceSet by sourceSets.creating {
+    compileClasspath += sourceSets["main"].output
+    runtimeClasspath += sourceSets["main"].output
+}
+
+sourceSets["test"].compileClasspath += tools.output
+sourceSets["test"].runtimeClasspath += tools.output
+
 val javaFXModules = listOf("base", "controls", "fxml", "swing", "graphics", "media")
 
 val supportedPlatforms = listOf("linux", "mac", "win") // All required for OOP
@@ -62,9 +74,36 @@ tasks.withType<Test> {
     }
 }
 
+jmh {
+    jmhVersion.set("1.37")
+    // Reports bytes allocated per operation next to the timings
+    profilers.add("gc")
+    resultFormat.set("JSON")
+    // Narrow the run with: ./gradlew jmh -PjmhIncludes=TurnBenchmark
+    providers.gradleProperty("jmhIncludes").orNull?.let { includes.add(it) }
+}
+
 val main: String by project
 
 application {
     // Define the main class for the application
     mainClass.set("it.unibo.jrogue.main.Main")
 }
+
+// Plays games without a window: ./gradlew runHeadless --args="<firstSeed> <games> <stairs|random> <maxTurns> <threads>"
+// Replays a recorded game: ./gradlew runHeadless --args="replay [journal]"
+tasks.register<JavaExec>("runHeadless") {
+    group = "application"
+    description = "Runs seeded bot games without JavaFX."
+    classpath = sourceSets["main"].runtimeClasspath
+    mainClass.set("it.unibo.jrogue.main.HeadlessMain")
+}
+
+// Regenerates the sprite atlas from the images in src/sprites, laid out as SpriteId declares
+tasks.register<JavaExec>("packAtlas") {
+    group = "build"
+    description = "Packs the sprites into the atlas read by the game."
+    classpath = tools.runtimeClasspath
+    mainClass.set("it.unibo.jrogue.boundary.AtlasPacker")
+    args("src/sprites", "src/main/resources/tileset/atlas.png")
+}
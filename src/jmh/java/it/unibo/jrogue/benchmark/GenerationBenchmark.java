@@ -0,0 +1,88 @@
+package it.unibo.jrogue.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import it.unibo.jrogue.controller.generation.api.GenerationConfig;
+import it.unibo.jrogue.controller.generation.api.LevelGenerator;
+import it.unibo.jrogue.controller.generation.impl.BSPLevelGenerator;
+import it.unibo.jrogue.controller.generation.impl.PopulatedLevelGenerator;
+import it.unibo.jrogue.entity.world.api.Level;
+
+/**
+ * Measures the generation of dungeon levels, bare and populated.
+ *
+ * <p>
+ * Each call uses the next seed of a fixed cycle, so the numbers average over
+ * several layouts while staying repeatable between runs.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GenerationBenchmark {
+
+    private static final long BASE_SEED = 42L;
+    private static final int SEED_CYCLE = 16;
+    private static final int HEIGHT_RATIO = 9;
+    private static final int WIDTH_RATIO = 16;
+
+    @Param({ "80", "160", "320" })
+    private int mapWidth;
+
+    @Param({ "3", "5", "7" })
+    private int maxDepth;
+
+    @Param({ "1", "10" })
+    private int levelNumber;
+
+    private final LevelGenerator structureGenerator = new BSPLevelGenerator();
+    private final LevelGenerator populatedGenerator = new PopulatedLevelGenerator();
+    private int nextSeed;
+
+    /**
+     * Generates the rooms and hallways of a level.
+     *
+     * @return the generated level
+     */
+    @Benchmark
+    public Level generateStructure() {
+        return structureGenerator.generate(nextConfig());
+    }
+
+    /**
+     * Generates a level and fills it with enemies, items and traps.
+     *
+     * @return the generated level
+     */
+    @Benchmark
+    public Level generatePopulated() {
+        return populatedGenerator.generate(nextConfig());
+    }
+
+    private GenerationConfig nextConfig() {
+        nextSeed = (nextSeed + 1) % SEED_CYCLE;
+        return new GenerationConfig(
+                mapWidth,
+                mapWidth * HEIGHT_RATIO / WIDTH_RATIO,
+                GenerationConfig.DEFAULT_MIN_ROOM_SIZE,
+                GenerationConfig.DEFAULT_MAX_ROOM_SIZE,
+                GenerationConfig.DEFAULT_MIN_PARTITION_SIZE,
+                maxDepth,
+                BASE_SEED + nextSeed,
+                levelNumber);
+    }
+}
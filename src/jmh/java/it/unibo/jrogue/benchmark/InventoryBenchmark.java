@@ -0,0 +1,59 @@
+package it.unibo.jrogue.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import it.unibo.jrogue.entity.items.api.Inventory;
+import it.unibo.jrogue.entity.items.api.Item;
+import it.unibo.jrogue.entity.items.impl.ItemFactoryImpl;
+import it.unibo.jrogue.entity.items.impl.SimpleInventory;
+
+/**
+ * Measures filling an inventory one item at a time, as looting does.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InventoryBenchmark {
+
+    @Param({ "9", "50", "99" })
+    private int size;
+
+    private Item item;
+
+    /**
+     * Creates the item that is added over and over.
+     */
+    @Setup
+    public void setUp() {
+        item = new ItemFactoryImpl().createHealthPotion();
+    }
+
+    /**
+     * Adds items to an empty inventory until it is full.
+     *
+     * @return the full inventory
+     */
+    @Benchmark
+    public Inventory fill() {
+        final Inventory inventory = new SimpleInventory(size);
+        while (inventory.addItem(item)) {
+            // Each call looks for the first free slot
+        }
+        return inventory;
+    }
+}
@@ -0,0 +1,111 @@
+package it.unibo.jrogue.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import it.unibo.jrogue.boundary.HeadlessRenderer;
+import it.unibo.jrogue.boundary.NullSoundSystem;
+import it.unibo.jrogue.controller.DungeonController;
+import it.unibo.jrogue.engine.SaveData;
+import it.unibo.jrogue.engine.SaveManager;
+
+/**
+ * Measures writing and reading back the save of a freshly started game.
+ *
+ * <p>
+ * A delta save generates the current level again before encoding it, so the
+ * full mode is the one that measures encoding and I/O alone.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SaveBenchmark {
+
+    @Param({ "1", "99" })
+    private long seed;
+
+    @Param({ "FULL", "DELTA" })
+    private SaveManager.Mode saveMode;
+
+    private DungeonController dungeon;
+    private Path savePath;
+
+    /**
+     * Starts a game and writes a first save, so loading has something to read.
+     *
+     * @throws IOException if the temporary file cannot be written
+     */
+    @Setup
+    public void setUp() throws IOException {
+        dungeon = new DungeonController(seed, new HeadlessRenderer(), new NullSoundSystem());
+        dungeon.startNewGame();
+        savePath = Files.createTempFile("jrogue-bench", ".dat");
+        SaveManager.write(SaveManager.snapshot(dungeon), savePath, 1, saveMode);
+    }
+
+    /**
+     * Deletes the temporary save.
+     *
+     * @throws IOException if the file cannot be deleted
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(savePath);
+    }
+
+    /**
+     * Saves the game.
+     *
+     * @return the path written, returned so the save cannot be optimized away
+     * @throws IOException if writing fails
+     */
+    @Benchmark
+    public Path save() throws IOException {
+        SaveManager.write(SaveManager.snapshot(dungeon), savePath, 1, saveMode);
+        return savePath;
+    }
+
+    /**
+     * Loads the saved game.
+     *
+     * @return the loaded data
+     * @throws IOException            if reading fails
+     * @throws ClassNotFoundException if the save cannot be decoded
+     */
+    @Benchmark
+    public SaveData load() throws IOException, ClassNotFoundException {
+        return SaveManager.load(savePath);
+    }
+
+    /**
+     * Saves the game and loads it back.
+     *
+     * @return the loaded data
+     * @throws IOException            if reading or writing fails
+     * @throws ClassNotFoundException if the save cannot be decoded
+     */
+    @Benchmark
+    public SaveData roundTrip() throws IOException, ClassNotFoundException {
+        SaveManager.write(SaveManager.snapshot(dungeon), savePath, 1, saveMode);
+        return SaveManager.load(savePath);
+    }
+}
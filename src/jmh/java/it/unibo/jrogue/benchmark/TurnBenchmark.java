@@ -0,0 +1,108 @@
+package it.unibo.jrogue.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import it.unibo.jrogue.boundary.HeadlessRenderer;
+import it.unibo.jrogue.boundary.NullSoundSystem;
+import it.unibo.jrogue.commons.Move;
+import it.unibo.jrogue.commons.Position;
+import it.unibo.jrogue.controller.EnemySchedulerImpl;
+import it.unibo.jrogue.controller.MovementControllerImpl;
+import it.unibo.jrogue.entity.RandomContext;
+import it.unibo.jrogue.entity.entities.api.Enemy;
+import it.unibo.jrogue.entity.entities.api.Player;
+import it.unibo.jrogue.entity.entities.impl.enemies.factory.EnemyFactoryImpl;
+import it.unibo.jrogue.entity.entities.impl.player.PlayerImpl;
+import it.unibo.jrogue.entity.world.api.GameMap;
+import it.unibo.jrogue.entity.world.api.Tile;
+import it.unibo.jrogue.entity.world.impl.SimpleGameMap;
+import it.unibo.jrogue.entity.world.impl.TileGrid;
+
+/**
+ * Measures a whole turn with a crowd of awake enemies.
+ *
+ * <p>
+ * The enemies are spread on an open floor around a player that never dies,
+ * and the world is rebuilt before every iteration so the crowd does not end
+ * up permanently packed around the player. Without parking every enemy acts
+ * each turn; with it, the enemies beyond the default park distance wait.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TurnBenchmark {
+
+    private static final long SEED = 7L;
+    private static final int SPACING = 2;
+    private static final int BORDER = 4;
+    private static final int ENEMY_LEVEL = 1;
+    private static final int PLAYER_LIFE = Integer.MAX_VALUE / 2;
+    private static final int PLAYER_LEVEL = 1;
+    private static final int PLAYER_ARMOR = 10;
+
+    @Param({ "10", "100", "1000" })
+    private int enemies;
+
+    @Param({ "false", "true" })
+    private boolean parking;
+
+    private MovementControllerImpl movement;
+
+    /**
+     * Builds a square map just large enough for the enemies, with the player in the middle.
+     */
+    @Setup(Level.Iteration)
+    public void setUp() {
+        final int side = (int) Math.ceil(Math.sqrt(enemies + 1)) * SPACING + BORDER * 2;
+        final Position center = new Position(side / 2, side / 2);
+        final GameMap map = new SimpleGameMap(new TileGrid(side, side, Tile.FLOOR),
+                List.of(), List.of(), center, center);
+        final RandomContext random = new RandomContext(SEED);
+        final Player player = new PlayerImpl(PLAYER_LIFE, PLAYER_LEVEL, PLAYER_ARMOR, center,
+                random.stream(RandomContext.Stream.PLAYER));
+        map.setPlayer(player);
+        final EnemyFactoryImpl factory = new EnemyFactoryImpl(random.stream(RandomContext.Stream.POPULATION));
+        int placed = 0;
+        for (int y = BORDER; y < side - BORDER && placed < enemies; y += SPACING) {
+            for (int x = BORDER; x < side - BORDER && placed < enemies; x += SPACING) {
+                if (x != center.x() || y != center.y()) {
+                    final Enemy enemy = factory.createBat(new Position(x, y), ENEMY_LEVEL);
+                    enemy.wakeUp();
+                    map.addEntity(enemy);
+                    placed++;
+                }
+            }
+        }
+        movement = new MovementControllerImpl(map, new HeadlessRenderer(), new NullSoundSystem(),
+                parking ? EnemySchedulerImpl.DEFAULT_PARK_DISTANCE : Integer.MAX_VALUE);
+    }
+
+    /**
+     * Plays a turn where the player waits and every enemy in range acts.
+     *
+     * @return the kills so far, returned so the turn cannot be optimized away
+     */
+    @Benchmark
+    public int executeTurn() {
+        movement.executeTurn(Move.IDLE);
+        return movement.getKills();
+    }
+}
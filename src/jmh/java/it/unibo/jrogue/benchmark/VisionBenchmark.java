@@ -0,0 +1,82 @@
+package it.unibo.jrogue.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import it.unibo.jrogue.commons.Position;
+import it.unibo.jrogue.entity.RandomContext;
+import it.unibo.jrogue.entity.entities.api.Enemy;
+import it.unibo.jrogue.entity.entities.impl.enemies.factory.EnemyFactoryImpl;
+import it.unibo.jrogue.entity.world.api.GameMap;
+import it.unibo.jrogue.entity.world.api.Tile;
+import it.unibo.jrogue.entity.world.impl.SimpleGameMap;
+import it.unibo.jrogue.entity.world.impl.TileGrid;
+
+/**
+ * Measures the line of sight check enemies run every turn.
+ *
+ * <p>
+ * The enemy stands in a hall dotted with pillars, so the field of view has
+ * shadows to cast. The farthest distance is out of range and takes the
+ * early exit.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VisionBenchmark {
+
+    private static final int SIDE = 31;
+    private static final int PILLAR_SPACING = 4;
+    private static final int PILLAR_OFFSET = 2;
+    private static final long SEED = 3L;
+
+    @Param({ "1", "3", "6", "10" })
+    private int distance;
+
+    private GameMap map;
+    private Enemy enemy;
+    private Position player;
+
+    /**
+     * Builds the hall and places the enemy in the middle.
+     */
+    @Setup
+    public void setUp() {
+        final TileGrid grid = new TileGrid(SIDE, SIDE, Tile.FLOOR);
+        for (int y = PILLAR_OFFSET; y < SIDE; y += PILLAR_SPACING) {
+            for (int x = PILLAR_OFFSET; x < SIDE; x += PILLAR_SPACING) {
+                grid.setTileAt(x, y, Tile.WALL);
+            }
+        }
+        final Position center = new Position(SIDE / 2, SIDE / 2);
+        map = new SimpleGameMap(grid, List.of(), List.of(), center, center);
+        enemy = new EnemyFactoryImpl(new RandomContext(SEED)).createBat(center, 1);
+        player = new Position(center.x() + distance, center.y() + distance / 2);
+    }
+
+    /**
+     * Checks whether the enemy sees the player through the pillars.
+     *
+     * @return whether the player is seen
+     */
+    @Benchmark
+    public boolean canSeePlayer() {
+        return enemy.canSeePlayer(map, player);
+    }
+}
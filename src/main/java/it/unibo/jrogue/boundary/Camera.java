@@ -0,0 +1,116 @@
+package it.unibo.jrogue.boundary;
+
+import it.unibo.jrogue.commons.Position;
+
+/**
+ * The window of the map shown on screen, which follows the player.
+ * It scrolls only when the player gets close to one of its edges.
+ */
+final class Camera {
+
+    private final int margin;
+    private int mapWidth;
+    private int mapHeight;
+    private int columns;
+    private int rows;
+    private int x;
+    private int y;
+
+    /**
+     * Creates a camera.
+     *
+     * @param margin how close to an edge of the window, in cells, the player can get before it scrolls
+     */
+    Camera(final int margin) {
+        this.margin = margin;
+    }
+
+    /**
+     * Resizes the camera for a new map, keeping the window inside it.
+     *
+     * @param newMapWidth  the map width in cells
+     * @param newMapHeight the map height in cells
+     * @param maxColumns   the largest window width in cells
+     * @param maxRows      the largest window height in cells
+     */
+    void resize(final int newMapWidth, final int newMapHeight, final int maxColumns, final int maxRows) {
+        this.mapWidth = newMapWidth;
+        this.mapHeight = newMapHeight;
+        this.columns = Math.min(newMapWidth, maxColumns);
+        this.rows = Math.min(newMapHeight, maxRows);
+        this.x = 0;
+        this.y = 0;
+    }
+
+    /**
+     * Moves the window so the target stays away from its edges.
+     *
+     * @param target   the position to follow
+     * @param recenter true to center the window on the target unconditionally
+     * @return true if the window moved
+     */
+    boolean follow(final Position target, final boolean recenter) {
+        final int oldX = x;
+        final int oldY = y;
+        final int marginX = Math.min(margin, columns / 2);
+        final int marginY = Math.min(margin, rows / 2);
+        if (recenter || target.x() < x + marginX || target.x() >= x + columns - marginX) {
+            x = clamp(target.x() - columns / 2, mapWidth - columns);
+        }
+        if (recenter || target.y() < y + marginY || target.y() >= y + rows - marginY) {
+            y = clamp(target.y() - rows / 2, mapHeight - rows);
+        }
+        return x != oldX || y != oldY;
+    }
+
+    /**
+     * Checks whether a cell is inside the window.
+     *
+     * @param cellX the column
+     * @param cellY the row
+     * @return true if the cell is visible
+     */
+    boolean isVisible(final int cellX, final int cellY) {
+        return cellX >= x && cellY >= y && cellX < x + columns && cellY < y + rows;
+    }
+
+    /**
+     * Returns the first column of the window.
+     *
+     * @return the column
+     */
+    int getX() {
+        return x;
+    }
+
+    /**
+     * Returns the first row of the window.
+     *
+     * @return the row
+     */
+    int getY() {
+        return y;
+    }
+
+    /**
+     * Returns the width of the window.
+     *
+     * @return the number of columns
+     */
+    int getColumns() {
+        return columns;
+    }
+
+    /**
+     * Returns the height of the window.
+     *
+     * @return the number of rows
+     */
+    int getRows() {
+        return rows;
+    }
+
+    private static int clamp(final int value, final int max) {
+        return Math.max(0, Math.min(value, max));
+    }
+}
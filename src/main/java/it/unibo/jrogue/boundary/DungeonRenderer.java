@@ -2,6 +2,7 @@ package it.unibo.jrogue.boundary;
 
 import it.unibo.jrogue.boundary.api.GameViewRenderer;
 import it.unibo.jrogue.commons.Position;
+import it.unibo.jrogue.engine.Metrics;
 import it.unibo.jrogue.entity.entities.api.Enemy;
 import it.unibo.jrogue.entity.entities.api.Player;
 import it.unibo.jrogue.entity.entities.impl.enemies.Bat;
@@ -16,67 +17,63 @@ import it.unibo.jrogue.entity.items.impl.HealthPotion;
 import it.unibo.jrogue.entity.items.impl.MeleeWeapon;
 import it.unibo.jrogue.entity.items.impl.Ring;
 import it.unibo.jrogue.entity.items.impl.Scroll;
+import it.unibo.jrogue.entity.world.api.FieldOfView;
 import it.unibo.jrogue.entity.world.api.GameMap;
 import it.unibo.jrogue.entity.world.api.Hallway;
+import it.unibo.jrogue.entity.world.api.MapLayer;
 import it.unibo.jrogue.entity.world.api.Room;
-import it.unibo.jrogue.entity.world.api.Tile;
+import it.unibo.jrogue.entity.world.impl.ShadowcastingFieldOfView;
+import javafx.animation.AnimationTimer;
 import javafx.geometry.Pos;
 import javafx.scene.canvas.Canvas;
 import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.control.Label;
 import javafx.scene.image.Image;
 import javafx.scene.layout.StackPane;
 import javafx.scene.paint.Color;
 
-import java.util.Collections;
-import java.util.HashMap;
+import java.util.BitSet;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
 
 /**
- * Renders the dungeon using sprite graphics.
+ * Renders the dungeon using sprite graphics from a single sprite atlas.
  * Uses a StackPane with three Canvas layers for optimized rendering:
  * terrain (redrawn on level change), items (redrawn on pickup),
  * and entities (redrawn every turn).
+ * After the first frame of a map only the cells the map reports as dirty are redrawn.
+ * The canvases are never larger than the viewport: on bigger maps a camera
+ * follows the player and only the cells inside its window are drawn.
  */
 public final class DungeonRenderer extends StackPane implements GameViewRenderer {
 
     /** Default tile size in pixels. */
     public static final int DEFAULT_TILE_SIZE = 24;
+    /** Default viewport width in pixels, the width of the scaled game area. */
+    public static final int DEFAULT_VIEWPORT_WIDTH = 1920;
+    /** Default viewport height in pixels, the height of the scaled game area. */
+    public static final int DEFAULT_VIEWPORT_HEIGHT = 1080;
 
-    private static final String TILESET_PATH = "/tileset/";
-    private static final String TILE_CORRIDOR_H = "corridorhorizontal";
-    private static final String TILE_STAIRS = "stairs";
-    private static final String TILE_FLOOR = "tile";
-    private static final String WALL_COLOR = "#1a1a2e";
     private static final double FOG_OPACITY = 0.95;
-
-    private static final String SPRITE_PLAYER = "entities/player";
-    private static final String SPRITE_PLAYER_ARMOR = "entities/player-armored";
-    private static final String SPRITE_BAT = "entities/bat";
-    private static final String SPRITE_GOBLIN = "entities/goblin";
-    private static final String SPRITE_DRAGON = "entities/dragon";
-    private static final String SPRITE_SLEEPING_BAT = "entities/sleeping/sleeping-bat";
-    private static final String SPRITE_SLEEPING_GOBLIN = "entities/sleeping/sleeping-goblin";
-    private static final String SPRITE_SLEEPING_DRAGON = "entities/sleeping/sleeping-dragon";
-
-    private static final String SPRITE_GOLD = "items/gold";
-    private static final String SPRITE_POTION = "items/potion";
-    private static final String SPRITE_FOOD = "items/food";
-    private static final String SPRITE_RING = "items/ring";
-    private static final String SPRITE_AMULET = "items/amulet";
-    private static final String SPRITE_SCROLL = "items/scroll";
-    private static final String SPRITE_ARMOR_BASE = "items/armor-base";
-    private static final String SPRITE_ARMOR_MAX = "items/armor-max";
-
-    private static final String SPRITE_DAGGER = "weapons/dagger";
-    private static final String SPRITE_SWORD = "weapons/sword";
-    private static final String SPRITE_SHOVEL = "weapons/shovel";
-    private static final String SPRITE_TRAP_DAMAGE = "traps/trap-damage";
-    private static final String SPRITE_TRAP_ROCK = "traps/trap-rock";
+    private static final int PLAYER_SIGHT_RADIUS = 6;
+    private static final int CAMERA_MARGIN = 8;
+    private static final long OVERLAY_REFRESH_NANOS = 500_000_000L;
+    private static final String OVERLAY_STYLE = "-fx-font-family: monospace; -fx-text-fill: #00ff00;"
+            + " -fx-background-color: rgba(0, 0, 0, 0.7); -fx-padding: 6;";
 
     private static final String ARMOR_HEAVY_NAME = "Iron armor";
 
     private final int tileSize;
-    private final Map<String, Image> spriteCache = new HashMap<>();
+    private final int viewportWidth;
+    private final int viewportHeight;
+    private final SpriteAtlas atlas = new SpriteAtlas();
+    private final TerrainImage terrainImage;
+    private final Camera camera = new Camera(CAMERA_MARGIN);
+    private final FieldOfView fieldOfView = new ShadowcastingFieldOfView();
+    private final BitSet visible = new BitSet();
+    private final BitSet hiddenRegionCells = new BitSet();
+    private GameMap indexedMap;
 
     private Canvas terrainCanvas;
     private Canvas itemCanvas;
@@ -84,9 +81,15 @@ public final class DungeonRenderer extends StackPane implements GameViewRenderer
     private Canvas fogCanvas;
     private final StatusBarGUI statusBar = new StatusBarGUI();
     private final MessageDialog messageDialog = new MessageDialog();
+    private final Label metricsOverlay = new Label();
+    private long lastOverlayUpdate;
 
     private int mapWidth;
     private int mapHeight;
+    private GameMap renderedMap;
+    private boolean fullRedraw = true;
+    private int[] drawnEntityCells = new int[0];
+    private final AtomicReference<TurnSnapshot> pendingSnapshot = new AtomicReference<>();
 
     /**
      * Creates a DungeonRenderer with the default tile size.
@@ -101,8 +104,31 @@ public final class DungeonRenderer extends StackPane implements GameViewRenderer
      * @param tileSize the size of each tile in pixels
      */
     public DungeonRenderer(final int tileSize) {
+        this(tileSize, DEFAULT_VIEWPORT_WIDTH, DEFAULT_VIEWPORT_HEIGHT);
+    }
+
+    /**
+     * Creates a DungeonRenderer with the specified tile and viewport size.
+     *
+     * @param tileSize       the size of each tile in pixels
+     * @param viewportWidth  the largest width of the canvases in pixels
+     * @param viewportHeight the largest height of the canvases in pixels
+     */
+    public DungeonRenderer(final int tileSize, final int viewportWidth, final int viewportHeight) {
         this.tileSize = tileSize;
-        loadSprites();
+        this.viewportWidth = viewportWidth;
+        this.viewportHeight = viewportHeight;
+        this.terrainImage = new TerrainImage(tileSize, atlas);
+        metricsOverlay.setStyle(OVERLAY_STYLE);
+        metricsOverlay.setVisible(false);
+        metricsOverlay.setMouseTransparent(true);
+        new AnimationTimer() {
+            @Override
+            public void handle(final long now) {
+                drawPendingSnapshot();
+                updateMetricsOverlay(now);
+            }
+        }.start();
     }
 
     /**
@@ -115,8 +141,8 @@ public final class DungeonRenderer extends StackPane implements GameViewRenderer
     }
 
     /**
-     * Initializes the canvas layers for the given map dimensions. Before any
-     * render.
+     * Initializes the canvas layers for the given map dimensions, clamped to the
+     * viewport. Before any render.
      * 
      * @param map the game map
      */
@@ -124,9 +150,11 @@ public final class DungeonRenderer extends StackPane implements GameViewRenderer
     public void initForMap(final GameMap map) {
         this.mapWidth = map.getWidth();
         this.mapHeight = map.getHeight();
+        camera.resize(mapWidth, mapHeight,
+                (viewportWidth + tileSize - 1) / tileSize, (viewportHeight + tileSize - 1) / tileSize);
 
-        final int canvasW = mapWidth * tileSize;
-        final int canvasH = mapHeight * tileSize;
+        final int canvasW = camera.getColumns() * tileSize;
+        final int canvasH = camera.getRows() * tileSize;
 
         terrainCanvas = new Canvas(canvasW, canvasH);
         itemCanvas = new Canvas(canvasW, canvasH);
@@ -138,99 +166,133 @@ public final class DungeonRenderer extends StackPane implements GameViewRenderer
         entityCanvas.getGraphicsContext2D().setImageSmoothing(false);
 
         this.getChildren().clear();
-        this.getChildren().addAll(terrainCanvas, statusBar, messageDialog, itemCanvas, entityCanvas, fogCanvas);
+        this.getChildren().addAll(terrainCanvas, statusBar, messageDialog, itemCanvas, entityCanvas, fogCanvas,
+                metricsOverlay);
         setAlignment(statusBar, Pos.BOTTOM_CENTER);
         setAlignment(messageDialog, Pos.TOP_CENTER);
+        setAlignment(metricsOverlay, Pos.TOP_LEFT);
+        fullRedraw = true;
     }
 
     /**
-     * Returns the spriteCache Map, this can be used by other Boundary classes that
-     * needs Image instances to render elements.
+     * Returns the sprites cut from the atlas, keyed by sprite name, this can be used by
+     * other Boundary classes that needs Image instances to render elements.
      * 
      * @return The sprite map.
      */
     public Map<String, Image> getLoadedSprites() {
-        return Collections.unmodifiableMap(this.spriteCache);
+        return atlas.asImages();
     }
 
     /**
-     * Renders the complete terrain layer.
-     * Call when the level changes.
-     * 
-     * @param map the game map
+     * Renders the visible terrain from the cached terrain image,
+     * rebuilding it only when the map changes.
+     * Call when the level changes or the camera moves.
+     *
+     * @param snapshot the snapshot being drawn
+     */
+    private void renderTerrain(final TurnSnapshot snapshot) {
+        final GameMap map = snapshot.getMap();
+        if (terrainImage.isFor(map)) {
+            final BitSet redrawn = new BitSet(mapWidth * mapHeight);
+            snapshot.forEachTerrainCell(index -> terrainImage.update(index % mapWidth, index / mapWidth, redrawn));
+        } else {
+            terrainImage.rebuild(map);
+        }
+        terrainImage.showWindow(camera.getX(), camera.getY(), camera.getColumns(), camera.getRows());
+        terrainCanvas.getGraphicsContext2D().drawImage(terrainImage.getImage(), 0, 0);
+    }
+
+    /**
+     * Re-blits the terrain cells changed since the last frame.
+     *
+     * @param snapshot the snapshot being drawn
      */
-    private void renderTerrain(final GameMap map) {
+    private void renderDirtyTerrain(final TurnSnapshot snapshot) {
         final GraphicsContext gc = terrainCanvas.getGraphicsContext2D();
-        gc.setFill(Color.BLACK);
-        gc.fillRect(0, 0, mapWidth * tileSize, mapHeight * tileSize);
-
-        for (int x = 0; x < mapWidth; x++) {
-            for (int y = 0; y < mapHeight; y++) {
-                final Position pos = new Position(x, y);
-                final Tile tile = map.getTileAt(pos);
-                final double px = x * tileSize;
-                final double py = y * tileSize;
-
-                switch (tile) {
-                    case FLOOR -> drawFloor(gc, map, pos, px, py);
-                    case WALL -> drawWallFill(gc, px, py);
-                    case CORRIDOR -> drawCorridor(gc, map, pos, px, py);
-                    case STAIRS_UP -> drawSprite(gc, TILE_STAIRS, px, py);
-                    case TRAP -> drawTrapSprite(gc, map, pos, px, py);
-                    case VOID -> { }
-                }
-            }
+        final BitSet redrawn = new BitSet(mapWidth * mapHeight);
+        snapshot.forEachTerrainCell(index -> terrainImage.update(index % mapWidth, index / mapWidth, redrawn));
+        for (int i = redrawn.nextSetBit(0); i >= 0; i = redrawn.nextSetBit(i + 1)) {
+            final double px = screenX(i % mapWidth);
+            final double py = screenY(i / mapWidth);
+            gc.drawImage(terrainImage.getImage(), px, py, tileSize, tileSize, px, py, tileSize, tileSize);
         }
     }
 
     /**
      * Renders the item layer. Clears previous items and redraws.
-     * Call when items change (pickup, drop).
+     * Call when the level changes or the camera moves.
      * 
      * @param map the game map
      */
     private void renderItems(final GameMap map) {
         final GraphicsContext gc = itemCanvas.getGraphicsContext2D();
-        gc.clearRect(0, 0, mapWidth * tileSize, mapHeight * tileSize);
+        gc.clearRect(0, 0, camera.getColumns() * tileSize, camera.getRows() * tileSize);
 
         for (final Map.Entry<Position, Item> entry : map.getItems().entrySet()) {
             final Position pos = entry.getKey();
-            final Item item = entry.getValue();
-            final double px = pos.x() * tileSize;
-            final double py = pos.y() * tileSize;
-
-            drawSprite(gc, getItemSprite(item), px, py);
+            if (isVisible(pos.x(), pos.y())) {
+                drawSprite(gc, getItemSpriteId(entry.getValue()), screenX(pos.x()), screenY(pos.y()));
+            }
         }
     }
 
+    /**
+     * Redraws the item cells changed since the last frame.
+     *
+     * @param snapshot the snapshot being drawn
+     */
+    private void renderDirtyItems(final TurnSnapshot snapshot) {
+        final GraphicsContext gc = itemCanvas.getGraphicsContext2D();
+        snapshot.forEachItemCell((index, sprite) -> {
+            final int x = index % mapWidth;
+            final int y = index / mapWidth;
+            if (isVisible(x, y)) {
+                gc.clearRect(screenX(x), screenY(y), tileSize, tileSize);
+                sprite.ifPresent(s -> drawSprite(gc, s, screenX(x), screenY(y)));
+            }
+        });
+    }
+
     /**
      * Renders the entity layer (player and enemies).
-     * Call every turn after movement.
+     * Only the cells of the entities drawn on the previous frame are cleared,
+     * unless the whole layer is redrawn.
      *
-     * @param map the game map
-     * @param player the player entity
+     * @param snapshot the snapshot being drawn
+     * @param full     true to clear the whole layer
      */
-    private void renderEntities(final GameMap map, final Player player) {
+    private void renderEntities(final TurnSnapshot snapshot, final boolean full) {
         final GraphicsContext gc = entityCanvas.getGraphicsContext2D();
-        gc.clearRect(0, 0, mapWidth * tileSize, mapHeight * tileSize);
-
-        for (final Enemy enemy : map.getEnemies()) {
-            if (enemy.isAlive()) {
-                final Position pos = enemy.getPosition();
-                final double px = pos.x() * tileSize;
-                final double py = pos.y() * tileSize;
-                drawSprite(gc, getEnemySprite(enemy), px, py);
+        if (full) {
+            gc.clearRect(0, 0, camera.getColumns() * tileSize, camera.getRows() * tileSize);
+        } else {
+            for (final int index : drawnEntityCells) {
+                gc.clearRect(screenX(index % mapWidth), screenY(index / mapWidth), tileSize, tileSize);
             }
         }
+        final IntStream.Builder drawn = IntStream.builder();
+        snapshot.forEachEntity((index, sprite) -> {
+            final int x = index % mapWidth;
+            final int y = index / mapWidth;
+            if (isVisible(x, y)) {
+                sprite.ifPresent(s -> drawSprite(gc, s, screenX(x), screenY(y)));
+                drawn.add(index);
+            }
+        });
+        drawnEntityCells = drawn.build().toArray();
+    }
 
-        final Position playerPos = player.getPosition();
-        final double ppx = playerPos.x() * tileSize;
-        final double ppy = playerPos.y() * tileSize;
-        String spriteName = SPRITE_PLAYER;
-        if (player.hasArmor()) {
-            spriteName = SPRITE_PLAYER_ARMOR;
-        }
-        drawSprite(gc, spriteName, ppx, ppy);
+    private boolean isVisible(final int x, final int y) {
+        return camera.isVisible(x, y);
+    }
+
+    private double screenX(final int x) {
+        return (double) (x - camera.getX()) * tileSize;
+    }
+
+    private double screenY(final int y) {
+        return (double) (y - camera.getY()) * tileSize;
     }
 
     /**
@@ -246,8 +308,10 @@ public final class DungeonRenderer extends StackPane implements GameViewRenderer
     }
 
     /**
-     * Renders all layers at once.
-     * Convenience method for level changes.
+     * Publishes the state of the turn that just ended, to be drawn on the next frame.
+     * The changed cells and the entities are captured in an immutable {@link TurnSnapshot}
+     * and handed to the frame timer through a single slot: if frames fall behind turns,
+     * the pending snapshot is merged with the new one instead of queueing.
      *
      * @param map    the game map
      * @param player the player entity
@@ -255,177 +319,98 @@ public final class DungeonRenderer extends StackPane implements GameViewRenderer
      */
     @Override
     public void renderAll(final GameMap map, final Player player, final int dungeonLevel) {
+        final long start = Metrics.start();
         revealAtPlayer(map, player.getPosition());
-        renderTerrain(map);
-        renderItems(map);
-        renderEntities(map, player);
-        renderFog(map);
-        updateStatus(player, dungeonLevel);
+        final int width = map.getWidth();
+        final TurnSnapshot.Builder snapshot = new TurnSnapshot.Builder(map, fullRedraw);
+        fullRedraw = false;
+        map.drainDirtyCells(MapLayer.TERRAIN, snapshot::terrain);
+        map.drainDirtyCells(MapLayer.FOG, snapshot::fog);
+        map.drainDirtyCells(MapLayer.ITEMS, index -> snapshot.item(index,
+                map.getItemAt(new Position(index % width, index / width)).map(DungeonRenderer::getItemSpriteId)));
+        // Every entity is captured each turn, so entities need no dirty cells
+        for (final Enemy enemy : map.getEnemies()) {
+            if (enemy.isAlive()) {
+                snapshot.entity(enemy.getPosition().y() * width + enemy.getPosition().x(), getEnemySprite(enemy));
+            }
+        }
+        final Position playerPos = player.getPosition();
+        snapshot.entity(playerPos.y() * width + playerPos.x(),
+                player.hasArmor() ? SpriteId.PLAYER_ARMORED : SpriteId.PLAYER);
+        snapshot.player(playerPos).status(TurnSnapshot.Status.of(player, dungeonLevel));
+        pendingSnapshot.accumulateAndGet(snapshot.build(), TurnSnapshot::merge);
+        Metrics.stop(Metrics.Probe.RENDER_CAPTURE, start);
     }
 
     /**
-     * Display the specified message.
-     * 
-     * @param message The message to display.
+     * Draws the newest published snapshot, if any. Runs once per frame.
+     * The whole window is drawn after {@link #initForMap}, when the map changes or
+     * when the camera scrolls, otherwise only the cells that changed are redrawn.
      */
-    @Override
-    public void displayMessage(final String message) {
-        this.messageDialog.setMessage(message);
-    }
-
-    private void loadSprites() {
-        // Terrain tiles
-        loadSprite(TILE_FLOOR);
-        loadSprite("tiletopleft");
-        loadSprite("tiletop");
-        loadSprite("tiletopright");
-        loadSprite("tileleft");
-        loadSprite("tileright");
-        loadSprite("tilebottomleft");
-        loadSprite("tilebottom");
-        loadSprite("tilebottomright");
-        loadSprite(TILE_CORRIDOR_H);
-        loadSprite("corridorhorizontalleft");
-        loadSprite("corridorhorizontalright");
-        loadSprite("corridorvertical");
-        loadSprite("corridorverticaltop");
-        loadSprite("corridorverticalbottom");
-        loadSprite(TILE_STAIRS);
-
-        // Entities
-        loadSprite(SPRITE_PLAYER);
-        loadSprite(SPRITE_PLAYER_ARMOR);
-        loadSprite(SPRITE_BAT);
-        loadSprite(SPRITE_GOBLIN);
-        loadSprite(SPRITE_DRAGON);
-        loadSprite(SPRITE_SLEEPING_BAT);
-        loadSprite(SPRITE_SLEEPING_GOBLIN);
-        loadSprite(SPRITE_SLEEPING_DRAGON);
-
-        // Items
-        loadSprite(SPRITE_GOLD);
-        loadSprite(SPRITE_POTION);
-        loadSprite(SPRITE_FOOD);
-        loadSprite(SPRITE_RING);
-        loadSprite(SPRITE_AMULET);
-        loadSprite(SPRITE_SCROLL);
-        loadSprite(SPRITE_ARMOR_BASE);
-        loadSprite(SPRITE_ARMOR_MAX);
-        loadSprite(SPRITE_DAGGER);
-        loadSprite(SPRITE_SWORD);
-        loadSprite(SPRITE_SHOVEL);
-
-        // Traps
-        loadSprite(SPRITE_TRAP_DAMAGE);
-        loadSprite(SPRITE_TRAP_ROCK);
-    }
-
-    private void loadSprite(final String name) {
-        final String path = TILESET_PATH + name + ".png";
-        final var resource = getClass().getResourceAsStream(path);
-        if (resource != null) {
-            // Sprite Cache contains all the sprite already loaded and ready to be rendered
-            spriteCache.put(name, new Image(resource));
+    private void drawPendingSnapshot() {
+        final TurnSnapshot snapshot = pendingSnapshot.getAndSet(null);
+        if (snapshot == null) {
+            return;
         }
-    }
-
-    private void drawSprite(final GraphicsContext gc, final String name,
-                            final double px, final double py) {
-        final Image img = spriteCache.get(name);
-        if (img != null) {
-            gc.drawImage(img, px, py, tileSize, tileSize);
+        final GameMap map = snapshot.getMap();
+        final boolean newMap = snapshot.isFullRedraw() || map != renderedMap;
+        final boolean full = camera.follow(snapshot.getPlayerPosition(), newMap) || newMap;
+        long start = Metrics.start();
+        if (full) {
+            renderTerrain(snapshot);
+        } else {
+            renderDirtyTerrain(snapshot);
         }
-    }
-
-    private void drawFloor(final GraphicsContext gc, final GameMap map,
-                           final Position pos, final double px, final double py) {
-        final boolean wallAbove = isWallOrVoid(map, pos.x(), pos.y() - 1);
-        final boolean wallBelow = isWallOrVoid(map, pos.x(), pos.y() + 1);
-        final boolean wallLeft = isWallOrVoid(map, pos.x() - 1, pos.y());
-        final boolean wallRight = isWallOrVoid(map, pos.x() + 1, pos.y());
-
-        final String tileName;
-        if (wallAbove && wallLeft) {
-            tileName = "tiletopleft";
-        } else if (wallAbove && wallRight) {
-            tileName = "tiletopright";
-        } else if (wallBelow && wallLeft) {
-            tileName = "tilebottomleft";
-        } else if (wallBelow && wallRight) {
-            tileName = "tilebottomright";
-        } else if (wallAbove) {
-            tileName = "tiletop";
-        } else if (wallBelow) {
-            tileName = "tilebottom";
-        } else if (wallLeft) {
-            tileName = "tileleft";
-        } else if (wallRight) {
-            tileName = "tileright";
+        Metrics.stop(Metrics.Probe.DRAW_TERRAIN, start);
+        start = Metrics.start();
+        if (full) {
+            renderItems(map);
         } else {
-            tileName = TILE_FLOOR;
+            renderDirtyItems(snapshot);
         }
-
-        drawSprite(gc, tileName, px, py);
+        Metrics.stop(Metrics.Probe.DRAW_ITEMS, start);
+        start = Metrics.start();
+        renderEntities(snapshot, full);
+        Metrics.stop(Metrics.Probe.DRAW_ENTITIES, start);
+        start = Metrics.start();
+        if (full) {
+            renderFog(map);
+        } else {
+            renderDirtyFog(snapshot);
+        }
+        Metrics.stop(Metrics.Probe.DRAW_FOG, start);
+        renderedMap = map;
+        statusBar.show(snapshot.getStatus());
     }
 
-    private void drawWallFill(final GraphicsContext gc,
-                              final double px, final double py) {
-        gc.setFill(Color.web(WALL_COLOR));
-        gc.fillRect(px, py, tileSize, tileSize);
+    /**
+     * Shows or hides the overlay with the timings of the measured code paths.
+     */
+    public void toggleMetricsOverlay() {
+        metricsOverlay.setVisible(!metricsOverlay.isVisible());
+        lastOverlayUpdate = 0;
     }
 
-    private void drawCorridor(final GraphicsContext gc, final GameMap map,
-                              final Position pos, final double px, final double py) {
-        final boolean wallAbove = isWallOrVoid(map, pos.x(), pos.y() - 1);
-        final boolean wallBelow = isWallOrVoid(map, pos.x(), pos.y() + 1);
-        final boolean wallLeft = isWallOrVoid(map, pos.x() - 1, pos.y());
-        final boolean wallRight = isWallOrVoid(map, pos.x() + 1, pos.y());
-
-        final String tileName;
-        if (wallAbove && wallBelow) {
-            if (wallLeft) {
-                tileName = "corridorhorizontalleft";
-            } else if (wallRight) {
-                tileName = "corridorhorizontalright";
-            } else {
-                tileName = TILE_CORRIDOR_H;
-            }
-        } else if (wallLeft && wallRight) {
-            if (wallAbove) {
-                tileName = "corridorverticaltop";
-            } else if (wallBelow) {
-                tileName = "corridorverticalbottom";
-            } else {
-                tileName = "corridorvertical";
-            }
-        } else {
-            tileName = TILE_FLOOR;
+    private void updateMetricsOverlay(final long now) {
+        if (metricsOverlay.isVisible() && now - lastOverlayUpdate >= OVERLAY_REFRESH_NANOS) {
+            metricsOverlay.setText(Metrics.report());
+            lastOverlayUpdate = now;
         }
-
-        drawSprite(gc, tileName, px, py);
     }
 
-    private void drawTrapSprite(final GraphicsContext gc,
-                                final GameMap map,
-                                final Position pos,
-                                final double px, final double py) {
-        map.getTrapAt(pos).ifPresent(trap -> {
-            final String spriteName;
-
-            if (trap instanceof it.unibo.jrogue.entity.world.impl.RockTrap) {
-                spriteName = SPRITE_TRAP_ROCK;
-            } else {
-                spriteName = SPRITE_TRAP_DAMAGE;
-            }
-
-            drawSprite(gc, TILE_FLOOR, px, py);
-            drawSprite(gc, spriteName, px, py);
-        });
+    /**
+     * Display the specified message.
+     * 
+     * @param message The message to display.
+     */
+    @Override
+    public void displayMessage(final String message) {
+        this.messageDialog.setMessage(message);
     }
 
-    private boolean isWallOrVoid(final GameMap map, final int x, final int y) {
-        final Tile tile = map.getTileAt(new Position(x, y));
-        return tile == Tile.WALL || tile == Tile.VOID;
+    private void drawSprite(final GraphicsContext gc, final SpriteId sprite,
+                            final double px, final double py) {
+        atlas.draw(gc, sprite, px, py, tileSize);
     }
 
     /**
@@ -435,64 +420,89 @@ public final class DungeonRenderer extends StackPane implements GameViewRenderer
      * @return the sprite path
      */
     public static String getItemSprite(final Item item) {
+        return getItemSpriteId(item).getSpriteName();
+    }
+
+    private static SpriteId getItemSpriteId(final Item item) {
         if (item instanceof Gold) {
-            return SPRITE_GOLD;
+            return SpriteId.GOLD;
         } else if (item instanceof HealthPotion) {
-            return SPRITE_POTION;
+            return SpriteId.POTION;
         } else if (item instanceof Food) {
-            return SPRITE_FOOD;
+            return SpriteId.FOOD;
         } else if (item instanceof Ring) {
-            return SPRITE_RING;
+            return SpriteId.RING;
         } else if (item instanceof Amulet) {
-            return SPRITE_AMULET;
+            return SpriteId.AMULET;
         } else if (item instanceof Scroll) {
-            return SPRITE_SCROLL;
+            return SpriteId.SCROLL;
         } else if (item instanceof MeleeWeapon weapon) {
             return getWeaponSprite(weapon);
         } else if (item instanceof Armor armor) {
             return getArmorSprite(armor);
         }
-        return SPRITE_GOLD;
+        return SpriteId.GOLD;
     }
 
-    private static String getWeaponSprite(final MeleeWeapon weapon) {
+    private static SpriteId getWeaponSprite(final MeleeWeapon weapon) {
         final String weaponName = weapon.getName();
         if (weaponName.contains("Dagger")) {
-            return SPRITE_DAGGER;
+            return SpriteId.DAGGER;
         } else if (weaponName.contains("Sword")) {
-            return SPRITE_SWORD;
+            return SpriteId.SWORD;
         }
-        return SPRITE_SHOVEL;
+        return SpriteId.SHOVEL;
     }
 
-    private static String getArmorSprite(final Armor armor) {
+    private static SpriteId getArmorSprite(final Armor armor) {
         if (ARMOR_HEAVY_NAME.equals(armor.getName())) {
-            return SPRITE_ARMOR_MAX;
+            return SpriteId.ARMOR_MAX;
         }
-        return SPRITE_ARMOR_BASE;
+        return SpriteId.ARMOR_BASE;
     }
 
-    private String getEnemySprite(final Enemy enemy) {
+    private SpriteId getEnemySprite(final Enemy enemy) {
         if (enemy instanceof Bat) {
             if (enemy.isSleeping()) {
-                return SPRITE_SLEEPING_BAT;
+                return SpriteId.SLEEPING_BAT;
             }
-            return SPRITE_BAT;
+            return SpriteId.BAT;
         } else if (enemy instanceof HobGoblin) {
             if (enemy.isSleeping()) {
-                return SPRITE_SLEEPING_GOBLIN;
+                return SpriteId.SLEEPING_GOBLIN;
             }
-            return SPRITE_GOBLIN;
+            return SpriteId.GOBLIN;
         } else if (enemy instanceof Dragon) {
             if (enemy.isSleeping()) {
-                return SPRITE_SLEEPING_DRAGON;
+                return SpriteId.SLEEPING_DRAGON;
             }
-            return SPRITE_DRAGON;
+            return SpriteId.DRAGON;
         }
-        return SPRITE_BAT;
+        return SpriteId.BAT;
     }
 
+    /**
+     * Reveals the cells in sight of the player, and the hidden room or hallway the player entered.
+     * Entering a region is detected with a bitset of the cells of hidden regions, so the rooms
+     * and hallways are only scanned when the player actually steps into one.
+     *
+     * @param map       the game map
+     * @param playerPos the position of the player
+     */
     private void revealAtPlayer(final GameMap map, final Position playerPos) {
+        if (map != indexedMap) {
+            indexHiddenRegions(map);
+            indexedMap = map;
+        }
+        visible.clear();
+        fieldOfView.compute(map, playerPos.x(), playerPos.y(), PLAYER_SIGHT_RADIUS, visible);
+        final int width = map.getWidth();
+        for (int i = visible.nextSetBit(0); i >= 0; i = visible.nextSetBit(i + 1)) {
+            map.reveal(i % width, i / width);
+        }
+        if (!hiddenRegionCells.get(playerPos.y() * width + playerPos.x())) {
+            return;
+        }
         for (final Room room : map.getRooms()) {
             if (room.isHidden() && room.contains(playerPos)) {
                 room.reveal();
@@ -503,39 +513,69 @@ public final class DungeonRenderer extends StackPane implements GameViewRenderer
                 hallway.reveal();
             }
         }
+        indexHiddenRegions(map);
+    }
+
+    /**
+     * Collects the cells of the hidden rooms and hallways, and reveals on the map
+     * the cells of the ones already revealed, for example by a loaded save.
+     *
+     * @param map the game map
+     */
+    private void indexHiddenRegions(final GameMap map) {
+        hiddenRegionCells.clear();
+        final int width = map.getWidth();
+        for (final Room room : map.getRooms()) {
+            final Position topLeft = room.getTopLeft();
+            for (int x = topLeft.x(); x < topLeft.x() + room.getWidth(); x++) {
+                for (int y = topLeft.y(); y < topLeft.y() + room.getHeight(); y++) {
+                    if (room.isHidden()) {
+                        hiddenRegionCells.set(y * width + x);
+                    } else {
+                        map.reveal(x, y);
+                    }
+                }
+            }
+        }
+        for (final Hallway hallway : map.getHallways()) {
+            for (final Position pos : hallway.getPath()) {
+                if (hallway.isHidden()) {
+                    hiddenRegionCells.set(pos.y() * width + pos.x());
+                } else {
+                    map.reveal(pos.x(), pos.y());
+                }
+            }
+        }
     }
 
     private void renderFog(final GameMap map) {
         final GraphicsContext gc = fogCanvas.getGraphicsContext2D();
-        gc.clearRect(0, 0, mapWidth * tileSize, mapHeight * tileSize);
+        gc.clearRect(0, 0, camera.getColumns() * tileSize, camera.getRows() * tileSize);
         gc.setFill(Color.rgb(0, 0, 0, FOG_OPACITY));
 
-        for (int x = 0; x < mapWidth; x++) {
-            for (int y = 0; y < mapHeight; y++) {
-                final Position pos = new Position(x, y);
-                final Tile tile = map.getTileAt(pos);
-                if (tile == Tile.WALL || tile == Tile.VOID) {
-                    continue;
-                }
-                if (!isPositionRevealed(map, pos)) {
-                    gc.fillRect((double) x * tileSize, (double) y * tileSize, tileSize, tileSize);
+        for (int x = camera.getX(); x < camera.getX() + camera.getColumns(); x++) {
+            for (int y = camera.getY(); y < camera.getY() + camera.getRows(); y++) {
+                if (map.isWalkable(x, y) && !map.isRevealed(x, y)) {
+                    gc.fillRect(screenX(x), screenY(y), tileSize, tileSize);
                 }
             }
         }
     }
 
-    private boolean isPositionRevealed(final GameMap map, final Position pos) {
-        for (final Room room : map.getRooms()) {
-            if (!room.isHidden() && room.contains(pos)) {
-                return true;
-            }
-        }
-        for (final Hallway hallway : map.getHallways()) {
-            if (!hallway.isHidden() && hallway.getPath().contains(pos)) {
-                return true;
+    /**
+     * Lifts the fog from the cells revealed since the last frame.
+     *
+     * @param snapshot the snapshot being drawn
+     */
+    private void renderDirtyFog(final TurnSnapshot snapshot) {
+        final GraphicsContext gc = fogCanvas.getGraphicsContext2D();
+        snapshot.forEachFogCell(index -> {
+            final int x = index % mapWidth;
+            final int y = index / mapWidth;
+            if (isVisible(x, y)) {
+                gc.clearRect(screenX(x), screenY(y), tileSize, tileSize);
             }
-        }
-        return false;
+        });
     }
 
 }
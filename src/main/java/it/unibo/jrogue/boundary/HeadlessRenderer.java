@@ -0,0 +1,88 @@
+package it.unibo.jrogue.boundary;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import it.unibo.jrogue.boundary.api.GameViewRenderer;
+import it.unibo.jrogue.entity.entities.api.Player;
+import it.unibo.jrogue.entity.world.api.GameMap;
+
+/**
+ * Renderer that draws nothing, used to run the game without a JavaFX toolkit.
+ * It can optionally record the messages shown to the player.
+ */
+public final class HeadlessRenderer implements GameViewRenderer {
+
+    private final boolean recordMessages;
+    private final List<String> messages = new ArrayList<>();
+    private int renderCount;
+
+    /**
+     * Creates a renderer that discards every message.
+     */
+    public HeadlessRenderer() {
+        this(false);
+    }
+
+    /**
+     * Creates a headless renderer.
+     *
+     * @param recordMessages true to keep every displayed message
+     */
+    public HeadlessRenderer(final boolean recordMessages) {
+        this.recordMessages = recordMessages;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void displayMessage(final String message) {
+        if (recordMessages) {
+            messages.add(message);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void updateStatus(final Player player, final int dungeonLevel) {
+        // Nothing to draw
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void renderAll(final GameMap map, final Player player, final int dungeonLevel) {
+        renderCount++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void initForMap(final GameMap map) {
+        // Nothing to prepare
+    }
+
+    /**
+     * Returns the recorded messages, oldest first.
+     *
+     * @return the messages, empty if recording is disabled
+     */
+    public List<String> getMessages() {
+        return Collections.unmodifiableList(messages);
+    }
+
+    /**
+     * Returns how many times a full render was requested.
+     *
+     * @return the render count
+     */
+    public int getRenderCount() {
+        return renderCount;
+    }
+}
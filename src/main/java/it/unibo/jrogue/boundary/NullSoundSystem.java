@@ -0,0 +1,26 @@
+package it.unibo.jrogue.boundary;
+
+import it.unibo.jrogue.boundary.api.SoundSystem;
+
+/**
+ * Sound system that plays nothing.
+ * Used when the game runs without a JavaFX toolkit.
+ */
+public final class NullSoundSystem implements SoundSystem {
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void play(final Sound sound) {
+        // Intentionally silent
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void load(final Sound type, final String path) {
+        // Nothing to load
+    }
+}
@@ -0,0 +1,83 @@
+package it.unibo.jrogue.boundary;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelReader;
+import javafx.scene.image.WritableImage;
+
+/**
+ * All the game sprites packed into a single texture.
+ * Drawing a sprite is an array lookup of its region followed by one image blit.
+ */
+final class SpriteAtlas {
+
+    private static final String ATLAS_PATH = "/tileset/atlas.png";
+
+    private final Optional<Image> atlas;
+    private Map<String, Image> sprites;
+
+    /**
+     * Loads the atlas texture. A missing texture makes every draw a no-op.
+     */
+    SpriteAtlas() {
+        this.atlas = load();
+    }
+
+    /**
+     * Draws a sprite scaled to a square.
+     *
+     * @param gc     the graphics context to draw on
+     * @param sprite the sprite to draw
+     * @param px     the x coordinate of the destination
+     * @param py     the y coordinate of the destination
+     * @param size   the destination size in pixels
+     */
+    void draw(final GraphicsContext gc, final SpriteId sprite, final double px, final double py, final double size) {
+        atlas.ifPresent(image -> gc.drawImage(image, sprite.getAtlasX(), sprite.getAtlasY(),
+                sprite.getSize(), sprite.getSize(), px, py, size, size));
+    }
+
+    /**
+     * Returns the pixels of the whole atlas, so callers can sample sprites by region.
+     *
+     * @return the atlas pixel reader, empty if the atlas could not be loaded
+     */
+    Optional<PixelReader> getPixelReader() {
+        return atlas.map(Image::getPixelReader);
+    }
+
+    /**
+     * Returns every sprite as a standalone image, keyed by sprite name.
+     * The images are cut from the atlas on the first call.
+     *
+     * @return the sprites by name
+     */
+    Map<String, Image> asImages() {
+        if (sprites == null) {
+            final Map<String, Image> images = new LinkedHashMap<>();
+            getPixelReader().ifPresent(reader -> {
+                for (final SpriteId sprite : SpriteId.values()) {
+                    images.put(sprite.getSpriteName(), new WritableImage(reader,
+                            sprite.getAtlasX(), sprite.getAtlasY(), sprite.getSize(), sprite.getSize()));
+                }
+            });
+            sprites = Collections.unmodifiableMap(images);
+        }
+        return sprites;
+    }
+
+    private Optional<Image> load() {
+        try (InputStream resource = SpriteAtlas.class.getResourceAsStream(ATLAS_PATH)) {
+            return resource == null ? Optional.empty() : Optional.of(new Image(resource));
+        } catch (final IOException e) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package it.unibo.jrogue.boundary;
+
+/**
+ * The sprites packed in the sprite atlas.
+ *
+ * <p>
+ * Sprites are laid out in declaration order on a grid of {@value #CELL} pixel cells,
+ * {@value #COLUMNS} per row, each anchored at the top left corner of its cell.
+ * The name of a sprite is the path of its source image under {@code src/sprites}: edit
+ * those images, or this enum, and regenerate the atlas with {@code ./gradlew packAtlas}.
+ * </p>
+ */
+enum SpriteId {
+    TILE("tile"),
+    TILE_TOP_LEFT("tiletopleft"),
+    TILE_TOP("tiletop"),
+    TILE_TOP_RIGHT("tiletopright"),
+    TILE_LEFT("tileleft"),
+    TILE_RIGHT("tileright"),
+    TILE_BOTTOM_LEFT("tilebottomleft"),
+    TILE_BOTTOM("tilebottom"),
+    TILE_BOTTOM_RIGHT("tilebottomright"),
+    CORRIDOR_HORIZONTAL("corridorhorizontal"),
+    CORRIDOR_HORIZONTAL_LEFT("corridorhorizontalleft"),
+    CORRIDOR_HORIZONTAL_RIGHT("corridorhorizontalright"),
+    CORRIDOR_VERTICAL("corridorvertical"),
+    CORRIDOR_VERTICAL_TOP("corridorverticaltop"),
+    CORRIDOR_VERTICAL_BOTTOM("corridorverticalbottom"),
+    STAIRS("stairs"),
+    TRAP_ROCK("traps/trap-rock"),
+    TRAP_DAMAGE("traps/trap-damage"),
+    PLAYER("entities/player"),
+    PLAYER_ARMORED("entities/player-armored"),
+    BAT("entities/bat"),
+    GOBLIN("entities/goblin"),
+    DRAGON("entities/dragon"),
+    SLEEPING_BAT("entities/sleeping/sleeping-bat", SpriteId.CELL),
+    SLEEPING_GOBLIN("entities/sleeping/sleeping-goblin", SpriteId.CELL),
+    SLEEPING_DRAGON("entities/sleeping/sleeping-dragon", SpriteId.CELL),
+    GOLD("items/gold"),
+    POTION("items/potion"),
+    FOOD("items/food"),
+    RING("items/ring"),
+    AMULET("items/amulet"),
+    SCROLL("items/scroll"),
+    ARMOR_BASE("items/armor-base"),
+    ARMOR_MAX("items/armor-max"),
+    DAGGER("weapons/dagger"),
+    SWORD("weapons/sword"),
+    SHOVEL("weapons/shovel");
+
+    /** Size in pixels of an atlas cell. */
+    static final int CELL = 24;
+    /** Number of cells in an atlas row. */
+    static final int COLUMNS = 8;
+
+    private static final int DEFAULT_SIZE = 16;
+
+    private final String spriteName;
+    private final int size;
+
+    SpriteId(final String spriteName) {
+        this(spriteName, DEFAULT_SIZE);
+    }
+
+    SpriteId(final String spriteName, final int size) {
+        this.spriteName = spriteName;
+        this.size = size;
+    }
+
+    /**
+     * Returns the name the sprite is known by outside the renderer.
+     *
+     * @return the sprite name
+     */
+    String getSpriteName() {
+        return spriteName;
+    }
+
+    /**
+     * Returns the x coordinate of the sprite in the atlas.
+     *
+     * @return the left edge in pixels
+     */
+    int getAtlasX() {
+        return ordinal() % COLUMNS * CELL;
+    }
+
+    /**
+     * Returns the y coordinate of the sprite in the atlas.
+     *
+     * @return the top edge in pixels
+     */
+    int getAtlasY() {
+        return ordinal() / COLUMNS * CELL;
+    }
+
+    /**
+     * Returns the width and height of the sprite in the atlas.
+     *
+     * @return the size in pixels
+     */
+    int getSize() {
+        return size;
+    }
+}
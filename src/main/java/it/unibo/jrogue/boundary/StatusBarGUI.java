@@ -92,18 +92,26 @@ public class StatusBarGUI extends HBox {
      */
     public void update(final Player player, final int dungeonLevel) {
         Objects.requireNonNull(player, "Player must be not null");
+        show(TurnSnapshot.Status.of(player, dungeonLevel));
+    }
 
-        goldLabel.setText("Gold: " + player.getGold());
-        playerLevelLabel.setText("Player-Level: " + player.getLevel());
-        dungeonLevelLabel.setText("Dungeon-Level: " + dungeonLevel);
+    /**
+     * Shows the given status values.
+     *
+     * @param status the values captured at the end of a turn
+     */
+    void show(final TurnSnapshot.Status status) {
+        goldLabel.setText("Gold: " + status.gold());
+        playerLevelLabel.setText("Player-Level: " + status.playerLevel());
+        dungeonLevelLabel.setText("Dungeon-Level: " + status.dungeonLevel());
 
-        final double hpPercent = (double) player.getLifePoint() / player.getMaxLifePoint();
+        final double hpPercent = (double) status.lifePoints() / status.maxLifePoints();
         hpBar.setProgress(hpPercent);
-        hpLabel.setText("HP: " + player.getLifePoint() + "/" + player.getMaxLifePoint());
+        hpLabel.setText("HP: " + status.lifePoints() + "/" + status.maxLifePoints());
 
-        final double xpPercent = (double) player.getXP() / XP_TO_LEVEL_UP;
+        final double xpPercent = (double) status.xp() / XP_TO_LEVEL_UP;
         xpBar.setProgress(xpPercent);
-        xpLabel.setText("XP: " + player.getXP() + "/20");
+        xpLabel.setText("XP: " + status.xp() + "/20");
 
         this.getChildren().clear();
         this.getChildren().addAll(hpStack, xpStack, goldLabel, playerLevelLabel, dungeonLevelLabel);
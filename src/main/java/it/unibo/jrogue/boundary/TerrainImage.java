@@ -0,0 +1,204 @@
+package it.unibo.jrogue.boundary;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Optional;
+
+import it.unibo.jrogue.entity.world.api.GameMap;
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.PixelReader;
+import javafx.scene.image.PixelWriter;
+import javafx.scene.image.WritableImage;
+
+/**
+ * The visible part of the terrain of a map pre-rendered into a single image.
+ *
+ * <p>
+ * The autotiled sprite of every cell is computed once per map and stored as a byte,
+ * and the sprites are scaled to the tile size once, so drawing the terrain is a single
+ * image blit. The image only covers the window shown by the camera, so its size does
+ * not depend on the size of the map. When tiles change only the affected cells are
+ * recomputed, and re-blitted if they are inside the window.
+ * </p>
+ */
+final class TerrainImage {
+
+    private static final int OPAQUE_BLACK = 0xFF000000;
+    private static final int WALL_ARGB = 0xFF1A1A2E;
+    private static final int ALPHA_SHIFT = 24;
+    private static final int RED_SHIFT = 16;
+    private static final int GREEN_SHIFT = 8;
+    private static final int CHANNEL_MASK = 0xFF;
+
+    private final int tileSize;
+    private final int[][] tilePixels;
+    private GameMap map;
+    private byte[] sprites;
+    private WritableImage image;
+    private int windowX;
+    private int windowY;
+    private int windowColumns;
+    private int windowRows;
+
+    /**
+     * Prepares the scaled pixels of every terrain sprite.
+     *
+     * @param tileSize the size of a cell in pixels
+     * @param atlas    the sprite atlas
+     */
+    TerrainImage(final int tileSize, final SpriteAtlas atlas) {
+        this.tileSize = tileSize;
+        this.tilePixels = new int[TerrainSprite.values().length][];
+        final Optional<PixelReader> reader = atlas.getPixelReader();
+        final int[] floor = reader.map(r -> scaled(r, SpriteId.TILE)).orElseGet(() -> filled(OPAQUE_BLACK));
+        for (final TerrainSprite sprite : TerrainSprite.values()) {
+            final int[] pixels;
+            if (sprite == TerrainSprite.WALL) {
+                pixels = filled(WALL_ARGB);
+            } else if (sprite.isOverlay()) {
+                pixels = floor.clone();
+            } else {
+                pixels = filled(OPAQUE_BLACK);
+            }
+            sprite.getSprite()
+                    .flatMap(id -> reader.map(r -> scaled(r, id)))
+                    .ifPresent(overlay -> blend(pixels, overlay));
+            tilePixels[sprite.ordinal()] = pixels;
+        }
+    }
+
+    /**
+     * Checks whether the image currently holds the terrain of the given map.
+     *
+     * @param other the map to check
+     * @return true if the image was built for that map instance
+     */
+    boolean isFor(final GameMap other) {
+        return map == other;
+    }
+
+    /**
+     * Computes the sprite of every cell of a map. Call {@link #showWindow} to draw it.
+     *
+     * @param newMap the map to render
+     */
+    void rebuild(final GameMap newMap) {
+        this.map = newMap;
+        final int width = newMap.getWidth();
+        final int height = newMap.getHeight();
+        this.sprites = new byte[width * height];
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                sprites[y * width + x] = (byte) TerrainSprite.of(newMap, x, y).ordinal();
+            }
+        }
+    }
+
+    /**
+     * Moves the window of the map covered by the image and draws all of it.
+     *
+     * @param x       the first column of the window
+     * @param y       the first row of the window
+     * @param columns the width of the window in cells
+     * @param rows    the height of the window in cells
+     */
+    void showWindow(final int x, final int y, final int columns, final int rows) {
+        if (image == null || columns != windowColumns || rows != windowRows) {
+            image = new WritableImage(columns * tileSize, rows * tileSize);
+        }
+        windowX = x;
+        windowY = y;
+        windowColumns = columns;
+        windowRows = rows;
+        final int width = map.getWidth();
+        for (int row = y; row < y + rows; row++) {
+            for (int column = x; column < x + columns; column++) {
+                blit(column, row, sprites[row * width + column]);
+            }
+        }
+    }
+
+    /**
+     * Recomputes a changed cell and its four neighbours, whose autotile depends on it,
+     * and re-blits the visible ones whose sprite changed.
+     *
+     * @param x       the column of the changed cell
+     * @param y       the row of the changed cell
+     * @param redrawn receives the map index of every re-blitted cell
+     */
+    void update(final int x, final int y, final BitSet redrawn) {
+        refresh(x, y, redrawn);
+        refresh(x, y - 1, redrawn);
+        refresh(x, y + 1, redrawn);
+        refresh(x - 1, y, redrawn);
+        refresh(x + 1, y, redrawn);
+    }
+
+    /**
+     * Returns the rendered terrain window.
+     *
+     * @return the image, one tile per visible cell
+     */
+    Image getImage() {
+        return image;
+    }
+
+    private void refresh(final int x, final int y, final BitSet redrawn) {
+        final int width = map.getWidth();
+        if (x < 0 || y < 0 || x >= width || y >= map.getHeight()) {
+            return;
+        }
+        final int index = y * width + x;
+        final byte sprite = (byte) TerrainSprite.of(map, x, y).ordinal();
+        // Traps of another kind share the tile, so overlays are always re-blitted
+        if (sprite != sprites[index] || TerrainSprite.fromIndex(sprite).isOverlay()) {
+            sprites[index] = sprite;
+            if (image != null && x >= windowX && y >= windowY
+                    && x < windowX + windowColumns && y < windowY + windowRows) {
+                blit(x, y, sprite);
+                redrawn.set(index);
+            }
+        }
+    }
+
+    private void blit(final int x, final int y, final byte sprite) {
+        final PixelWriter writer = image.getPixelWriter();
+        writer.setPixels((x - windowX) * tileSize, (y - windowY) * tileSize, tileSize, tileSize,
+                PixelFormat.getIntArgbInstance(), tilePixels[sprite], 0, tileSize);
+    }
+
+    private int[] filled(final int argb) {
+        final int[] pixels = new int[tileSize * tileSize];
+        Arrays.fill(pixels, argb);
+        return pixels;
+    }
+
+    // Nearest neighbour sampling, like the canvases with image smoothing disabled
+    private int[] scaled(final PixelReader reader, final SpriteId sprite) {
+        final int[] pixels = new int[tileSize * tileSize];
+        for (int y = 0; y < tileSize; y++) {
+            for (int x = 0; x < tileSize; x++) {
+                pixels[y * tileSize + x] = reader.getArgb(sprite.getAtlasX() + x * sprite.getSize() / tileSize,
+                        sprite.getAtlasY() + y * sprite.getSize() / tileSize);
+            }
+        }
+        return pixels;
+    }
+
+    private static void blend(final int[] destination, final int[] source) {
+        for (int i = 0; i < destination.length; i++) {
+            final int alpha = source[i] >>> ALPHA_SHIFT;
+            destination[i] = OPAQUE_BLACK
+                    | mix(source[i], destination[i], alpha, RED_SHIFT) << RED_SHIFT
+                    | mix(source[i], destination[i], alpha, GREEN_SHIFT) << GREEN_SHIFT
+                    | mix(source[i], destination[i], alpha, 0);
+        }
+    }
+
+    private static int mix(final int source, final int destination, final int alpha, final int shift) {
+        final int top = source >> shift & CHANNEL_MASK;
+        final int bottom = destination >> shift & CHANNEL_MASK;
+        return (top * alpha + bottom * (CHANNEL_MASK - alpha)) / CHANNEL_MASK;
+    }
+}
@@ -0,0 +1,141 @@
+package it.unibo.jrogue.boundary;
+
+import java.util.Optional;
+
+import it.unibo.jrogue.commons.Position;
+import it.unibo.jrogue.entity.world.api.GameMap;
+import it.unibo.jrogue.entity.world.impl.RockTrap;
+
+/**
+ * The sprites a terrain cell can be drawn with.
+ * Floors and corridors are autotiled: their sprite depends on which neighbours are walls.
+ */
+enum TerrainSprite {
+    /** Nothing is drawn, the cell stays black. */
+    NONE(null),
+    /** A flat wall colored cell. */
+    WALL(null),
+    FLOOR(SpriteId.TILE),
+    FLOOR_TOP_LEFT(SpriteId.TILE_TOP_LEFT),
+    FLOOR_TOP(SpriteId.TILE_TOP),
+    FLOOR_TOP_RIGHT(SpriteId.TILE_TOP_RIGHT),
+    FLOOR_LEFT(SpriteId.TILE_LEFT),
+    FLOOR_RIGHT(SpriteId.TILE_RIGHT),
+    FLOOR_BOTTOM_LEFT(SpriteId.TILE_BOTTOM_LEFT),
+    FLOOR_BOTTOM(SpriteId.TILE_BOTTOM),
+    FLOOR_BOTTOM_RIGHT(SpriteId.TILE_BOTTOM_RIGHT),
+    CORRIDOR_HORIZONTAL(SpriteId.CORRIDOR_HORIZONTAL),
+    CORRIDOR_HORIZONTAL_LEFT(SpriteId.CORRIDOR_HORIZONTAL_LEFT),
+    CORRIDOR_HORIZONTAL_RIGHT(SpriteId.CORRIDOR_HORIZONTAL_RIGHT),
+    CORRIDOR_VERTICAL(SpriteId.CORRIDOR_VERTICAL),
+    CORRIDOR_VERTICAL_TOP(SpriteId.CORRIDOR_VERTICAL_TOP),
+    CORRIDOR_VERTICAL_BOTTOM(SpriteId.CORRIDOR_VERTICAL_BOTTOM),
+    STAIRS(SpriteId.STAIRS),
+    TRAP_ROCK(SpriteId.TRAP_ROCK),
+    TRAP_DAMAGE(SpriteId.TRAP_DAMAGE);
+
+    private static final TerrainSprite[] VALUES = values();
+
+    private final SpriteId sprite;
+
+    TerrainSprite(final SpriteId sprite) {
+        this.sprite = sprite;
+    }
+
+    /**
+     * Returns the atlas sprite of the cell, empty for cells drawn as a flat color.
+     *
+     * @return the sprite
+     */
+    Optional<SpriteId> getSprite() {
+        return Optional.ofNullable(sprite);
+    }
+
+    /**
+     * Checks whether the sprite is drawn on top of a floor tile.
+     *
+     * @return true for traps
+     */
+    boolean isOverlay() {
+        return this == TRAP_ROCK || this == TRAP_DAMAGE;
+    }
+
+    /**
+     * Returns the sprite with the given ordinal, used to decode a packed sprite index.
+     *
+     * @param index the ordinal
+     * @return the sprite
+     */
+    static TerrainSprite fromIndex(final int index) {
+        return VALUES[index];
+    }
+
+    /**
+     * Picks the sprite of a cell from its tile and its neighbours.
+     *
+     * @param map the game map
+     * @param x   the column
+     * @param y   the row
+     * @return the sprite of the cell
+     */
+    static TerrainSprite of(final GameMap map, final int x, final int y) {
+        return switch (map.getTileAt(x, y)) {
+            case FLOOR -> floor(map, x, y);
+            case WALL -> WALL;
+            case CORRIDOR -> corridor(map, x, y);
+            case STAIRS_UP -> STAIRS;
+            case TRAP -> map.getTrapAt(new Position(x, y))
+                    .map(trap -> trap instanceof RockTrap ? TRAP_ROCK : TRAP_DAMAGE)
+                    .orElse(NONE);
+            case VOID -> NONE;
+        };
+    }
+
+    private static TerrainSprite floor(final GameMap map, final int x, final int y) {
+        final boolean wallAbove = !map.isWalkable(x, y - 1);
+        final boolean wallBelow = !map.isWalkable(x, y + 1);
+        final boolean wallLeft = !map.isWalkable(x - 1, y);
+        final boolean wallRight = !map.isWalkable(x + 1, y);
+        if (wallAbove && wallLeft) {
+            return FLOOR_TOP_LEFT;
+        } else if (wallAbove && wallRight) {
+            return FLOOR_TOP_RIGHT;
+        } else if (wallBelow && wallLeft) {
+            return FLOOR_BOTTOM_LEFT;
+        } else if (wallBelow && wallRight) {
+            return FLOOR_BOTTOM_RIGHT;
+        } else if (wallAbove) {
+            return FLOOR_TOP;
+        } else if (wallBelow) {
+            return FLOOR_BOTTOM;
+        } else if (wallLeft) {
+            return FLOOR_LEFT;
+        } else if (wallRight) {
+            return FLOOR_RIGHT;
+        }
+        return FLOOR;
+    }
+
+    private static TerrainSprite corridor(final GameMap map, final int x, final int y) {
+        final boolean wallAbove = !map.isWalkable(x, y - 1);
+        final boolean wallBelow = !map.isWalkable(x, y + 1);
+        final boolean wallLeft = !map.isWalkable(x - 1, y);
+        final boolean wallRight = !map.isWalkable(x + 1, y);
+        if (wallAbove && wallBelow) {
+            if (wallLeft) {
+                return CORRIDOR_HORIZONTAL_LEFT;
+            } else if (wallRight) {
+                return CORRIDOR_HORIZONTAL_RIGHT;
+            }
+            return CORRIDOR_HORIZONTAL;
+        } else if (wallLeft && wallRight) {
+            if (wallAbove) {
+                return CORRIDOR_VERTICAL_TOP;
+            } else if (wallBelow) {
+                return CORRIDOR_VERTICAL_BOTTOM;
+            }
+            return CORRIDOR_VERTICAL;
+        }
+        return FLOOR;
+    }
+}
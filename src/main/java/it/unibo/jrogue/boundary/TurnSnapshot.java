@@ -0,0 +1,329 @@
+package it.unibo.jrogue.boundary;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.function.IntConsumer;
+
+import it.unibo.jrogue.commons.Position;
+import it.unibo.jrogue.entity.entities.api.Player;
+import it.unibo.jrogue.entity.world.api.GameMap;
+
+/**
+ * What a turn changed on screen, captured when the turn ends and drawn on a later frame.
+ *
+ * <p>
+ * A snapshot is immutable: it holds the cells whose terrain, items or fog changed, the
+ * sprites of the items in those cells, the position and sprite of every entity and the
+ * values shown in the status bar. When frames are slower than turns, pending snapshots
+ * are {@link #merge merged}, so no change is lost while only the newest state is drawn.
+ * </p>
+ */
+final class TurnSnapshot {
+
+    private static final byte NO_SPRITE = -1;
+    private static final SpriteId[] SPRITES = SpriteId.values();
+
+    private final GameMap map;
+    private final boolean fullRedraw;
+    private final int[] terrainCells;
+    private final int[] itemCells;
+    private final byte[] itemSprites;
+    private final int[] fogCells;
+    private final int[] entityCells;
+    private final byte[] entitySprites;
+    private final Position playerPosition;
+    private final Status status;
+
+    private TurnSnapshot(final Builder builder) {
+        this.map = builder.map;
+        this.fullRedraw = builder.fullRedraw;
+        this.terrainCells = Arrays.copyOf(builder.terrainCells, builder.terrainCount);
+        this.itemCells = Arrays.copyOf(builder.itemCells, builder.itemCount);
+        this.itemSprites = Arrays.copyOf(builder.itemSprites, builder.itemCount);
+        this.fogCells = Arrays.copyOf(builder.fogCells, builder.fogCount);
+        this.entityCells = Arrays.copyOf(builder.entityCells, builder.entityCount);
+        this.entitySprites = Arrays.copyOf(builder.entitySprites, builder.entityCount);
+        this.playerPosition = builder.playerPosition;
+        this.status = builder.status;
+    }
+
+    /**
+     * Returns the map the snapshot was taken on. It is only read on the thread that
+     * mutates it, to redraw whole layers.
+     *
+     * @return the map
+     */
+    GameMap getMap() {
+        return map;
+    }
+
+    /**
+     * Checks whether every layer must be redrawn, because the canvases were recreated.
+     *
+     * @return true for a full redraw
+     */
+    boolean isFullRedraw() {
+        return fullRedraw;
+    }
+
+    /**
+     * Returns the position of the player, followed by the camera.
+     *
+     * @return the player position
+     */
+    Position getPlayerPosition() {
+        return playerPosition;
+    }
+
+    /**
+     * Returns the values shown in the status bar.
+     *
+     * @return the status values
+     */
+    Status getStatus() {
+        return status;
+    }
+
+    /**
+     * Passes the map index of every cell whose terrain changed.
+     *
+     * @param action the action to run on each cell
+     */
+    void forEachTerrainCell(final IntConsumer action) {
+        Arrays.stream(terrainCells).forEach(action);
+    }
+
+    /**
+     * Passes the map index of every cell that was revealed.
+     *
+     * @param action the action to run on each cell
+     */
+    void forEachFogCell(final IntConsumer action) {
+        Arrays.stream(fogCells).forEach(action);
+    }
+
+    /**
+     * Passes every cell whose item changed, with the sprite of the item now lying there.
+     *
+     * @param action the action to run on each cell, with an empty sprite if the cell is now empty
+     */
+    void forEachItemCell(final CellAction action) {
+        for (int i = 0; i < itemCells.length; i++) {
+            action.accept(itemCells[i], itemSprites[i] == NO_SPRITE
+                    ? Optional.empty() : Optional.of(SPRITES[itemSprites[i]]));
+        }
+    }
+
+    /**
+     * Passes the cell and sprite of every living entity, the player last.
+     *
+     * @param action the action to run on each entity
+     */
+    void forEachEntity(final CellAction action) {
+        for (int i = 0; i < entityCells.length; i++) {
+            action.accept(entityCells[i], Optional.of(SPRITES[entitySprites[i]]));
+        }
+    }
+
+    /**
+     * Combines a snapshot that was never drawn with a newer one.
+     * The result keeps the changed cells of both and the entities and status of the newer.
+     *
+     * @param older the pending snapshot, may be null
+     * @param newer the snapshot being published
+     * @return the snapshot to draw
+     */
+    static TurnSnapshot merge(final TurnSnapshot older, final TurnSnapshot newer) {
+        if (older == null) {
+            return newer;
+        }
+        final Builder merged = new Builder(newer.map, newer.fullRedraw || older.fullRedraw || older.map != newer.map);
+        if (older.map == newer.map) {
+            Arrays.stream(older.terrainCells).forEach(merged::terrain);
+            Arrays.stream(older.fogCells).forEach(merged::fog);
+            for (int i = 0; i < older.itemCells.length; i++) {
+                merged.item(older.itemCells[i], older.itemSprites[i]);
+            }
+        }
+        Arrays.stream(newer.terrainCells).forEach(merged::terrain);
+        Arrays.stream(newer.fogCells).forEach(merged::fog);
+        for (int i = 0; i < newer.itemCells.length; i++) {
+            merged.item(newer.itemCells[i], newer.itemSprites[i]);
+        }
+        for (int i = 0; i < newer.entityCells.length; i++) {
+            merged.entity(newer.entityCells[i], SPRITES[newer.entitySprites[i]]);
+        }
+        return merged.player(newer.playerPosition).status(newer.status).build();
+    }
+
+    /**
+     * Receives a cell and the sprite drawn in it.
+     */
+    @FunctionalInterface
+    interface CellAction {
+
+        /**
+         * Handles a cell.
+         *
+         * @param index  the map index of the cell
+         * @param sprite the sprite of the cell, empty if nothing is there
+         */
+        void accept(int index, Optional<SpriteId> sprite);
+    }
+
+    /**
+     * The values shown in the status bar.
+     *
+     * @param gold          the gold of the player
+     * @param playerLevel   the level of the player
+     * @param dungeonLevel  the current dungeon level
+     * @param lifePoints    the current life points
+     * @param maxLifePoints the maximum life points
+     * @param xp            the experience points
+     */
+    record Status(int gold, int playerLevel, int dungeonLevel, int lifePoints, int maxLifePoints, int xp) {
+
+        /**
+         * Reads the status values of a player.
+         *
+         * @param player       the player
+         * @param dungeonLevel the current dungeon level
+         * @return the status values
+         */
+        static Status of(final Player player, final int dungeonLevel) {
+            return new Status(player.getGold(), player.getLevel(), dungeonLevel,
+                    player.getLifePoint(), player.getMaxLifePoint(), player.getXP());
+        }
+    }
+
+    /**
+     * Collects the content of a snapshot.
+     */
+    static final class Builder {
+
+        private static final int INITIAL_CAPACITY = 16;
+
+        private final GameMap map;
+        private final boolean fullRedraw;
+        private int[] terrainCells = new int[INITIAL_CAPACITY];
+        private int terrainCount;
+        private int[] itemCells = new int[INITIAL_CAPACITY];
+        private byte[] itemSprites = new byte[INITIAL_CAPACITY];
+        private int itemCount;
+        private int[] fogCells = new int[INITIAL_CAPACITY];
+        private int fogCount;
+        private int[] entityCells = new int[INITIAL_CAPACITY];
+        private byte[] entitySprites = new byte[INITIAL_CAPACITY];
+        private int entityCount;
+        private Position playerPosition = new Position(0, 0);
+        private Status status = new Status(0, 0, 0, 0, 1, 0);
+
+        /**
+         * Starts a snapshot.
+         *
+         * @param map        the map the snapshot is taken on
+         * @param fullRedraw true if every layer must be redrawn
+         */
+        Builder(final GameMap map, final boolean fullRedraw) {
+            this.map = map;
+            this.fullRedraw = fullRedraw;
+        }
+
+        /**
+         * Adds a cell whose terrain changed.
+         *
+         * @param index the map index of the cell
+         * @return this builder
+         */
+        Builder terrain(final int index) {
+            terrainCells = grow(terrainCells, terrainCount);
+            terrainCells[terrainCount++] = index;
+            return this;
+        }
+
+        /**
+         * Adds a cell whose item changed.
+         *
+         * @param index  the map index of the cell
+         * @param sprite the sprite of the item now in the cell, empty if there is none
+         * @return this builder
+         */
+        Builder item(final int index, final Optional<SpriteId> sprite) {
+            return item(index, sprite.map(s -> (byte) s.ordinal()).orElse(NO_SPRITE));
+        }
+
+        /**
+         * Adds a revealed cell.
+         *
+         * @param index the map index of the cell
+         * @return this builder
+         */
+        Builder fog(final int index) {
+            fogCells = grow(fogCells, fogCount);
+            fogCells[fogCount++] = index;
+            return this;
+        }
+
+        /**
+         * Adds a living entity.
+         *
+         * @param index  the map index of the cell of the entity
+         * @param sprite the sprite of the entity
+         * @return this builder
+         */
+        Builder entity(final int index, final SpriteId sprite) {
+            entityCells = grow(entityCells, entityCount);
+            entitySprites = grow(entitySprites, entityCount);
+            entityCells[entityCount] = index;
+            entitySprites[entityCount++] = (byte) sprite.ordinal();
+            return this;
+        }
+
+        /**
+         * Sets the position of the player.
+         *
+         * @param position the player position
+         * @return this builder
+         */
+        Builder player(final Position position) {
+            this.playerPosition = position;
+            return this;
+        }
+
+        /**
+         * Sets the status values.
+         *
+         * @param newStatus the status values
+         * @return this builder
+         */
+        Builder status(final Status newStatus) {
+            this.status = newStatus;
+            return this;
+        }
+
+        /**
+         * Creates the snapshot.
+         *
+         * @return the immutable snapshot
+         */
+        TurnSnapshot build() {
+            return new TurnSnapshot(this);
+        }
+
+        private Builder item(final int index, final byte sprite) {
+            itemCells = grow(itemCells, itemCount);
+            itemSprites = grow(itemSprites, itemCount);
+            itemCells[itemCount] = index;
+            itemSprites[itemCount++] = sprite;
+            return this;
+        }
+
+        private static int[] grow(final int[] array, final int count) {
+            return count < array.length ? array : Arrays.copyOf(array, array.length * 2);
+        }
+
+        private static byte[] grow(final byte[] array, final int count) {
+            return count < array.length ? array : Arrays.copyOf(array, array.length * 2);
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package it.unibo.jrogue.commons;
 
+import java.util.random.RandomGenerator;
+
 import it.unibo.jrogue.entity.GameRandom;
 
 /**
@@ -23,13 +25,26 @@ public final class Dice {
      * @throws IllegalArgumentException if nDice or sides are less than 1.
      */
     public static int roll(final int nDice, final int sides) {
+        return roll(GameRandom.generator(), nDice, sides);
+    }
+
+    /**
+     * Simulates rolling dice drawing from the given generator.
+     * 
+     * @param random The generator to draw from.
+     * @param nDice The number of dice to roll.
+     * @param sides The number of faces.
+     * @return The sum of all dice rolls.
+     * @throws IllegalArgumentException if nDice or sides are less than 1.
+     */
+    public static int roll(final RandomGenerator random, final int nDice, final int sides) {
         if (nDice < 1 || sides < 1) {
             throw new IllegalArgumentException("nDice and sides must be positive");
         }
 
         int total = 0;
         for (int i = 0; i < nDice; i++) {
-            total += GameRandom.nextInt(sides) + 1;
+            total += random.nextInt(sides) + 1;
         }
         return total;
     }
@@ -5,12 +5,19 @@ import java.util.Objects;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import it.unibo.jrogue.boundary.SoundManager;
 import it.unibo.jrogue.boundary.api.GameViewRenderer;
+import it.unibo.jrogue.boundary.api.SoundSystem;
 import it.unibo.jrogue.commons.Move;
 import it.unibo.jrogue.commons.Position;
 import it.unibo.jrogue.controller.generation.api.GenerationConfig;
 import it.unibo.jrogue.controller.generation.api.LevelGenerator;
 import it.unibo.jrogue.controller.generation.api.SpawnConfig;
+import it.unibo.jrogue.controller.generation.impl.LevelCache;
+import it.unibo.jrogue.controller.generation.impl.LevelPrefetcher;
 import it.unibo.jrogue.controller.generation.impl.PopulatedLevelGenerator;
+import it.unibo.jrogue.engine.Metrics;
+import it.unibo.jrogue.engine.TurnRecorder;
+import it.unibo.jrogue.entity.RandomContext;
+import it.unibo.jrogue.entity.Zobrist;
 import it.unibo.jrogue.entity.entities.api.Player;
 import it.unibo.jrogue.entity.entities.impl.player.PlayerImpl;
 import it.unibo.jrogue.entity.world.api.GameMap;
@@ -31,12 +38,15 @@ public final class DungeonController {
     private static final String ERR_PLAYER_NULL = "player cannot be null";
     private final long baseSeed;
     private final GameViewRenderer renderer;
-    private final LevelGenerator generator;
-    private final SoundManager soundManager;
+    private final LevelPrefetcher levels;
+    private final LevelCache visitedLevels;
+    private final SoundSystem soundManager;
 
     private int currentLevel;
+    private int previousKills;
     private GameMap currentMap;
     private Player player;
+    private TurnRecorder recorder = TurnRecorder.NONE;
     @SuppressFBWarnings(value = "UwF", justification = "Initialized when level is generated")
     private MovementControllerImpl movementController;
 
@@ -48,11 +58,33 @@ public final class DungeonController {
      */
 
     public DungeonController(final long seed, final GameViewRenderer renderer) {
-        this.soundManager = new SoundManager();
+        this(seed, renderer, new SoundManager(), true);
+    }
+
+    /**
+     * Creates a DungeonController with the given seed, renderer and sound system.
+     * Passing non-JavaFX implementations of both lets the game run headless.
+     * Levels are generated on the calling thread, so simulations never start extra threads.
+     *
+     * @param seed        the base seed for level generation
+     * @param renderer    the dungeon renderer
+     * @param soundSystem the sound system used for game effects
+     */
+    public DungeonController(final long seed, final GameViewRenderer renderer, final SoundSystem soundSystem) {
+        this(seed, renderer, soundSystem, false);
+    }
+
+    private DungeonController(final long seed, final GameViewRenderer renderer, final SoundSystem soundSystem,
+            final boolean prefetchLevels) {
+        this.soundManager = Objects.requireNonNull(soundSystem, "soundSystem cannot be null");
         this.baseSeed = seed;
         this.renderer = renderer;
-        // DEBUG: this.generator = new PopulatedLevelGenerator(SpawnConfig.debug());
-        this.generator = new PopulatedLevelGenerator(SpawnConfig.defaults());
+        // DEBUG: final LevelGenerator generator = new PopulatedLevelGenerator(SpawnConfig.debug());
+        final LevelGenerator generator = new PopulatedLevelGenerator(SpawnConfig.defaults());
+        this.levels = new LevelPrefetcher(generator, prefetchLevels);
+        // Compacting and rebuilding cached levels generates them directly, leaving the prefetch and the probes alone
+        final LevelGenerator regenerator = new PopulatedLevelGenerator(SpawnConfig.defaults(), false);
+        this.visitedLevels = new LevelCache(seed, levelNumber -> regenerator.generate(configFor(levelNumber)).getMap());
         this.currentLevel = 0;
     }
 
@@ -62,12 +94,14 @@ public final class DungeonController {
      */
     public void startNewGame() {
         this.currentLevel = 1;
+        visitedLevels.clear();
         generateCurrentLevel();
 
         final Position startPos = currentMap.getStartingPosition();
-        this.player = new PlayerImpl(startPos);
+        this.player = new PlayerImpl(startPos, new RandomContext(baseSeed).stream(RandomContext.Stream.PLAYER));
         currentMap.setPlayer(player);
 
+        this.previousKills = 0;
         this.movementController = new MovementControllerImpl(currentMap, getRenderer(), this.soundManager);
 
         renderer.initForMap(currentMap);
@@ -86,13 +120,15 @@ public final class DungeonController {
             return false;
         }
 
+        visitedLevels.put(currentLevel, currentMap);
         currentLevel++;
+        recorder.recordDescend();
         generateCurrentLevel();
 
         player.setPosition(currentMap.getStartingPosition());
         currentMap.setPlayer(player);
 
-        this.movementController = new MovementControllerImpl(currentMap, getRenderer(), this.soundManager);
+        replaceMovementController();
 
         renderer.initForMap(currentMap);
         renderer.renderAll(currentMap, player, currentLevel);
@@ -111,13 +147,14 @@ public final class DungeonController {
             return false;
         }
 
+        visitedLevels.put(currentLevel, currentMap);
         currentLevel--;
         generateCurrentLevel();
 
         player.setPosition(currentMap.getStartingPosition());
         currentMap.setPlayer(player);
 
-        this.movementController = new MovementControllerImpl(currentMap, getRenderer(), this.soundManager);
+        replaceMovementController();
 
         renderer.initForMap(currentMap);
         renderer.renderAll(currentMap, player, currentLevel);
@@ -132,7 +169,10 @@ public final class DungeonController {
      */
     public void executeTurn(final Move move) {
         Objects.requireNonNull(movementController, ERR_PLAYER_NULL);
+        final long start = Metrics.start();
         movementController.executeTurn(move);
+        Metrics.stop(Metrics.Probe.TURN, start);
+        recorder.recordTurn(move, this::stateHash);
         renderer.renderAll(currentMap, player, currentLevel);
     }
 
@@ -217,24 +257,95 @@ public final class DungeonController {
     public void restoreState(final int level, final Player restoredPlayer, final GameMap restoredMap) {
         this.currentLevel = level;
         this.currentMap = restoredMap;
+        visitedLevels.clear();
         this.player = restoredPlayer;
         this.currentMap.setPlayer(player);
-        this.movementController = new MovementControllerImpl(currentMap, getRenderer(), this.soundManager);
+        replaceMovementController();
+        prefetchNextLevel();
 
         renderer.initForMap(currentMap);
         renderer.renderAll(currentMap, player, currentLevel);
     }
 
     /**
-     * Generates the current level using the custom seed.
+     * Sets where the inputs of this game are recorded, replacing the previous recorder.
+     *
+     * @param recorder the recorder, {@link TurnRecorder#NONE} to stop recording
+     */
+    public void setRecorder(final TurnRecorder recorder) {
+        this.recorder = Objects.requireNonNull(recorder, "recorder cannot be null");
+    }
+
+    /**
+     * Returns where the inputs of this game are recorded.
+     *
+     * @return the recorder
+     */
+    public TurnRecorder getRecorder() {
+        return recorder;
+    }
+
+    /**
+     * Returns a fingerprint of the game state: the level and the {@link GameMap#stateHash() state
+     * of its map}, player included. Two games played with the same seed and inputs have the same
+     * fingerprint, and reading it costs nothing since the map keeps it up to date.
+     *
+     * @return the hash of the current state
+     */
+    public long stateHash() {
+        return Zobrist.combine(currentMap.stateHash(), currentLevel);
+    }
+
+    /**
+     * Returns how many enemies the player has killed since the game started.
+     *
+     * @return the number of kills
+     */
+    public int getKillCount() {
+        return movementController == null ? previousKills : previousKills + movementController.getKills();
+    }
+
+    /**
+     * Creates the movement controller for the current map, keeping the kill count.
+     */
+    private void replaceMovementController() {
+        if (movementController != null) {
+            previousKills += movementController.getKills();
+        }
+        this.movementController = new MovementControllerImpl(currentMap, getRenderer(), this.soundManager);
+    }
+
+    /**
+     * Enters the current level, restoring it as it was left if it was already visited,
+     * then starts preparing the next one.
      * Each level is reproducible: seed = baseSeed + levelNumber.
      */
     private void generateCurrentLevel() {
-        final long levelSeed = baseSeed + currentLevel;
-        final GenerationConfig config = GenerationConfig.withDefaults(
-                MAP_WIDTH, MAP_HEIGHT, currentLevel, levelSeed);
-        final Level level = generator.generate(config);
-        this.currentMap = level.getMap();
+        this.currentMap = visitedLevels.take(currentLevel)
+                .orElseGet(() -> generateLevel(currentLevel));
+        prefetchNextLevel();
+    }
+
+    private GameMap generateLevel(final int levelNumber) {
+        final Level level = levels.take(configFor(levelNumber));
+        return level.getMap();
+    }
+
+    /**
+     * Starts generating the level below the current one in the background,
+     * unless it was already visited.
+     */
+    private void prefetchNextLevel() {
+        if (currentLevel < MAX_LEVEL && !visitedLevels.contains(currentLevel + 1)) {
+            levels.prefetch(configFor(currentLevel + 1));
+        } else {
+            levels.cancel();
+        }
+    }
+
+    private GenerationConfig configFor(final int levelNumber) {
+        final long levelSeed = baseSeed + levelNumber;
+        return GenerationConfig.withDefaults(MAP_WIDTH, MAP_HEIGHT, levelNumber, levelSeed);
     }
 
 }
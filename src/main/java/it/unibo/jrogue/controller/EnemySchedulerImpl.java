@@ -0,0 +1,247 @@
+package it.unibo.jrogue.controller;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.function.Consumer;
+
+import it.unibo.jrogue.commons.Position;
+import it.unibo.jrogue.controller.api.EnemyScheduler;
+import it.unibo.jrogue.entity.entities.api.Enemy;
+
+/**
+ * Enemy scheduler that keeps its sets as bits over the enemies of the level.
+ *
+ * <p>
+ * Time is counted in ticks, {@link #TICKS_PER_TURN} per turn of the player. Active
+ * enemies wait in a binary heap keyed by the tick of their next action, and an enemy
+ * of speed {@code s} acts again {@code TICKS_PER_TURN * NORMAL_SPEED / s} ticks after
+ * its last action. A turn pops only the enemies due before its end, so slow enemies
+ * cost nothing in the turns they skip and fast ones act several times. Enemies due
+ * on the same tick act in the order they were added to the map.
+ * </p>
+ *
+ * <p>
+ * An enemy parked at distance {@code d} from the player cannot move, and the player
+ * moves one cell per turn, so it cannot come within the park distance before
+ * {@code d - parkDistance} turns. Parked enemies wait in a queue ordered by that turn
+ * and only then are checked again, so distant enemies cost nothing while they wait.
+ * Enemies never notice the player beyond their visibility, so with the default park
+ * distance, larger than any visibility, parking does not change how the game plays.
+ * </p>
+ */
+public final class EnemySchedulerImpl implements EnemyScheduler {
+
+    /** Default park distance, beyond the visibility of every enemy. */
+    public static final int DEFAULT_PARK_DISTANCE = 8;
+
+    /** Number of ticks in a turn of the player. */
+    public static final int TICKS_PER_TURN = 100;
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int INDEX_BITS = 32;
+    private static final long INDEX_MASK = (1L << INDEX_BITS) - 1;
+
+    private final List<Enemy> roster = new ArrayList<>();
+    private final Map<Enemy, Integer> indices = new IdentityHashMap<>();
+    private final BitSet active = new BitSet();
+    private final BitSet parked = new BitSet();
+    private final BitSet sleeping = new BitSet();
+    private final BitSet dead = new BitSet();
+    /** Turn of the next check in the high bits, roster index in the low bits. */
+    private final PriorityQueue<Long> rechecks = new PriorityQueue<>();
+    /** Binary min-heap of the active enemies, by next action tick then roster index. */
+    private int[] heap = new int[INITIAL_CAPACITY];
+    private int heapSize;
+    private long[] nextAction = new long[INITIAL_CAPACITY];
+    private final int parkDistance;
+    private long turn;
+
+    /**
+     * Creates a scheduler for the enemies of a level.
+     *
+     * @param enemies        the enemies, in the order they act
+     * @param playerPosition the position of the player
+     * @param parkDistance   the distance from the player beyond which awake enemies are parked
+     * @throws IllegalArgumentException if the park distance is negative
+     */
+    public EnemySchedulerImpl(final Collection<Enemy> enemies, final Position playerPosition,
+            final int parkDistance) {
+        if (parkDistance < 0) {
+            throw new IllegalArgumentException("parkDistance cannot be negative");
+        }
+        this.parkDistance = parkDistance;
+        for (final Enemy enemy : enemies) {
+            final int index = register(enemy);
+            if (!enemy.isAlive()) {
+                dead.set(index);
+            } else if (enemy.isSleeping()) {
+                sleeping.set(index);
+            } else {
+                activateOrPark(index, playerPosition);
+            }
+        }
+    }
+
+    @Override
+    public void runTurn(final Position playerPosition, final Consumer<Enemy> action) {
+        turn++;
+        while (!rechecks.isEmpty() && rechecks.peek() >>> INDEX_BITS <= turn) {
+            final int index = (int) (rechecks.poll() & INDEX_MASK);
+            if (parked.get(index)) {
+                parked.clear(index);
+                activateOrPark(index, playerPosition);
+            }
+        }
+        final long end = turn * TICKS_PER_TURN;
+        while (heapSize > 0 && nextAction[heap[0]] < end) {
+            final int index = pop();
+            // Evicted enemies are left in the heap and dropped when they come up
+            if (!active.get(index)) {
+                continue;
+            }
+            final Enemy enemy = roster.get(index);
+            action.accept(enemy);
+            if (!active.get(index)) {
+                continue;
+            }
+            if (distance(enemy, playerPosition) > parkDistance) {
+                active.clear(index);
+                park(index, playerPosition);
+            } else {
+                nextAction[index] += delay(enemy);
+                push(index);
+            }
+        }
+    }
+
+    @Override
+    public void wake(final Enemy enemy) {
+        final int index = indices.containsKey(enemy) ? indices.get(enemy) : register(enemy);
+        if (enemy.isAlive() && !dead.get(index) && !active.get(index) && !parked.get(index)) {
+            sleeping.clear(index);
+            // Woken during the move of the player, so it acts in the coming enemy phase
+            schedule(index, turn * TICKS_PER_TURN);
+        }
+    }
+
+    @Override
+    public void evict(final Enemy enemy) {
+        final Integer index = indices.get(enemy);
+        if (index != null && !dead.get(index)) {
+            active.clear(index);
+            parked.clear(index);
+            sleeping.clear(index);
+            dead.set(index);
+        }
+    }
+
+    @Override
+    public int getActiveCount() {
+        return active.cardinality();
+    }
+
+    @Override
+    public int getParkedCount() {
+        return parked.cardinality();
+    }
+
+    @Override
+    public int getSleepingCount() {
+        return sleeping.cardinality();
+    }
+
+    @Override
+    public int getDeadCount() {
+        return dead.cardinality();
+    }
+
+    private int register(final Enemy enemy) {
+        Objects.requireNonNull(enemy, "enemy cannot be null");
+        final int index = roster.size();
+        roster.add(enemy);
+        indices.put(enemy, index);
+        if (index == nextAction.length) {
+            nextAction = Arrays.copyOf(nextAction, index * 2);
+            heap = Arrays.copyOf(heap, index * 2);
+        }
+        return index;
+    }
+
+    /**
+     * Activates an enemy so it acts from the first tick of the current turn,
+     * or parks it if it is too far.
+     */
+    private void activateOrPark(final int index, final Position playerPosition) {
+        if (distance(roster.get(index), playerPosition) > parkDistance) {
+            park(index, playerPosition);
+        } else {
+            schedule(index, Math.max(0, turn - 1) * TICKS_PER_TURN);
+        }
+    }
+
+    private void schedule(final int index, final long tick) {
+        active.set(index);
+        nextAction[index] = tick;
+        push(index);
+    }
+
+    private static long delay(final Enemy enemy) {
+        return Math.max(1, (long) TICKS_PER_TURN * Enemy.NORMAL_SPEED / enemy.getSpeed());
+    }
+
+    private boolean before(final int a, final int b) {
+        return nextAction[a] < nextAction[b] || nextAction[a] == nextAction[b] && a < b;
+    }
+
+    private void push(final int index) {
+        int child = heapSize;
+        heapSize++;
+        while (child > 0) {
+            final int parent = (child - 1) / 2;
+            if (!before(index, heap[parent])) {
+                break;
+            }
+            heap[child] = heap[parent];
+            child = parent;
+        }
+        heap[child] = index;
+    }
+
+    private int pop() {
+        final int top = heap[0];
+        heapSize--;
+        final int last = heap[heapSize];
+        int parent = 0;
+        while (2 * parent + 1 < heapSize) {
+            int child = 2 * parent + 1;
+            if (child + 1 < heapSize && before(heap[child + 1], heap[child])) {
+                child++;
+            }
+            if (!before(heap[child], last)) {
+                break;
+            }
+            heap[parent] = heap[child];
+            parent = child;
+        }
+        heap[parent] = last;
+        return top;
+    }
+
+    private void park(final int index, final Position playerPosition) {
+        parked.set(index);
+        final long due = turn + distance(roster.get(index), playerPosition) - parkDistance;
+        rechecks.add(due << INDEX_BITS | index);
+    }
+
+    private static int distance(final Enemy enemy, final Position playerPosition) {
+        final Position position = enemy.getPosition();
+        return Math.max(Math.abs(position.x() - playerPosition.x()), Math.abs(position.y() - playerPosition.y()));
+    }
+}
@@ -1,11 +1,17 @@
 package it.unibo.jrogue.controller;
 
+import java.io.IOException;
 import java.util.Map;
+import java.util.Optional;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import it.unibo.jrogue.boundary.DungeonRenderer;
 import it.unibo.jrogue.commons.Move;
+import it.unibo.jrogue.engine.AutosaveService;
 import it.unibo.jrogue.engine.BaseController;
+import it.unibo.jrogue.engine.SaveManager;
+import it.unibo.jrogue.engine.TurnJournal;
+import it.unibo.jrogue.engine.TurnRecorder;
 import it.unibo.jrogue.entity.entities.api.Player;
 import javafx.scene.image.Image;
 import javafx.scene.input.KeyCode;
@@ -19,7 +25,9 @@ public final class GameController implements InputHandler {
 
     private final BaseController controller;
     private final DungeonRenderer renderer;
+    private final AutosaveService autosave = new AutosaveService(SaveManager.getDefaultSavePath());
     private DungeonController dungeonController;
+    private Optional<TurnJournal> journal = Optional.empty();
 
     /**
      * Initialize the controller with a new dungeon renderer.
@@ -41,9 +49,18 @@ public final class GameController implements InputHandler {
     public void startNewGame() {
         final long seed = System.currentTimeMillis();
         this.dungeonController = new DungeonController(seed, renderer);
+        closeJournal();
+        try {
+            journal = Optional.of(TurnJournal.create(TurnJournal.getDefaultPath(), seed,
+                    TurnJournal.DEFAULT_CHECKPOINT_INTERVAL));
+            dungeonController.setRecorder(journal.get());
+        } catch (final IOException e) {
+            // The journal is a diagnostic aid, the game is played anyway
+            journal = Optional.empty();
+        }
         dungeonController.startNewGame();
         final InventoryController ic = (InventoryController) this.controller.getInventoryController();
-        ic.setupPlayer(getPlayer(), getGameSprites());
+        ic.setupPlayer(getPlayer(), getGameSprites(), dungeonController.getRecorder());
     }
 
     /**
@@ -52,32 +69,32 @@ public final class GameController implements InputHandler {
      * @param restored the restored dungeon controller
      */
     public void restoreGame(final DungeonController restored) {
+        // A journal replays a game from its seed, so a restored game is not recorded
+        closeJournal();
         this.dungeonController = restored;
         final InventoryController ic = (InventoryController) this.controller.getInventoryController();
-        ic.setupPlayer(getPlayer(), getGameSprites());
+        ic.setupPlayer(getPlayer(), getGameSprites(), TurnRecorder.NONE);
     }
 
     @Override
     public void handleInput(final KeyEvent event) {
         final KeyCode code = event.getCode();
         if (code == KeyCode.W) {
-            dungeonController.executeTurn(Move.UP);
-            isDead();
+            playTurn(Move.UP);
         } else if (code == KeyCode.A) {
-            dungeonController.executeTurn(Move.LEFT);
-            isDead();
+            playTurn(Move.LEFT);
         } else if (code == KeyCode.D) {
-            dungeonController.executeTurn(Move.RIGHT);
-            isDead();
+            playTurn(Move.RIGHT);
         } else if (code == KeyCode.S) {
-            dungeonController.executeTurn(Move.DOWN);
-            isDead();
+            playTurn(Move.DOWN);
         } else if (code == KeyCode.Q) {
             controller.openInventory();
         } else if (code == KeyCode.E) {
             handleStairs();
         } else if (code == KeyCode.ESCAPE) {
             controller.pauseGame();
+        } else if (code == KeyCode.F3) {
+            renderer.toggleMetricsOverlay();
         }
         if (getPlayer().hasWon()) {
             controller.victory();
@@ -94,6 +111,38 @@ public final class GameController implements InputHandler {
         return dungeonController.getPlayer();
     }
 
+    /**
+     * Saves the current game in the background.
+     */
+    public void saveGame() {
+        autosave.requestSave(dungeonController);
+    }
+
+    private void closeJournal() {
+        try {
+            if (journal.isPresent()) {
+                journal.get().close();
+            }
+        } catch (final IOException e) {
+            // The records are already in the mapped file, only the final sync failed
+        }
+        journal = Optional.empty();
+    }
+
+    private void playTurn(final Move move) {
+        dungeonController.executeTurn(move);
+        autosave.afterTurn(dungeonController);
+        reportSaveError();
+        isDead();
+    }
+
+    /**
+     * Tells the player about a save that failed in the background, from the pause menu or an autosave.
+     */
+    private void reportSaveError() {
+        autosave.takeError().ifPresent(e -> renderer.displayMessage("Salvataggio non riuscito: " + e.getMessage()));
+    }
+
     /**
      * Check if the player is dead, if it is then call the gameOver controller and GUI.
      * */
@@ -152,6 +201,8 @@ public final class GameController implements InputHandler {
                 controller.backToMainMenu();
             } else {
                 dungeonController.nextLevel();
+                autosave.afterTurn(dungeonController);
+                reportSaveError();
             }
         }
     }
@@ -3,6 +3,7 @@ package it.unibo.jrogue.controller;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Pane;
 import it.unibo.jrogue.engine.BaseController;
+import it.unibo.jrogue.engine.TurnRecorder;
 import it.unibo.jrogue.entity.entities.api.Player;
 
 import java.util.Map;
@@ -43,10 +44,12 @@ public final class InventoryController implements InputHandler {
      * @param player  the player needed.
      * 
      * @param sprites a map with all the sprites saved.
+     * 
+     * @param recorder where the actions on the inventory are recorded.
      */
-    public void setupPlayer(final Player player, final Map<String, Image> sprites) {
+    public void setupPlayer(final Player player, final Map<String, Image> sprites, final TurnRecorder recorder) {
         final SoundManager audio = new SoundManager();
-        this.manager = new InventoryManagerImpl(player, audio);
+        this.manager = new InventoryManagerImpl(player, audio, recorder);
         this.inventoryGUI = new InventoryGUI(manager, sprites);
 
         this.selectedRow = 0;
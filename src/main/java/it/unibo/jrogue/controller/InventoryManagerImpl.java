@@ -2,8 +2,9 @@ package it.unibo.jrogue.controller;
 
 import java.util.Optional;
 
-import it.unibo.jrogue.boundary.SoundManager;
+import it.unibo.jrogue.boundary.api.SoundSystem;
 import it.unibo.jrogue.controller.api.InventoryManager;
+import it.unibo.jrogue.engine.TurnRecorder;
 import it.unibo.jrogue.entity.entities.api.Player;
 import it.unibo.jrogue.entity.items.api.Consumable;
 import it.unibo.jrogue.entity.items.api.Equipment;
@@ -15,7 +16,8 @@ import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
  */
 public class InventoryManagerImpl implements InventoryManager {
     private final Player player;
-    private final SoundManager soundManager;
+    private final SoundSystem soundManager;
+    private final TurnRecorder recorder;
 
     /**
      * Costructor.
@@ -28,9 +30,27 @@ public class InventoryManagerImpl implements InventoryManager {
         value = "EI_EXPOSE_REP2", 
         justification = "The manager must hold a reference to the live Player entity to modify its state."
     )
-    public InventoryManagerImpl(final Player player, final SoundManager soundManager) {
+    public InventoryManagerImpl(final Player player, final SoundSystem soundManager) {
+        this(player, soundManager, TurnRecorder.NONE);
+    }
+
+    /**
+     * Costructor that records every action on the inventory.
+     *
+     * @param player the player.
+     *
+     * @param soundManager the manager for the sounds.
+     *
+     * @param recorder where the actions are recorded.
+     */
+    @SuppressFBWarnings(
+        value = "EI_EXPOSE_REP2",
+        justification = "The manager must hold a reference to the live Player entity to modify its state."
+    )
+    public InventoryManagerImpl(final Player player, final SoundSystem soundManager, final TurnRecorder recorder) {
         this.player = player;
         this.soundManager = soundManager;
+        this.recorder = recorder;
     }
 
     /**
@@ -41,19 +61,20 @@ public class InventoryManagerImpl implements InventoryManager {
         final Optional<Item> result = player.getInventory().getItem(index);
 
         if (result.isPresent()) {
+            recorder.recordUse(index);
             final Item item = result.get();
             if (item instanceof Equipment equipment) {
                 if (player.isEquipped(equipment)) {
                     equipment.unequip(player);
                 } else {
                     equipment.equip(player);
-                    soundManager.play(SoundManager.Sound.EQUIP);
+                    soundManager.play(SoundSystem.Sound.EQUIP);
                 }
             }
             if (item instanceof Consumable consumable) {
                 final boolean isConsumed = consumable.consume(player);
                 if (isConsumed) {
-                    soundManager.play(SoundManager.Sound.DRINK);
+                    soundManager.play(SoundSystem.Sound.DRINK);
                     player.getInventory().removeItem(index);
                 }
 
@@ -98,6 +119,7 @@ public class InventoryManagerImpl implements InventoryManager {
         final Optional<Item> result = player.getInventory().getItem(index);
 
         if (result.isPresent()) {
+            recorder.recordDrop(index);
             final Item item = result.get();
 
             if (item instanceof Equipment && isEquipped(index)) {
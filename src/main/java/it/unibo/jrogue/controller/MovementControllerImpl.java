@@ -3,12 +3,13 @@ package it.unibo.jrogue.controller;
 import java.util.Objects;
 import java.util.Optional;
 
-import it.unibo.jrogue.boundary.SoundManager;
+import it.unibo.jrogue.boundary.api.SoundSystem;
 import it.unibo.jrogue.boundary.api.GameViewRenderer;
 import it.unibo.jrogue.commons.Move;
 import it.unibo.jrogue.commons.Position;
 import it.unibo.jrogue.controller.api.MovementController;
 import it.unibo.jrogue.controller.api.CombatController;
+import it.unibo.jrogue.controller.api.EnemyScheduler;
 import it.unibo.jrogue.entity.entities.api.Enemy;
 import it.unibo.jrogue.entity.entities.api.Entity;
 import it.unibo.jrogue.entity.entities.api.Player;
@@ -31,7 +32,9 @@ public class MovementControllerImpl implements MovementController {
     private final GameViewRenderer renderer;
     private final GameMap gameMap;
     private final Player player;
-    private final SoundManager soundManager;
+    private final SoundSystem soundManager;
+    private final EnemyScheduler enemies;
+    private int kills;
 
     /**
      * Constructs a MovementController with a GameMap containing all game state.
@@ -50,7 +53,32 @@ public class MovementControllerImpl implements MovementController {
      * @throws IllegalStateException if gameMap has no player set.
      */
     public MovementControllerImpl(final GameMap gameMap, final GameViewRenderer renderer,
-            final SoundManager soundManager) {
+            final SoundSystem soundManager) {
+        this(gameMap, renderer, soundManager, EnemySchedulerImpl.DEFAULT_PARK_DISTANCE);
+    }
+
+    /**
+     * Constructs a MovementController that parks the enemies farther than the given
+     * distance from the player.
+     *
+     * @param gameMap      The game map containing player, enemies, items, and
+     *                     terrain.
+     * 
+     * @param renderer     The DungeonRenderer to render resources.
+     * 
+     * @param soundManager the manager for the sounds.
+     * 
+     * @param parkDistance the distance beyond which awake enemies stop acting until
+     *                     the player comes closer.
+     * 
+     * @throws NullPointerException  if gameMap is null.
+     * 
+     * @throws NullPointerException  if renderer is null.
+     * 
+     * @throws IllegalStateException if gameMap has no player set.
+     */
+    public MovementControllerImpl(final GameMap gameMap, final GameViewRenderer renderer,
+            final SoundSystem soundManager, final int parkDistance) {
         this.gameMap = Objects.requireNonNull(gameMap, "gameMap cannot be null");
         this.renderer = Objects.requireNonNull(renderer, "renderer cannot be null");
         if (gameMap.getPlayer().isEmpty()) {
@@ -58,6 +86,7 @@ public class MovementControllerImpl implements MovementController {
         }
         this.player = gameMap.getPlayer().get();
         this.soundManager = soundManager;
+        this.enemies = new EnemySchedulerImpl(gameMap.getEnemies(), player.getPosition(), parkDistance);
     }
 
     /**
@@ -69,15 +98,13 @@ public class MovementControllerImpl implements MovementController {
             player.doMove(move);
 
             // Trigger trap if present at the moved position
-            gameMap.getTrapAt(player.getPosition())
+            gameMap.triggerTrapAt(player.getPosition())
                     .ifPresent(trap -> {
                         if (trap instanceof it.unibo.jrogue.entity.world.impl.RockTrap) {
                             player.damage(ROCK_TRAP_DAMAGE);
-                            trap.trigger();
                             renderer.displayMessage(trap.getDescription());
                         } else if (trap instanceof it.unibo.jrogue.entity.world.impl.PitOfSpikesTrap) {
                             player.damage(SPIKE_TRAP_DAMAGE);
-                            trap.trigger();
                             renderer.displayMessage(trap.getDescription());
                         }
                     });
@@ -90,7 +117,7 @@ public class MovementControllerImpl implements MovementController {
                             pickedUp = true;
                         } else if (item instanceof Gold gold) {
                             player.collectGold(gold.getAmount());
-                            soundManager.play(SoundManager.Sound.GOLD);
+                            soundManager.play(SoundSystem.Sound.GOLD);
                             pickedUp = true;
 
                         } else {
@@ -115,11 +142,12 @@ public class MovementControllerImpl implements MovementController {
                     renderer.displayMessage("Hai mancato il nemico");
                 } else {
                     renderer.displayMessage("Hai colpito il nemico causandogli " + damage + " di danno");
-                    soundManager.play(SoundManager.Sound.ATTACK);
+                    soundManager.play(SoundSystem.Sound.ATTACK);
                 }
                 // If the enemy was sleeping, the enemy wake ups
                 if (target.get().isSleeping()) {
                     target.get().wakeUp();
+                    enemies.wake(target.get());
                 }
                 // If player killed the enemy, collect his drop and xp.
                 if (!target.get().isAlive()) {
@@ -134,30 +162,40 @@ public class MovementControllerImpl implements MovementController {
                         message = message + " e ti ha lasciato: " + drop.get().getDescription();
                     }
                     player.collectXP(target.get().getXpDrop());
+                    gameMap.removeEntity(target.get());
+                    enemies.evict(target.get());
+                    kills++;
                     renderer.displayMessage(message);
                 }
             }
         }
 
-        // Move all awake enemies
-        gameMap.getEnemies().stream()
-                .filter(e -> e.isAlive() && !e.isSleeping())
-                .forEach(e -> {
-                    final Move eMove = e.getNextMove(player.getPosition());
-                    if (isValidMove(e, eMove)) {
-                        e.doMove(eMove);
+        // Move the awake enemies close enough to matter
+        enemies.runTurn(player.getPosition(), e -> {
+            final Move eMove = e.getNextMove(gameMap, player.getPosition());
+            if (isValidMove(e, eMove)) {
+                gameMap.moveEntity(e, eMove);
+            } else {
+                final Position position = eMove.applyToPosition(e.getPosition());
+                if (isOccupiedByPlayer(position) && player.isAlive()) {
+                    final int damage = combatController.attack(e, player);
+                    if (damage <= 0) {
+                        renderer.displayMessage("Il nemico ti ha mancato");
                     } else {
-                        final Position position = eMove.applyToPosition(e.getPosition());
-                        if (isOccupiedByPlayer(position) && player.isAlive()) {
-                            final int damage = combatController.attack(e, player);
-                            if (damage <= 0) {
-                                renderer.displayMessage("Il nemico ti ha mancato");
-                            } else {
-                                renderer.displayMessage("Il nemico ti ha colpito causandoti " + damage + " di danno");
-                            }
-                        }
+                        renderer.displayMessage("Il nemico ti ha colpito causandoti " + damage + " di danno");
                     }
-                });
+                }
+            }
+        });
+    }
+
+    /**
+     * Returns how many enemies the player has killed through this controller.
+     *
+     * @return the number of kills
+     */
+    public int getKills() {
+        return kills;
     }
 
     /**
@@ -173,7 +211,7 @@ public class MovementControllerImpl implements MovementController {
             return true;
         }
         final Position position = move.applyToPosition(entity.getPosition());
-        return !isOccupiedByEntity(position) && gameMap.isWalkable(position);
+        return gameMap.isWalkable(position.x(), position.y()) && !isOccupiedByEntity(position);
     }
 
     /**
@@ -203,9 +241,7 @@ public class MovementControllerImpl implements MovementController {
      * @return true if an enemy is present at the position, false otherwise.
      */
     private boolean isOccupiedByEnemy(final Position position) {
-        return gameMap.getEnemies().stream()
-                .filter(Enemy::isAlive)
-                .anyMatch(e -> e.getPosition().equals(position));
+        return gameMap.isOccupied(position.x(), position.y());
     }
 
     /**
@@ -218,9 +254,8 @@ public class MovementControllerImpl implements MovementController {
      */
     private Optional<Enemy> getOccupiedByEnemy(final Entity entity, final Move move) {
         final Position position = move.applyToPosition(entity.getPosition());
-        return gameMap.getEnemies().stream()
-                .filter(Enemy::isAlive)
-                .filter(e -> e.getPosition().equals(position))
-                .findAny();
+        return gameMap.getEntityAt(position)
+                .filter(e -> e instanceof Enemy && e.isAlive())
+                .map(e -> (Enemy) e);
     }
 }
@@ -0,0 +1,72 @@
+package it.unibo.jrogue.controller.api;
+
+import java.util.function.Consumer;
+
+import it.unibo.jrogue.commons.Position;
+import it.unibo.jrogue.entity.entities.api.Enemy;
+
+/**
+ * Decides which enemies act in a turn, so the cost of a turn follows the enemies that
+ * matter rather than every enemy ever spawned on the level.
+ *
+ * <p>
+ * Enemies are split in three sets: active ones act every turn, sleeping ones wait for
+ * a {@link #wake wake event}, and dead ones are evicted for good. Active enemies too far
+ * from the player to notice it are parked until the player could have come close enough.
+ * </p>
+ */
+public interface EnemyScheduler {
+
+    /**
+     * Runs the enemy phase of a turn, giving each enemy due to act to the action in the
+     * order of their actions. Depending on its {@link Enemy#getSpeed() speed}, an enemy may
+     * act several times or not at all; enemies acting at the same time keep the order they
+     * were added to the map.
+     *
+     * @param playerPosition the position of the player after its move
+     * @param action         what an enemy does in its turn
+     */
+    void runTurn(Position playerPosition, Consumer<Enemy> action);
+
+    /**
+     * Notifies that an enemy woke up, so it starts acting.
+     *
+     * @param enemy the enemy
+     */
+    void wake(Enemy enemy);
+
+    /**
+     * Notifies that an enemy died or left the map, so it never acts again.
+     *
+     * @param enemy the enemy
+     */
+    void evict(Enemy enemy);
+
+    /**
+     * Returns how many enemies act every turn.
+     *
+     * @return the number of active enemies
+     */
+    int getActiveCount();
+
+    /**
+     * Returns how many awake enemies are parked far from the player.
+     *
+     * @return the number of parked enemies
+     */
+    int getParkedCount();
+
+    /**
+     * Returns how many enemies are waiting to be woken up.
+     *
+     * @return the number of sleeping enemies
+     */
+    int getSleepingCount();
+
+    /**
+     * Returns how many enemies were evicted.
+     *
+     * @return the number of dead enemies
+     */
+    int getDeadCount();
+}
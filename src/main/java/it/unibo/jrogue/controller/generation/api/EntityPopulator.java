@@ -1,5 +1,7 @@
 package it.unibo.jrogue.controller.generation.api;
 
+import java.util.random.RandomGenerator;
+
 import it.unibo.jrogue.entity.world.api.GameMap;
 
 /**
@@ -18,6 +20,17 @@ public interface EntityPopulator {
      */
     void populate(GameMap map, int levelNumber, SpawnConfig config);
 
+    /**
+     * Populates the entire map drawing every roll from the given generator.
+     * The created enemies keep the generator for their own rolls during the game.
+     *
+     * @param map the game map to populate
+     * @param levelNumber current dungeon level (affects spawns)
+     * @param config spawn configuration
+     * @param random the generator to draw from
+     */
+    void populate(GameMap map, int levelNumber, SpawnConfig config, RandomGenerator random);
+
     /**
      * Sets the random seed for reproducible spawning.
      * (This can be used for debug but by default this.random will be Dice.getRandom())
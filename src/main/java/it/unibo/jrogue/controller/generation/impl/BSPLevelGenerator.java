@@ -4,7 +4,6 @@ import it.unibo.jrogue.commons.Position;
 import it.unibo.jrogue.controller.generation.api.BSPNode;
 import it.unibo.jrogue.controller.generation.api.GenerationConfig;
 import it.unibo.jrogue.controller.generation.api.LevelGenerator;
-import it.unibo.jrogue.entity.GameRandom;
 import it.unibo.jrogue.entity.world.api.Hallway;
 import it.unibo.jrogue.entity.world.api.Level;
 import it.unibo.jrogue.entity.world.api.Room;
@@ -13,8 +12,11 @@ import it.unibo.jrogue.entity.world.impl.SimpleGameMap;
 import it.unibo.jrogue.entity.world.impl.SimpleHallway;
 import it.unibo.jrogue.entity.world.impl.SimpleLevel;
 import it.unibo.jrogue.entity.world.impl.SimpleRoom;
+import it.unibo.jrogue.entity.world.impl.TileGrid;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
+import java.util.random.RandomGenerator;
 
 /**
  * BSP-based dungeon level generator.
@@ -27,17 +29,28 @@ public final class BSPLevelGenerator implements LevelGenerator {
     private static final double SPLIT_RATIO_MAX = 0.65;
     private static final double ASPECT_RATIO_THRESHOLD = 1.25;
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The structure is always seeded from {@link GenerationConfig#seed()},
+     * so this generator keeps no seed of its own.
+     * </p>
+     */
     @Override
     public void setSeed(final long seed) {
-        GameRandom.setSeed(seed);
+        // Nothing to store: every call to generate is seeded by its configuration
     }
 
     @Override
     public Level generate(final GenerationConfig config) {
-        GameRandom.setSeed(config.seed());
+        // A generator local to this call keeps generation safe on any thread,
+        // and java.util.Random keeps the terrain of existing saves unchanged
+        final RandomGenerator random = new Random(config.seed());
 
         // Step 1: Create the BSP tree
         final BSPNodeImpl root = createBSPTree(
+            random,
             new Position(1, 1),
             config.mapWidth() - 2,
             config.mapHeight() - 2,
@@ -47,20 +60,20 @@ public final class BSPLevelGenerator implements LevelGenerator {
         );
 
         // Step 2: Place rooms in leaf nodes
-        final List<Room> rooms = placeRooms(root, config);
+        final List<Room> rooms = placeRooms(random, root, config);
 
         // Step 3: Connect rooms with hallways
-        final List<Hallway> hallways = connectRooms(root);
+        final List<Hallway> hallways = connectRooms(random, root);
 
         // Step 4: Create the tile grid
-        final Tile[][] tiles = createTileGrid(config, rooms, hallways);
+        final TileGrid tiles = createTileGrid(config, rooms, hallways);
 
         // Step 5: Place stairs and get startPos
         final Position startPos = rooms.get(0).getCenter();
         Position stairsPos = null;
         if (rooms.size() > 1) {
             stairsPos = rooms.get(rooms.size() - 1).getCenter();
-            tiles[stairsPos.y()][stairsPos.x()] = Tile.STAIRS_UP;
+            tiles.setTileAt(stairsPos.x(), stairsPos.y(), Tile.STAIRS_UP);
         }
 
         // Step 6: Create and return the level
@@ -70,6 +83,7 @@ public final class BSPLevelGenerator implements LevelGenerator {
     }
 
     private BSPNodeImpl createBSPTree(
+            final RandomGenerator random,
             final Position topLeft,
             final int width,
             final int height,
@@ -98,20 +112,21 @@ public final class BSPLevelGenerator implements LevelGenerator {
             } else if ((double) height / width >= ASPECT_RATIO_THRESHOLD) {
                 horizontal = true;
             } else {
-                horizontal = GameRandom.nextBoolean();
+                horizontal = random.nextBoolean();
             }
         } else {
             horizontal = canSplitHorizontal;
         }
 
         if (horizontal) {
-            return splitHorizontally(topLeft, width, height, depth, maxDepth, minSize);
+            return splitHorizontally(random, topLeft, width, height, depth, maxDepth, minSize);
         } else {
-            return splitVertically(topLeft, width, height, depth, maxDepth, minSize);
+            return splitVertically(random, topLeft, width, height, depth, maxDepth, minSize);
         }
     }
 
     private BSPNodeImpl splitHorizontally(
+            final RandomGenerator random,
             final Position topLeft,
             final int width,
             final int height,
@@ -120,13 +135,14 @@ public final class BSPLevelGenerator implements LevelGenerator {
             final int minSize) {
 
         final int splitRange = (int) ((SPLIT_RATIO_MAX - SPLIT_RATIO_MIN) * height);
-        final int splitOffset = (int) (SPLIT_RATIO_MIN * height) + (splitRange > 0 ? GameRandom.nextInt(splitRange) : 0);
+        final int splitOffset = (int) (SPLIT_RATIO_MIN * height) + (splitRange > 0 ? random.nextInt(splitRange) : 0);
         final int splitY = Math.max(minSize, Math.min(height - minSize, splitOffset));
 
         final BSPNodeImpl left = createBSPTree(
-            topLeft, width, splitY, depth + 1, maxDepth, minSize
+            random, topLeft, width, splitY, depth + 1, maxDepth, minSize
         );
         final BSPNodeImpl right = createBSPTree(
+            random,
             new Position(topLeft.x(), topLeft.y() + splitY),
             width, height - splitY, depth + 1, maxDepth, minSize
         );
@@ -135,6 +151,7 @@ public final class BSPLevelGenerator implements LevelGenerator {
     }
 
     private BSPNodeImpl splitVertically(
+            final RandomGenerator random,
             final Position topLeft,
             final int width,
             final int height,
@@ -143,13 +160,14 @@ public final class BSPLevelGenerator implements LevelGenerator {
             final int minSize) {
 
         final int splitRange = (int) ((SPLIT_RATIO_MAX - SPLIT_RATIO_MIN) * width);
-        final int splitOffset = (int) (SPLIT_RATIO_MIN * width) + (splitRange > 0 ? GameRandom.nextInt(splitRange) : 0);
+        final int splitOffset = (int) (SPLIT_RATIO_MIN * width) + (splitRange > 0 ? random.nextInt(splitRange) : 0);
         final int splitX = Math.max(minSize, Math.min(width - minSize, splitOffset));
 
         final BSPNodeImpl left = createBSPTree(
-            topLeft, splitX, height, depth + 1, maxDepth, minSize
+            random, topLeft, splitX, height, depth + 1, maxDepth, minSize
         );
         final BSPNodeImpl right = createBSPTree(
+            random,
             new Position(topLeft.x() + splitX, topLeft.y()),
             width - splitX, height, depth + 1, maxDepth, minSize
         );
@@ -157,34 +175,36 @@ public final class BSPLevelGenerator implements LevelGenerator {
         return new BSPNodeImpl(topLeft, width, height, left, right, false);
     }
 
-    private List<Room> placeRooms(final BSPNodeImpl root, final GenerationConfig config) {
+    private List<Room> placeRooms(final RandomGenerator random, final BSPNodeImpl root, final GenerationConfig config) {
         final List<Room> rooms = new ArrayList<>();
-        collectRoomsFromLeaves(root, rooms, config);
+        collectRoomsFromLeaves(random, root, rooms, config);
         return rooms;
     }
 
     private void collectRoomsFromLeaves(
+            final RandomGenerator random,
             final BSPNodeImpl node,
             final List<Room> rooms,
             final GenerationConfig config) {
 
         if (node.isLeaf()) {
-            final Room room = createRoomInPartition(node, config);
+            final Room room = createRoomInPartition(random, node, config);
             if (room != null) {
                 node.setRoom(room);
                 rooms.add(room);
             }
         } else {
             node.getLeftChild().ifPresent(child ->
-                collectRoomsFromLeaves((BSPNodeImpl) child, rooms, config)
+                collectRoomsFromLeaves(random, (BSPNodeImpl) child, rooms, config)
             );
             node.getRightChild().ifPresent(child ->
-                collectRoomsFromLeaves((BSPNodeImpl) child, rooms, config)
+                collectRoomsFromLeaves(random, (BSPNodeImpl) child, rooms, config)
             );
         }
     }
 
-    private Room createRoomInPartition(final BSPNode node, final GenerationConfig config) {
+    private Room createRoomInPartition(final RandomGenerator random, final BSPNode node,
+            final GenerationConfig config) {
         final int padding = (int) (Math.min(node.getWidth(), node.getHeight()) * ROOM_PADDING);
         final int availableWidth = node.getWidth() - padding * 2;
         final int availableHeight = node.getHeight() - padding * 2;
@@ -198,11 +218,11 @@ public final class BSPLevelGenerator implements LevelGenerator {
         final int minW = config.minRoomSize();
         final int minH = config.minRoomSize();
 
-        final int roomW = minW + (maxW > minW ? GameRandom.nextInt(maxW - minW + 1) : 0);
-        final int roomH = minH + (maxH > minH ? GameRandom.nextInt(maxH - minH + 1) : 0);
+        final int roomW = minW + (maxW > minW ? random.nextInt(maxW - minW + 1) : 0);
+        final int roomH = minH + (maxH > minH ? random.nextInt(maxH - minH + 1) : 0);
 
-        final int offsetX = padding + (availableWidth > roomW ? GameRandom.nextInt(availableWidth - roomW + 1) : 0);
-        final int offsetY = padding + (availableHeight > roomH ? GameRandom.nextInt(availableHeight - roomH + 1) : 0);
+        final int offsetX = padding + (availableWidth > roomW ? random.nextInt(availableWidth - roomW + 1) : 0);
+        final int offsetY = padding + (availableHeight > roomH ? random.nextInt(availableHeight - roomH + 1) : 0);
 
         final Position roomTopLeft = new Position(
             node.getTopLeft().x() + offsetX,
@@ -212,14 +232,14 @@ public final class BSPLevelGenerator implements LevelGenerator {
         return new SimpleRoom(roomTopLeft, roomW, roomH);
     }
 
-    private List<Hallway> connectRooms(final BSPNode root) {
+    private List<Hallway> connectRooms(final RandomGenerator random, final BSPNode root) {
         final List<Hallway> hallways = new ArrayList<>();
         // 
-        connectNode(root, hallways);
+        connectNode(random, root, hallways);
         return hallways;
     }
 
-    private Room connectNode(final BSPNode node, final List<Hallway> hallways) {
+    private Room connectNode(final RandomGenerator random, final BSPNode node, final List<Hallway> hallways) {
         if (node.isLeaf()) {
             return node.getRoom().orElse(null);
         }
@@ -229,10 +249,10 @@ public final class BSPLevelGenerator implements LevelGenerator {
         Room rightRoom = null;
 
         if (node.getLeftChild().isPresent()) {
-            leftRoom = connectNode(node.getLeftChild().get(), hallways);
+            leftRoom = connectNode(random, node.getLeftChild().get(), hallways);
         }
         if (node.getRightChild().isPresent()) {
-            rightRoom = connectNode(node.getRightChild().get(), hallways);
+            rightRoom = connectNode(random, node.getRightChild().get(), hallways);
         }
 
         // Connect left subtree to right subtree using closest room pair each time
@@ -244,7 +264,7 @@ public final class BSPLevelGenerator implements LevelGenerator {
             if (!leftRooms.isEmpty() && !rightRooms.isEmpty()) {
                 final Room closest0 = findClosestLeft(leftRooms, rightRooms);
                 final Room closest1 = findClosestRight(leftRooms, rightRooms);
-                hallways.add(createHallway(closest0, closest1));
+                hallways.add(createHallway(random, closest0, closest1));
                 return closest0;
             }
         }
@@ -297,13 +317,13 @@ public final class BSPLevelGenerator implements LevelGenerator {
         return Math.abs(a.x() - b.x()) + Math.abs(a.y() - b.y());
     }
 
-    private Hallway createHallway(final Room room1, final Room room2) {
+    private Hallway createHallway(final RandomGenerator random, final Room room1, final Room room2) {
         final Position center1 = room1.getCenter();
         final Position center2 = room2.getCenter();
         final List<Position> path = new ArrayList<>();
 
         // Create L-shaped corridor
-        if (GameRandom.nextBoolean()) {
+        if (random.nextBoolean()) {
             // Horizontal
             carveHorizontalLine(path, center1.y(), center1.x(), center2.x());
             if (center1.y() != center2.y()) {
@@ -341,27 +361,19 @@ public final class BSPLevelGenerator implements LevelGenerator {
         }
     }
 
-    private Tile[][] createTileGrid(
+    private TileGrid createTileGrid(
             final GenerationConfig config,
             final List<Room> rooms,
             final List<Hallway> hallways) {
 
-        final Tile[][] tiles = new Tile[config.mapHeight()][config.mapWidth()];
-
         // Fill with walls
-        for (int y = 0; y < config.mapHeight(); y++) {
-            for (int x = 0; x < config.mapWidth(); x++) {
-                tiles[y][x] = Tile.WALL;
-            }
-        }
+        final TileGrid tiles = new TileGrid(config.mapWidth(), config.mapHeight(), Tile.WALL);
 
         // Carve out rooms
         for (final Room room : rooms) {
             for (int y = room.getTopLeft().y(); y < room.getTopLeft().y() + room.getHeight(); y++) {
                 for (int x = room.getTopLeft().x(); x < room.getTopLeft().x() + room.getWidth(); x++) {
-                    if (isInBounds(x, y, config)) {
-                        tiles[y][x] = Tile.FLOOR;
-                    }
+                    tiles.setTileAt(x, y, Tile.FLOOR);
                 }
             }
         }
@@ -370,16 +382,12 @@ public final class BSPLevelGenerator implements LevelGenerator {
         for (final Hallway hallway : hallways) {
             for (final Position pos : hallway.getPath()) {
                 // Only change to corridor if not already floor (to avoid overwriting rooms)
-                if (isInBounds(pos.x(), pos.y(), config) && tiles[pos.y()][pos.x()] == Tile.WALL) {
-                    tiles[pos.y()][pos.x()] = Tile.CORRIDOR;
+                if (tiles.tileAt(pos.x(), pos.y()) == Tile.WALL) {
+                    tiles.setTileAt(pos.x(), pos.y(), Tile.CORRIDOR);
                 }
             }
         }
 
         return tiles;
     }
-
-    private boolean isInBounds(final int x, final int y, final GenerationConfig config) {
-        return x >= 0 && x < config.mapWidth() && y >= 0 && y < config.mapHeight();
-    }
 }
@@ -4,6 +4,7 @@ import it.unibo.jrogue.commons.Position;
 import it.unibo.jrogue.controller.generation.api.EntityPopulator;
 import it.unibo.jrogue.controller.generation.api.SpawnConfig;
 import it.unibo.jrogue.entity.GameRandom;
+import it.unibo.jrogue.entity.RandomContext;
 import it.unibo.jrogue.entity.entities.api.Enemy;
 import it.unibo.jrogue.entity.entities.impl.enemies.factory.EnemyFactory;
 import it.unibo.jrogue.entity.entities.impl.enemies.factory.EnemyFactoryImpl;
@@ -18,8 +19,10 @@ import it.unibo.jrogue.entity.world.api.TrapFactory;
 import it.unibo.jrogue.entity.world.impl.TrapFactoryImpl;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.random.RandomGenerator;
 
 /**
  * Implementation of EntityPopulator that populates rooms with
@@ -27,193 +30,206 @@ import java.util.Optional;
  */
 public final class EntityPopulatorImpl implements EntityPopulator {
 
-    private final ItemFactory itemFactory;
-    private final EnemyFactory enemyFactory;
-    private final TrapFactory trapFactory;
+    private RandomGenerator seededRandom = GameRandom.generator();
 
-    /**
-     * Creates a new EntityPopulator.
-     */
-    public EntityPopulatorImpl() {
-        this.itemFactory = new ItemFactoryImpl();
-        this.enemyFactory = new EnemyFactoryImpl();
-        this.trapFactory = new TrapFactoryImpl();
+    @Override
+    public void populate(final GameMap map, final int levelNumber, final SpawnConfig config) {
+        populate(map, levelNumber, config, seededRandom);
     }
 
     @Override
-    public void populate(final GameMap map, final int levelNumber, final SpawnConfig config) {
+    public void populate(final GameMap map, final int levelNumber, final SpawnConfig config,
+            final RandomGenerator random) {
+        final Spawner spawner = new Spawner(random);
         final List<Room> rooms = map.getRooms();
 
         // Skip first room (player spawn)
         for (int i = 1; i < rooms.size(); i++) {
-            populateRoom(map, rooms.get(i), levelNumber, config);
+            spawner.populateRoom(map, rooms.get(i), levelNumber, config);
         }
 
         if (levelNumber == config.amuletLevel()) {
-            spawnAmulet(map, rooms);
-        }
-    }
-
-    private void spawnAmulet(final GameMap map, final List<Room> rooms) {
-        final List<Room> candidatesRooms = new ArrayList<>();
-        for (int i = 1; i < rooms.size(); i++) {
-            candidatesRooms.add(rooms.get(i));
-        }
-        java.util.Collections.shuffle(candidatesRooms);
-        for (final Room room : candidatesRooms) {
-            final List<Position> positions = getFloorPositions(map, room);
-            if (!positions.isEmpty()) {
-                final Position pos = positions.get(GameRandom.nextInt(positions.size()));
-                final Item amulet = itemFactory.createAmulet();
-                map.addItem(pos, amulet);
-                return;
-            }
+            spawner.spawnAmulet(map, rooms);
         }
     }
 
     @Override
     public void setSeed(final long seed) {
-        GameRandom.setSeed(seed);
+        this.seededRandom = new RandomContext(seed);
     }
 
     /**
-     * Populates a single room with items, enemies, and traps.
-     *
-     * @param map         the game map
-     * @param room        the room to populate
-     * @param levelNumber the dungeon level
-     * @param config      spawn configuration
+     * Spawning state of a single populate call: the generator and the factories drawing from it.
      */
-    private void populateRoom(final GameMap map, final Room room,
-            final int levelNumber, final SpawnConfig config) {
-        final List<Position> availablePositions = getFloorPositions(map, room);
-        if (availablePositions.isEmpty()) {
-            return;
+    private static final class Spawner {
+
+        private final RandomGenerator random;
+        private final ItemFactory itemFactory;
+        private final EnemyFactory enemyFactory;
+        private final TrapFactory trapFactory;
+
+        Spawner(final RandomGenerator random) {
+            this.random = random;
+            this.itemFactory = new ItemFactoryImpl(random);
+            this.enemyFactory = new EnemyFactoryImpl(random);
+            this.trapFactory = new TrapFactoryImpl(random);
         }
 
-        spawnLoot(map, availablePositions, levelNumber, config);
-        spawnTraps(map, availablePositions, levelNumber, config);
-        spawnEnemies(map, availablePositions, levelNumber, config);
-    }
-
-    /**
-     * Gets all floor positions within a room.
-     *
-     * @param map  the game map
-     * @param room the room to get floor positions from
-     * @return list of floor positions
-     */
-    private List<Position> getFloorPositions(final GameMap map, final Room room) {
-        final List<Position> positions = new ArrayList<>();
-        final Position topLeft = room.getTopLeft();
-
-        // Positions of the room (without walls)
-        for (int y = topLeft.y() + 1; y < topLeft.y() + room.getHeight() - 1; y++) {
-            for (int x = topLeft.x() + 1; x < topLeft.x() + room.getWidth() - 1; x++) {
-                final Position pos = new Position(x, y);
-                if (map.getTileAt(pos) == Tile.FLOOR) {
-                    positions.add(pos);
+        void spawnAmulet(final GameMap map, final List<Room> rooms) {
+            final List<Room> candidatesRooms = new ArrayList<>();
+            for (int i = 1; i < rooms.size(); i++) {
+                candidatesRooms.add(rooms.get(i));
+            }
+            Collections.shuffle(candidatesRooms, random);
+            for (final Room room : candidatesRooms) {
+                final List<Position> positions = getFloorPositions(map, room);
+                if (!positions.isEmpty()) {
+                    final Position pos = positions.get(random.nextInt(positions.size()));
+                    final Item amulet = itemFactory.createAmulet();
+                    map.addItem(pos, amulet);
+                    return;
                 }
             }
         }
-        return positions;
-    }
 
-    private void spawnLoot(final GameMap map, final List<Position> positions, final int level, final SpawnConfig config) {
-        int itemCount = 0;
-        while (itemCount < config.maxItemsPerRoom() && !positions.isEmpty()) {
+        /**
+         * Populates a single room with items, enemies, and traps.
+         *
+         * @param map         the game map
+         * @param room        the room to populate
+         * @param levelNumber the dungeon level
+         * @param config      spawn configuration
+         */
+        void populateRoom(final GameMap map, final Room room,
+                final int levelNumber, final SpawnConfig config) {
+            final List<Position> availablePositions = getFloorPositions(map, room);
+            if (availablePositions.isEmpty()) {
+                return;
+            }
 
-            final Optional<Item> itemOpt = itemFactory.createRandomItem(level);
-            if (itemOpt.isPresent()) {
-                final Position pos = pickRandomPosition(positions);
-                final Item item = itemOpt.get();
-                map.addItem(pos, item);
-                positions.remove(pos);
-                itemCount++;
-            } else {
-                break;
+            spawnLoot(map, availablePositions, levelNumber, config);
+            spawnTraps(map, availablePositions, levelNumber, config);
+            spawnEnemies(map, availablePositions, levelNumber, config);
+        }
+
+        /**
+         * Gets all floor positions within a room.
+         *
+         * @param map  the game map
+         * @param room the room to get floor positions from
+         * @return list of floor positions
+         */
+        private List<Position> getFloorPositions(final GameMap map, final Room room) {
+            final List<Position> positions = new ArrayList<>();
+            final Position topLeft = room.getTopLeft();
+
+            // Positions of the room (without walls)
+            for (int y = topLeft.y() + 1; y < topLeft.y() + room.getHeight() - 1; y++) {
+                for (int x = topLeft.x() + 1; x < topLeft.x() + room.getWidth() - 1; x++) {
+                    if (map.getTileAt(x, y) == Tile.FLOOR) {
+                        positions.add(new Position(x, y));
+                    }
+                }
             }
+            return positions;
         }
-    }
 
-    /**
-     * Spawns traps based on level requirements.
-     *
-     * @param map         the game map
-     * @param positions   available positions for spawning
-     * @param levelNumber the dungeon level
-     * @param config      spawn configuration
-     */
-    private void spawnTraps(final GameMap map, final List<Position> positions,
-                            final int levelNumber, final SpawnConfig config) {
-        if (!rollChance(config.trapRate()) || positions.isEmpty()) {
-            return;
+        private void spawnLoot(final GameMap map, final List<Position> positions, final int level, final SpawnConfig config) {
+            int itemCount = 0;
+            while (itemCount < config.maxItemsPerRoom() && !positions.isEmpty()) {
+
+                final Optional<Item> itemOpt = itemFactory.createRandomItem(level);
+                if (itemOpt.isPresent()) {
+                    final Position pos = pickRandomPosition(positions);
+                    final Item item = itemOpt.get();
+                    map.addItem(pos, item);
+                    positions.remove(pos);
+                    itemCount++;
+                } else {
+                    break;
+                }
+            }
         }
-        final Position pos = pickRandomPosition(positions);
-        final Optional<Trap> trapOpt = trapFactory.createRandomTrap(pos, levelNumber);
-        trapOpt.ifPresent(trap -> {
-            map.addTrap(pos, trap);
-            map.setTileAt(pos, Tile.TRAP);
-        });
-    }
 
-    /**
-     * Spawns enemies using weighted selection based on level.
-     *
-     * @param map         the game map
-     * @param positions   available positions for spawning
-     * @param levelNumber the dungeon level
-     * @param config      spawn configuration
-     */
-    private void spawnEnemies(final GameMap map, final List<Position> positions,
-            final int levelNumber, final SpawnConfig config) {
-        int enemyCount = 0;
+        /**
+         * Spawns traps based on level requirements.
+         *
+         * @param map         the game map
+         * @param positions   available positions for spawning
+         * @param levelNumber the dungeon level
+         * @param config      spawn configuration
+         */
+        private void spawnTraps(final GameMap map, final List<Position> positions,
+                                final int levelNumber, final SpawnConfig config) {
+            if (!rollChance(config.trapRate()) || positions.isEmpty()) {
+                return;
+            }
+            final Position pos = pickRandomPosition(positions);
+            final Optional<Trap> trapOpt = trapFactory.createRandomTrap(pos, levelNumber);
+            trapOpt.ifPresent(trap -> {
+                map.addTrap(pos, trap);
+                map.setTileAt(pos, Tile.TRAP);
+            });
+        }
 
-        while (enemyCount < config.maxEnemiesPerRoom()
-                && rollChance(config.enemySpawnRate())
-                && !positions.isEmpty()) {
+        /**
+         * Spawns enemies using weighted selection based on level.
+         *
+         * @param map         the game map
+         * @param positions   available positions for spawning
+         * @param levelNumber the dungeon level
+         * @param config      spawn configuration
+         */
+        private void spawnEnemies(final GameMap map, final List<Position> positions,
+                final int levelNumber, final SpawnConfig config) {
+            int enemyCount = 0;
+
+            while (enemyCount < config.maxEnemiesPerRoom()
+                    && rollChance(config.enemySpawnRate())
+                    && !positions.isEmpty()) {
 
-            final Position pos = pickRandomPosition(positions);
-            final Enemy enemy = createWeightedEnemy(pos, levelNumber);
+                final Position pos = pickRandomPosition(positions);
+                final Enemy enemy = createWeightedEnemy(pos, levelNumber);
 
-            map.addEntity(enemy);
+                map.addEntity(enemy);
 
-            positions.remove(pos);
-            enemyCount++;
+                positions.remove(pos);
+                enemyCount++;
+            }
         }
-    }
 
-    /**
-     * Creates an enemy using weighted random selection.
-     * Stronger enemies become more likely at deeper levels.
-     *
-     * @param pos   the position for the enemy
-     * @param level the dungeon level
-     * @return the created enemy
-     */
-    private Enemy createWeightedEnemy(final Position pos, final int level) {
-        // Calculate weights for each enemy type
-        return enemyFactory.createRandomEnemy(pos, level);
-    }
+        /**
+         * Creates an enemy using weighted random selection.
+         * Stronger enemies become more likely at deeper levels.
+         *
+         * @param pos   the position for the enemy
+         * @param level the dungeon level
+         * @return the created enemy
+         */
+        private Enemy createWeightedEnemy(final Position pos, final int level) {
+            // Calculate weights for each enemy type
+            return enemyFactory.createRandomEnemy(pos, level);
+        }
 
-    /**
-     * Rolls a probability check.
-     *
-     * @param probability the probability (0.0 to 1.0)
-     * @return true if the roll succeeds
-     */
-    private boolean rollChance(final double probability) {
-        return GameRandom.nextDouble() < probability;
-    }
+        /**
+         * Rolls a probability check.
+         *
+         * @param probability the probability (0.0 to 1.0)
+         * @return true if the roll succeeds
+         */
+        private boolean rollChance(final double probability) {
+            return random.nextDouble() < probability;
+        }
 
-    /**
-     * Picks and removes a random position from the list.
-     *
-     * @param positions the list of available positions
-     * @return the selected position
-     */
-    private Position pickRandomPosition(final List<Position> positions) {
-        final int index = GameRandom.nextInt(positions.size());
-        return positions.remove(index);
+        /**
+         * Picks and removes a random position from the list.
+         *
+         * @param positions the list of available positions
+         * @return the selected position
+         */
+        private Position pickRandomPosition(final List<Position> positions) {
+            final int index = random.nextInt(positions.size());
+            return positions.remove(index);
+        }
     }
 }
@@ -0,0 +1,242 @@
+package it.unibo.jrogue.controller.generation.impl;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.IntFunction;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import it.unibo.jrogue.engine.EntityCodec;
+import it.unibo.jrogue.engine.LevelDiff;
+import it.unibo.jrogue.engine.SaveData;
+import it.unibo.jrogue.entity.RandomContext;
+import it.unibo.jrogue.entity.entities.api.Enemy;
+import it.unibo.jrogue.entity.world.api.GameMap;
+
+/**
+ * Keeps the state of the dungeon levels the player has left, so revisiting them is instant.
+ *
+ * <p>
+ * Levels stay live as long as the estimated memory use fits the budget. Past it, they are
+ * compacted in least recently used order into the {@link LevelDiff} between them and a copy
+ * generated again from their seed, plus their revealed rooms, hallways and cells: since levels
+ * are generated deterministically, that is enough to rebuild them, with every enemy under its
+ * original spawn index. Compacting costs a level generation on the calling thread, so it only
+ * happens under budget pressure; if the deltas alone still do not fit, the oldest are dropped.
+ * </p>
+ */
+public final class LevelCache {
+
+    /** Default memory budget in bytes. */
+    public static final long DEFAULT_BUDGET_BYTES = 512L * 1024L;
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int BYTES_PER_LIVE_CELL = 16;
+    private static final int BYTES_PER_ENTITY = 96;
+    private static final int BYTES_PER_ITEM = 64;
+    private static final int BYTES_PER_INDEX = 16;
+    private static final int BYTES_PER_DELTA = 128;
+
+    private final long baseSeed;
+    private final IntFunction<GameMap> regenerate;
+    private final long budgetBytes;
+    private final Map<Integer, GameMap> live = new LinkedHashMap<>(INITIAL_CAPACITY, 0.75f, true);
+    private final Map<Integer, LevelDelta> compacted = new LinkedHashMap<>(INITIAL_CAPACITY, 0.75f, true);
+    private long usedBytes;
+
+    /**
+     * Creates a cache with the default budget.
+     *
+     * @param baseSeed   the seed of the game, used to restore compacted enemies deterministically
+     * @param regenerate generates the pristine map of a level, used to compact and rebuild levels
+     */
+    public LevelCache(final long baseSeed, final IntFunction<GameMap> regenerate) {
+        this(baseSeed, regenerate, DEFAULT_BUDGET_BYTES);
+    }
+
+    /**
+     * Creates a cache.
+     *
+     * @param baseSeed    the seed of the game, used to restore compacted enemies deterministically
+     * @param regenerate  generates the pristine map of a level, used to compact and rebuild levels
+     * @param budgetBytes the estimated memory the cache may use before compacting levels
+     * @throws IllegalArgumentException if the budget is negative
+     */
+    public LevelCache(final long baseSeed, final IntFunction<GameMap> regenerate, final long budgetBytes) {
+        if (budgetBytes < 0) {
+            throw new IllegalArgumentException("Cache budget cannot be negative");
+        }
+        this.baseSeed = baseSeed;
+        this.regenerate = Objects.requireNonNull(regenerate, "regenerate cannot be null");
+        this.budgetBytes = budgetBytes;
+    }
+
+    /**
+     * Stores the map of a level the player is leaving, replacing any older copy.
+     *
+     * @param levelNumber the level number
+     * @param map         the map, which must no longer be modified by the caller
+     */
+    public void put(final int levelNumber, final GameMap map) {
+        remove(levelNumber);
+        live.put(levelNumber, map);
+        usedBytes += estimate(map);
+        trim();
+    }
+
+    /**
+     * Checks whether a level is cached, either live or compacted.
+     *
+     * @param levelNumber the level number
+     * @return true if {@link #take} would return a map
+     */
+    public boolean contains(final int levelNumber) {
+        return live.containsKey(levelNumber) || compacted.containsKey(levelNumber);
+    }
+
+    /**
+     * Removes a level from the cache and returns its map.
+     *
+     * @param levelNumber the level number
+     * @return the map with the state it had when stored, or empty if the level is not cached
+     */
+    public Optional<GameMap> take(final int levelNumber) {
+        final GameMap map = live.remove(levelNumber);
+        if (map != null) {
+            usedBytes -= estimate(map);
+            return Optional.of(map);
+        }
+        final LevelDelta delta = compacted.remove(levelNumber);
+        if (delta == null) {
+            return Optional.empty();
+        }
+        usedBytes -= delta.estimate();
+        return Optional.of(delta.applyTo(regenerate.apply(levelNumber),
+                new RandomContext(baseSeed + levelNumber).stream(RandomContext.Stream.POPULATION)));
+    }
+
+    /**
+     * Drops every cached level.
+     */
+    public void clear() {
+        live.clear();
+        compacted.clear();
+        usedBytes = 0;
+    }
+
+    /**
+     * Returns the number of live levels.
+     *
+     * @return the live level count
+     */
+    public int liveCount() {
+        return live.size();
+    }
+
+    /**
+     * Returns the number of compacted levels.
+     *
+     * @return the compacted level count
+     */
+    public int compactedCount() {
+        return compacted.size();
+    }
+
+    private void remove(final int levelNumber) {
+        final GameMap map = live.remove(levelNumber);
+        if (map != null) {
+            usedBytes -= estimate(map);
+        }
+        final LevelDelta delta = compacted.remove(levelNumber);
+        if (delta != null) {
+            usedBytes -= delta.estimate();
+        }
+    }
+
+    private void trim() {
+        while (!live.isEmpty() && usedBytes > budgetBytes) {
+            final Iterator<Map.Entry<Integer, GameMap>> eldest = live.entrySet().iterator();
+            final Map.Entry<Integer, GameMap> entry = eldest.next();
+            eldest.remove();
+            usedBytes -= estimate(entry.getValue());
+            final LevelDelta delta = LevelDelta.of(entry.getValue(), regenerate.apply(entry.getKey()));
+            compacted.put(entry.getKey(), delta);
+            usedBytes += delta.estimate();
+        }
+        final Iterator<LevelDelta> eldest = compacted.values().iterator();
+        while (usedBytes > budgetBytes && eldest.hasNext()) {
+            usedBytes -= eldest.next().estimate();
+            eldest.remove();
+        }
+    }
+
+    private static long estimate(final GameMap map) {
+        return (long) map.getWidth() * map.getHeight() * BYTES_PER_LIVE_CELL
+                + (long) map.getEntities().size() * BYTES_PER_ENTITY
+                + (long) map.getItems().size() * BYTES_PER_ITEM;
+    }
+
+    /**
+     * What changed in a level compared with its freshly generated state.
+     *
+     * @param diff             the enemies, items and traps that changed
+     * @param revealedRooms    the indices of the revealed rooms
+     * @param revealedHallways the indices of the revealed hallways
+     * @param revealedCells    the cells the player has seen, see {@link GameMap#getRevealedCells()}
+     */
+    @SuppressFBWarnings(value = {"EI_EXPOSE_REP", "EI_EXPOSE_REP2"},
+            justification = "Private record, the array is a copy taken from the map and never handed out")
+    private record LevelDelta(
+            LevelDiff diff,
+            List<Integer> revealedRooms,
+            List<Integer> revealedHallways,
+            long[] revealedCells) {
+
+        static LevelDelta of(final GameMap map, final GameMap pristine) {
+            final List<SaveData.EnemyData> enemies = new ArrayList<>();
+            for (final Enemy enemy : map.getEnemies()) {
+                if (enemy.isAlive()) {
+                    enemies.add(EntityCodec.encodeEnemy(enemy, map.getSpawnIndex(enemy).orElse(-1)));
+                }
+            }
+            final List<SaveData.ItemData> items = new ArrayList<>();
+            map.getItems().forEach((pos, item) -> items.add(EntityCodec.encodeItem(item, pos.x(), pos.y())));
+            final List<Integer> rooms = new ArrayList<>();
+            for (int i = 0; i < map.getRooms().size(); i++) {
+                if (!map.getRooms().get(i).isHidden()) {
+                    rooms.add(i);
+                }
+            }
+            final List<Integer> hallways = new ArrayList<>();
+            for (int i = 0; i < map.getHallways().size(); i++) {
+                if (!map.getHallways().get(i).isHidden()) {
+                    hallways.add(i);
+                }
+            }
+            final LevelDiff diff = LevelDiff.between(enemies, items, LevelDiff.triggeredTraps(map), pristine);
+            return new LevelDelta(diff, List.copyOf(rooms), List.copyOf(hallways), map.getRevealedCells());
+        }
+
+        long estimate() {
+            return BYTES_PER_DELTA
+                    + (long) (diff.removedEnemies().size() + diff.changedEnemies().size()
+                            + diff.addedEnemies().size()) * BYTES_PER_ENTITY
+                    + (long) (diff.pickedItems().size() + diff.droppedItems().size()) * BYTES_PER_ITEM
+                    + (long) diff.triggeredTraps().size() * BYTES_PER_INDEX
+                    + (long) (revealedRooms.size() + revealedHallways.size()) * BYTES_PER_INDEX
+                    + (long) revealedCells.length * Long.BYTES;
+        }
+
+        GameMap applyTo(final GameMap pristine, final RandomContext random) {
+            diff.applyTo(pristine, random);
+            revealedRooms.forEach(i -> pristine.getRooms().get(i).reveal());
+            revealedHallways.forEach(i -> pristine.getHallways().get(i).reveal());
+            pristine.revealCells(revealedCells);
+            return pristine;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package it.unibo.jrogue.controller.generation.impl;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import it.unibo.jrogue.controller.generation.api.GenerationConfig;
+import it.unibo.jrogue.controller.generation.api.LevelGenerator;
+import it.unibo.jrogue.entity.world.api.Level;
+
+/**
+ * Generates the next dungeon level in the background while the current one is played.
+ *
+ * <p>
+ * Level generation depends only on its configuration, so the level the player will
+ * reach next can be built ahead of time on a low priority daemon thread and handed
+ * over when needed. If the prefetched level is not the requested one, or it has not
+ * started yet, the level is generated on the calling thread instead.
+ * All the methods are meant to be called from a single thread.
+ * </p>
+ */
+public final class LevelPrefetcher {
+
+    private final LevelGenerator generator;
+    private final boolean background;
+    private Optional<GenerationConfig> pendingConfig = Optional.empty();
+    private Optional<Future<Level>> pendingLevel = Optional.empty();
+
+    /**
+     * Creates a prefetcher on top of a level generator.
+     *
+     * @param generator  the generator used to build the levels, it must be safe to call from another thread
+     * @param background true to prefetch on the background thread, false to always generate on demand
+     */
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "The generator is shared with its owner on purpose")
+    public LevelPrefetcher(final LevelGenerator generator, final boolean background) {
+        this.generator = Objects.requireNonNull(generator, "generator cannot be null");
+        this.background = background;
+    }
+
+    /**
+     * Starts building a level in the background, replacing any previous request.
+     * Does nothing when background generation is disabled.
+     *
+     * @param config the configuration of the level that will be needed next
+     */
+    public void prefetch(final GenerationConfig config) {
+        Objects.requireNonNull(config, "config cannot be null");
+        if (!background || pendingConfig.filter(config::equals).isPresent()) {
+            return;
+        }
+        cancel();
+        pendingConfig = Optional.of(config);
+        pendingLevel = Optional.of(Worker.EXECUTOR.submit(() -> generator.generate(config)));
+    }
+
+    /**
+     * Returns the level for the given configuration, using the prefetched one when possible.
+     *
+     * @param config the configuration of the level to obtain
+     * @return the generated level, never shared with other callers
+     */
+    public Level take(final GenerationConfig config) {
+        Objects.requireNonNull(config, "config cannot be null");
+        final Optional<Future<Level>> prefetched = pendingConfig.filter(config::equals).flatMap(c -> pendingLevel);
+        if (prefetched.isEmpty()) {
+            // The pending level is not the one needed, so it must not hold up the worker
+            cancel();
+        }
+        pendingConfig = Optional.empty();
+        pendingLevel = Optional.empty();
+        if (prefetched.isPresent() && !prefetched.get().cancel(false)) {
+            // Already running or done: waiting is never slower than starting over
+            final Optional<Level> level = await(prefetched.get());
+            if (level.isPresent()) {
+                return level.get();
+            }
+        }
+        return generator.generate(config);
+    }
+
+    /**
+     * Drops the pending prefetch, if any.
+     */
+    public void cancel() {
+        pendingLevel.ifPresent(future -> future.cancel(false));
+        pendingConfig = Optional.empty();
+        pendingLevel = Optional.empty();
+    }
+
+    private static Optional<Level> await(final Future<Level> future) {
+        try {
+            return Optional.of(future.get());
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Optional.empty();
+        } catch (final ExecutionException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Lazily created background thread shared by all the prefetchers.
+     */
+    private static final class Worker {
+        private static final ExecutorService EXECUTOR = Executors.newSingleThreadExecutor(task -> {
+            final Thread thread = new Thread(task, "level-prefetcher");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        });
+    }
+}
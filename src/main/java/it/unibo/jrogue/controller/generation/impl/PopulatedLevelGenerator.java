@@ -6,7 +6,8 @@ import it.unibo.jrogue.controller.generation.api.EntityPopulator;
 import it.unibo.jrogue.controller.generation.api.GenerationConfig;
 import it.unibo.jrogue.controller.generation.api.LevelGenerator;
 import it.unibo.jrogue.controller.generation.api.SpawnConfig;
-import it.unibo.jrogue.entity.GameRandom;
+import it.unibo.jrogue.engine.Metrics;
+import it.unibo.jrogue.entity.RandomContext;
 import it.unibo.jrogue.entity.world.api.Level;
 
 /**
@@ -17,6 +18,7 @@ public final class PopulatedLevelGenerator implements LevelGenerator {
     private final LevelGenerator structureGenerator;
     private final EntityPopulator entityPopulator;
     private final SpawnConfig spawnConfig;
+    private final boolean metered;
 
     /**
      * Creates a PopulatedLevelGenerator with default spawn configuration.
@@ -31,9 +33,21 @@ public final class PopulatedLevelGenerator implements LevelGenerator {
      * @param spawnConfig the spawn configuration to use
      */
     public PopulatedLevelGenerator(final SpawnConfig spawnConfig) {
+        this(spawnConfig, true);
+    }
+
+    /**
+     * Creates a PopulatedLevelGenerator with custom spawn configuration.
+     *
+     * @param spawnConfig the spawn configuration to use
+     * @param metered     false to keep the generated levels out of the {@link Metrics} probes,
+     *                    for levels generated again only to rebuild a cached one
+     */
+    public PopulatedLevelGenerator(final SpawnConfig spawnConfig, final boolean metered) {
         this.structureGenerator = new BSPLevelGenerator();
         this.entityPopulator = new EntityPopulatorImpl();
         this.spawnConfig = spawnConfig;
+        this.metered = metered;
     }
 
     /**
@@ -50,24 +64,32 @@ public final class PopulatedLevelGenerator implements LevelGenerator {
         this.structureGenerator = structureGenerator;
         this.entityPopulator = entityPopulator;
         this.spawnConfig = spawnConfig;
+        this.metered = true;
     }
 
     /**
      * Generates a fully populated dungeon level.
+     * The result depends only on the configuration, so levels can be generated on any thread.
      *
      * @param config the generation configuration
      * @return the generated and populated level
      */
     @Override
     public Level generate(final GenerationConfig config) {
-        // Seed all random sources for deterministic generation
-        GameRandom.setSeed(config.seed());
-
         // Generate dungeon structure
+        final long generateStart = Metrics.start();
         final Level level = structureGenerator.generate(config);
+        if (metered) {
+            Metrics.stop(Metrics.Probe.GENERATE, generateStart);
+        }
 
-        // Populate with entities
-        entityPopulator.populate(level.getMap(), config.levelNumber(), spawnConfig);
+        // Populate with entities from a stream owned by this level only
+        final RandomContext random = new RandomContext(config.seed()).stream(RandomContext.Stream.POPULATION);
+        final long populateStart = Metrics.start();
+        entityPopulator.populate(level.getMap(), config.levelNumber(), spawnConfig, random);
+        if (metered) {
+            Metrics.stop(Metrics.Probe.POPULATE, populateStart);
+        }
 
         return level;
     }
@@ -75,6 +97,7 @@ public final class PopulatedLevelGenerator implements LevelGenerator {
     @Override
     public void setSeed(final long seed) {
         structureGenerator.setSeed(seed);
+        entityPopulator.setSeed(seed);
     }
 
     /**
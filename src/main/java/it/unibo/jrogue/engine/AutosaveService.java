@@ -0,0 +1,155 @@
+package it.unibo.jrogue.engine;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import it.unibo.jrogue.controller.DungeonController;
+
+/**
+ * Saves the game in the background every few turns and whenever the level changes.
+ *
+ * <p>
+ * The game thread only captures a {@link SaveManager#snapshot snapshot} of the game,
+ * which is cheap and shares nothing with it. Encoding and writing happen on a low
+ * priority daemon thread through {@link SaveManager#write}, so a crash never leaves
+ * a half written save behind and the older generations stay available. When the
+ * game produces snapshots faster than the disk takes them, only the newest one is
+ * written. The notification methods are meant to be called from a single thread.
+ * </p>
+ */
+public final class AutosaveService {
+
+    /** Default number of turns between two autosaves. */
+    public static final int DEFAULT_TURN_INTERVAL = 50;
+    /** Default number of saves kept, the newest included. */
+    public static final int DEFAULT_GENERATIONS = 3;
+
+    private static final long FLUSH_TIMEOUT_SECONDS = 5;
+
+    private final Path savePath;
+    private final int turnInterval;
+    private final int generations;
+    private final AtomicReference<SaveData> pending = new AtomicReference<>();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private final AtomicReference<Optional<IOException>> lastError = new AtomicReference<>(Optional.empty());
+    private int turnsSinceSave;
+    private int lastLevel;
+
+    /**
+     * Creates an autosave service with the default interval and generations.
+     *
+     * @param savePath the file the game is saved to
+     */
+    public AutosaveService(final Path savePath) {
+        this(savePath, DEFAULT_TURN_INTERVAL, DEFAULT_GENERATIONS);
+    }
+
+    /**
+     * Creates an autosave service.
+     *
+     * @param savePath     the file the game is saved to
+     * @param turnInterval the number of turns between two autosaves, 0 to save only on level changes
+     * @param generations  how many saves to keep, the newest included
+     * @throws IllegalArgumentException if the interval is negative or generations is not positive
+     */
+    public AutosaveService(final Path savePath, final int turnInterval, final int generations) {
+        if (turnInterval < 0 || generations < 1) {
+            throw new IllegalArgumentException("Invalid autosave configuration");
+        }
+        this.savePath = Objects.requireNonNull(savePath, "savePath cannot be null");
+        this.turnInterval = turnInterval;
+        this.generations = generations;
+    }
+
+    /**
+     * Notifies that a turn was played or the player took the stairs.
+     * Saves when the interval elapsed or the level changed, unless the player is dead.
+     *
+     * @param dungeon the game to save
+     */
+    public void afterTurn(final DungeonController dungeon) {
+        turnsSinceSave++;
+        final boolean levelChanged = dungeon.getCurrentLevel() != lastLevel;
+        if (dungeon.getPlayer().isAlive()
+                && (levelChanged || turnInterval > 0 && turnsSinceSave >= turnInterval)) {
+            requestSave(dungeon);
+        }
+    }
+
+    /**
+     * Captures the game and schedules it to be written, without waiting for the disk.
+     *
+     * @param dungeon the game to save
+     */
+    public void requestSave(final DungeonController dungeon) {
+        turnsSinceSave = 0;
+        lastLevel = dungeon.getCurrentLevel();
+        pending.set(SaveManager.snapshot(dungeon));
+        if (!scheduled.getAndSet(true)) {
+            Worker.EXECUTOR.execute(this::writePending);
+        }
+    }
+
+    /**
+     * Returns the error of the latest failed write, once, so the game can tell the player.
+     * An error is dropped once taken or once a later write succeeds.
+     *
+     * @return the error not reported yet, or empty if there is none
+     */
+    public Optional<IOException> takeError() {
+        return lastError.getAndSet(Optional.empty());
+    }
+
+    /**
+     * Waits, for a few seconds at most, until the saves requested so far are on disk.
+     *
+     * @return true if every requested save was written or failed, false on timeout or interruption
+     */
+    public static boolean flush() {
+        try {
+            Worker.EXECUTOR.submit(() -> { }).get(FLUSH_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            return true;
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (final ExecutionException | TimeoutException e) {
+            return false;
+        }
+    }
+
+    private void writePending() {
+        // Cleared first, so a snapshot taken while writing schedules another write
+        scheduled.set(false);
+        final SaveData data = pending.getAndSet(null);
+        if (data == null) {
+            return;
+        }
+        try {
+            SaveManager.write(data, savePath, generations);
+            lastError.set(Optional.empty());
+        } catch (final IOException e) {
+            lastError.set(Optional.of(e));
+        }
+    }
+
+    /**
+     * Lazily created background thread shared by all the autosave services.
+     */
+    private static final class Worker {
+        private static final ExecutorService EXECUTOR = Executors.newSingleThreadExecutor(task -> {
+            final Thread thread = new Thread(task, "autosave");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        });
+    }
+}
@@ -190,17 +190,18 @@ public final class BaseController {
 
     /**
      * Saves the current game to the default save file.
+     * The game is captured immediately and written in the background,
+     * and a failed write is shown to the player on the next turn.
      *
-     * @return true if the save was successful.
+     * @return true if the save was scheduled.
      */
     public boolean saveGame() {
-        try {
-            final GameController gc = (GameController) gameController;
-            SaveManager.save(gc.getDungeonController(), SaveManager.getDefaultSavePath());
-            return true;
-        } catch (final IOException e) {
+        final GameController gc = (GameController) gameController;
+        if (gc.getDungeonController() == null) {
             return false;
         }
+        gc.saveGame();
+        return true;
     }
 
     /**
@@ -210,7 +211,9 @@ public final class BaseController {
      */
     public boolean loadGame() {
         try {
-            final SaveData data = SaveManager.load(SaveManager.getDefaultSavePath());
+            AutosaveService.flush();
+            final SaveData data = SaveManager.loadNewestValid(SaveManager.getDefaultSavePath(),
+                    AutosaveService.DEFAULT_GENERATIONS);
             final GameController gc = (GameController) gameController;
             final DungeonController restored = SaveManager.restore(data, gc.getRenderer());
             gc.restoreGame(restored);
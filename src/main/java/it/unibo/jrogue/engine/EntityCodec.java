@@ -0,0 +1,181 @@
+package it.unibo.jrogue.engine;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.random.RandomGenerator;
+
+import it.unibo.jrogue.commons.Position;
+import it.unibo.jrogue.entity.entities.api.Enemy;
+import it.unibo.jrogue.entity.entities.impl.enemies.Bat;
+import it.unibo.jrogue.entity.entities.impl.enemies.Dragon;
+import it.unibo.jrogue.entity.entities.impl.enemies.HobGoblin;
+import it.unibo.jrogue.entity.items.api.Item;
+import it.unibo.jrogue.entity.items.impl.Armor;
+import it.unibo.jrogue.entity.items.impl.Food;
+import it.unibo.jrogue.entity.items.impl.Gold;
+import it.unibo.jrogue.entity.items.impl.HealthPotion;
+import it.unibo.jrogue.entity.items.impl.MeleeWeapon;
+import it.unibo.jrogue.entity.items.impl.Ring;
+import it.unibo.jrogue.entity.items.impl.Scroll;
+
+/**
+ * Converts enemies and items to and from their saved state.
+ * Shared by the save files and by the in-memory level cache.
+ */
+public final class EntityCodec {
+
+    private static final int DEFAULT_RING_HEALING = 5;
+    private static final String ENEMY_BAT = "bat";
+    private static final String ENEMY_GOBLIN = "goblin";
+    private static final String ENEMY_DRAGON = "dragon";
+    private static final String ITEM_GOLD = "gold";
+    private static final String ITEM_POTION = "potion";
+    private static final String ITEM_FOOD = "food";
+    private static final String ITEM_RING = "ring";
+    private static final String ITEM_SCROLL = "scroll";
+    private static final String ITEM_WEAPON = "weapon";
+    private static final String ITEM_ARMOR = "armor";
+
+    /** Enemy type tags, indexed by the ordinal binary saves store: only append to it. */
+    static final List<String> ENEMY_TYPES = List.of(ENEMY_BAT, ENEMY_GOBLIN, ENEMY_DRAGON);
+    /** Item type tags, indexed by the ordinal binary saves store: only append to it. */
+    static final List<String> ITEM_TYPES = List.of(ITEM_GOLD, ITEM_POTION, ITEM_FOOD, ITEM_RING, ITEM_SCROLL,
+            ITEM_WEAPON, ITEM_ARMOR);
+
+    private EntityCodec() {
+    }
+
+    /**
+     * Encodes an enemy with its position, level and life points.
+     *
+     * @param enemy the enemy to encode
+     * @return the saved state of the enemy
+     */
+    public static SaveData.EnemyData encodeEnemy(final Enemy enemy) {
+        return encodeEnemy(enemy, -1);
+    }
+
+    /**
+     * Encodes an enemy together with its spawn index on the map it belongs to.
+     *
+     * @param enemy      the enemy to encode
+     * @param spawnIndex the spawn index of the enemy, -1 if unknown
+     * @return the saved state of the enemy
+     */
+    public static SaveData.EnemyData encodeEnemy(final Enemy enemy, final int spawnIndex) {
+        return new SaveData.EnemyData(enemyType(enemy), enemy.getPosition().x(), enemy.getPosition().y(),
+                enemy.getLevel(), enemy.getLifePoint(), spawnIndex, !enemy.isSleeping());
+    }
+
+    /**
+     * Decodes an enemy. Data without a level restores an enemy with base stats.
+     * The decoded enemy is not placed on any map, so its spawn index is not restored.
+     *
+     * @param data   the saved state of the enemy
+     * @param random the generator the restored enemy draws its rolls from
+     * @return the enemy
+     */
+    public static Enemy decodeEnemy(final SaveData.EnemyData data, final RandomGenerator random) {
+        final Position pos = new Position(data.getPosX(), data.getPosY());
+        final Enemy enemy = data.getLevel() > 0
+                ? createEnemy(data.getType(), pos, data.getLevel(), random)
+                : createEnemy(data.getType(), pos, random);
+        final int missingHp = enemy.getLifePoint() - data.getHp();
+        if (data.getHp() > 0 && missingHp > 0) {
+            enemy.damage(missingHp);
+        }
+        if (data.isAwake()) {
+            enemy.wakeUp();
+        }
+        return enemy;
+    }
+
+    /**
+     * Encodes an item.
+     *
+     * @param item the item to encode
+     * @param posX x position, -1 for items in the inventory
+     * @param posY y position, -1 for items in the inventory
+     * @return the saved state of the item
+     */
+    public static SaveData.ItemData encodeItem(final Item item, final int posX, final int posY) {
+        // Only ring + weapons + armors have names
+        if (item instanceof Gold gold) {
+            return new SaveData.ItemData(ITEM_GOLD, posX, posY, "", gold.getAmount());
+        } else if (item instanceof HealthPotion) {
+            return new SaveData.ItemData(ITEM_POTION, posX, posY, "", 0);
+        } else if (item instanceof Food) {
+            return new SaveData.ItemData(ITEM_FOOD, posX, posY, "", 0);
+        } else if (item instanceof Ring ring) {
+            return new SaveData.ItemData(ITEM_RING, posX, posY, ring.getName(), ring.getBonus());
+        } else if (item instanceof Scroll) {
+            return new SaveData.ItemData(ITEM_SCROLL, posX, posY, "", 0);
+        } else if (item instanceof MeleeWeapon weapon) {
+            return new SaveData.ItemData(ITEM_WEAPON, posX, posY, weapon.getName(), weapon.getBonus());
+        } else if (item instanceof Armor armor) {
+            return new SaveData.ItemData(ITEM_ARMOR, posX, posY, armor.getName(), armor.getBonus());
+        }
+        return new SaveData.ItemData(ITEM_GOLD, posX, posY, "", 1);
+    }
+
+    /**
+     * Decodes an item.
+     *
+     * @param data the saved state of the item
+     * @return the item, or empty if the type is unknown
+     */
+    public static Optional<Item> decodeItem(final SaveData.ItemData data) {
+        // ER = error when the name of the item is required but something went wrong during save so "default" name is used
+        return switch (data.getType()) {
+            case ITEM_GOLD -> Optional.of(new Gold(Math.max(1, data.getValue())));
+            case ITEM_POTION -> Optional.of(new HealthPotion());
+            case ITEM_FOOD -> Optional.of(new Food());
+            case ITEM_RING -> Optional.of(new Ring(
+                    data.getName().isEmpty() ? "Anello (ER)" : data.getName(),
+                    data.getValue() > 0 ? data.getValue() : DEFAULT_RING_HEALING));
+            case ITEM_SCROLL -> Optional.of(new Scroll());
+            case ITEM_WEAPON -> Optional.of(new MeleeWeapon(
+                    data.getName().isEmpty() ? "Arma (ER)" : data.getName(),
+                    data.getValue()));
+            case ITEM_ARMOR -> Optional.of(new Armor(
+                    data.getName().isEmpty() ? "Armatura (ER)" : data.getName(),
+                    data.getValue()));
+            default -> Optional.empty();
+        };
+    }
+
+    /**
+     * Returns the type tag an enemy is saved with.
+     *
+     * @param enemy the enemy
+     * @return the type tag
+     */
+    static String enemyType(final Enemy enemy) {
+        if (enemy instanceof Bat) {
+            return ENEMY_BAT;
+        } else if (enemy instanceof HobGoblin) {
+            return ENEMY_GOBLIN;
+        } else if (enemy instanceof Dragon) {
+            return ENEMY_DRAGON;
+        }
+        return ENEMY_BAT;
+    }
+
+    private static Enemy createEnemy(final String type, final Position pos, final RandomGenerator random) {
+        // goblin -> new HobGoblin, dragon -> new Dragon, bat -> new Bat, all with base stats
+        return switch (type) {
+            case ENEMY_GOBLIN -> new HobGoblin(pos, random);
+            case ENEMY_DRAGON -> new Dragon(pos, random);
+            default -> new Bat(pos, random);
+        };
+    }
+
+    private static Enemy createEnemy(final String type, final Position pos, final int level,
+            final RandomGenerator random) {
+        return switch (type) {
+            case ENEMY_GOBLIN -> new HobGoblin(pos, level, random);
+            case ENEMY_DRAGON -> new Dragon(pos, level, random);
+            default -> new Bat(pos, level, random);
+        };
+    }
+}
@@ -0,0 +1,243 @@
+package it.unibo.jrogue.engine;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.random.RandomGenerator;
+
+import it.unibo.jrogue.commons.Position;
+import it.unibo.jrogue.entity.entities.api.Enemy;
+import it.unibo.jrogue.entity.entities.api.Entity;
+import it.unibo.jrogue.entity.world.api.GameMap;
+
+/**
+ * What changed in a level compared with the state it was generated in.
+ *
+ * <p>
+ * Levels are generated deterministically from their seed, so generating a level again
+ * gives back the same enemies, in the same spawn order, and the same items. Enemies are
+ * therefore named by their {@link GameMap#getSpawnIndex spawn index} and only those that
+ * died, moved, got hurt or woke up are recorded. Enemies that do not come from the
+ * generation, such as those restored from an older save, are recorded in full.
+ * Traps are generated active, so only the cells of the triggered ones are recorded.
+ * </p>
+ *
+ * @param removedEnemies the spawn indices of the generated enemies no longer on the map
+ * @param changedEnemies the generated enemies that differ from their generated state
+ * @param addedEnemies   the enemies that were not generated with the level
+ * @param pickedItems    the generated items no longer on the map
+ * @param droppedItems   the items on the map that were not generated with the level
+ * @param triggeredTraps the cells of the triggered traps, see {@link #triggeredTraps(GameMap)}
+ */
+public record LevelDiff(
+        List<Integer> removedEnemies,
+        List<EnemyChange> changedEnemies,
+        List<SaveData.EnemyData> addedEnemies,
+        List<SaveData.ItemData> pickedItems,
+        List<SaveData.ItemData> droppedItems,
+        List<Integer> triggeredTraps) implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Creates a level difference.
+     *
+     * @param removedEnemies the spawn indices of the generated enemies no longer on the map
+     * @param changedEnemies the generated enemies that differ from their generated state
+     * @param addedEnemies   the enemies that were not generated with the level
+     * @param pickedItems    the generated items no longer on the map
+     * @param droppedItems   the items on the map that were not generated with the level
+     * @param triggeredTraps the cells of the triggered traps, see {@link #triggeredTraps(GameMap)}
+     */
+    public LevelDiff {
+        removedEnemies = List.copyOf(removedEnemies);
+        changedEnemies = List.copyOf(changedEnemies);
+        addedEnemies = List.copyOf(addedEnemies);
+        pickedItems = List.copyOf(pickedItems);
+        droppedItems = List.copyOf(droppedItems);
+        triggeredTraps = triggeredTraps == null ? List.of() : List.copyOf(triggeredTraps);
+    }
+
+    /**
+     * Computes the difference between the saved state of a level and a freshly generated copy of it.
+     *
+     * @param enemies  the saved enemies of the level, with their spawn indices
+     * @param items    the saved items lying on the floor
+     * @param traps    the saved cells of the triggered traps, see {@link #triggeredTraps(GameMap)}
+     * @param pristine the level generated again from its seed, not modified
+     * @return the difference
+     */
+    public static LevelDiff between(final List<SaveData.EnemyData> enemies, final List<SaveData.ItemData> items,
+            final List<Integer> traps, final GameMap pristine) {
+        final List<SaveData.EnemyData> generated = generatedEnemies(pristine);
+        final BitSet alive = new BitSet(generated.size());
+        final List<EnemyChange> changed = new ArrayList<>();
+        final List<SaveData.EnemyData> added = new ArrayList<>();
+        for (final SaveData.EnemyData enemy : enemies) {
+            final int index = enemy.getSpawnIndex();
+            if (index < 0 || index >= generated.size() || alive.get(index)
+                    || !generated.get(index).getType().equals(enemy.getType())) {
+                added.add(enemy);
+                continue;
+            }
+            alive.set(index);
+            final SaveData.EnemyData original = generated.get(index);
+            if (enemy.getPosX() != original.getPosX() || enemy.getPosY() != original.getPosY()
+                    || enemy.getHp() != original.getHp() || enemy.isAwake() != original.isAwake()) {
+                changed.add(new EnemyChange(index, enemy.getPosX(), enemy.getPosY(), enemy.getHp(),
+                        enemy.isAwake()));
+            }
+        }
+        final List<Integer> removed = new ArrayList<>();
+        for (int i = alive.nextClearBit(0); i < generated.size(); i = alive.nextClearBit(i + 1)) {
+            removed.add(i);
+        }
+
+        final Map<Position, SaveData.ItemData> untouched = new HashMap<>();
+        pristine.getItems().forEach((pos, item) -> untouched.put(pos, EntityCodec.encodeItem(item, pos.x(), pos.y())));
+        final List<SaveData.ItemData> dropped = new ArrayList<>();
+        for (final SaveData.ItemData item : items) {
+            final Position pos = new Position(item.getPosX(), item.getPosY());
+            final SaveData.ItemData original = untouched.get(pos);
+            if (original != null && sameItem(original, item)) {
+                untouched.remove(pos);
+            } else {
+                dropped.add(item);
+            }
+        }
+        return new LevelDiff(removed, changed, added, List.copyOf(untouched.values()), dropped, traps);
+    }
+
+    /**
+     * Returns the cells of the triggered traps of a map, as indices of the cells in
+     * row-major order, sorted.
+     *
+     * @param map the map
+     * @return the cells of the traps that are no longer active
+     */
+    public static List<Integer> triggeredTraps(final GameMap map) {
+        return map.getTraps().entrySet().stream()
+                .filter(trap -> !trap.getValue().isActive())
+                .map(trap -> trap.getKey().y() * map.getWidth() + trap.getKey().x())
+                .sorted()
+                .toList();
+    }
+
+    /**
+     * Triggers the traps on the given cells of a map, ignoring cells without a trap.
+     *
+     * @param map   the map
+     * @param cells the cells of the traps, see {@link #triggeredTraps(GameMap)}
+     */
+    public static void triggerTraps(final GameMap map, final List<Integer> cells) {
+        cells.forEach(cell -> map.triggerTrapAt(new Position(cell % map.getWidth(), cell / map.getWidth())));
+    }
+
+    /**
+     * Replays the difference on a freshly generated copy of the level.
+     * Generated enemies keep their spawn order, followed by the added ones.
+     *
+     * @param pristine the level generated again from its seed, modified in place
+     * @param random   the generator the added enemies draw their rolls from
+     * @return the same map, now in the saved state
+     */
+    public GameMap applyTo(final GameMap pristine, final RandomGenerator random) {
+        final List<Enemy> generated = new ArrayList<>();
+        for (Optional<Entity> entity = pristine.getSpawned(0); entity.isPresent();
+                entity = pristine.getSpawned(generated.size())) {
+            generated.add(entity.filter(Enemy.class::isInstance).map(Enemy.class::cast).orElse(null));
+            pristine.removeEntity(entity.get());
+        }
+        final Map<Integer, EnemyChange> changes = new HashMap<>();
+        changedEnemies.forEach(change -> changes.put(change.spawnIndex(), change));
+        final BitSet removed = new BitSet(generated.size());
+        removedEnemies.forEach(removed::set);
+        for (int i = 0; i < generated.size(); i++) {
+            final Enemy enemy = generated.get(i);
+            if (enemy == null || removed.get(i)) {
+                continue;
+            }
+            final EnemyChange change = changes.get(i);
+            if (change != null) {
+                change.applyTo(enemy);
+            }
+            pristine.addEntity(enemy);
+        }
+        addedEnemies.forEach(enemy -> pristine.addEntity(EntityCodec.decodeEnemy(enemy, random)));
+
+        pickedItems.forEach(item -> pristine.removeItemAt(new Position(item.getPosX(), item.getPosY())));
+        for (final SaveData.ItemData data : droppedItems) {
+            final Position pos = new Position(data.getPosX(), data.getPosY());
+            EntityCodec.decodeItem(data).ifPresent(item -> {
+                pristine.removeItemAt(pos);
+                pristine.addItem(pos, item);
+            });
+        }
+        triggerTraps(pristine, triggeredTraps);
+        return pristine;
+    }
+
+    /**
+     * Returns how many records the difference holds, a measure of how far the level drifted.
+     *
+     * @return the number of records
+     */
+    public int size() {
+        return removedEnemies.size() + changedEnemies.size() + addedEnemies.size()
+                + pickedItems.size() + droppedItems.size() + triggeredTraps.size();
+    }
+
+    private static List<SaveData.EnemyData> generatedEnemies(final GameMap pristine) {
+        final List<SaveData.EnemyData> generated = new ArrayList<>();
+        for (Optional<Entity> entity = pristine.getSpawned(0); entity.isPresent();
+                entity = pristine.getSpawned(generated.size())) {
+            generated.add(entity.get() instanceof Enemy enemy
+                    ? EntityCodec.encodeEnemy(enemy, generated.size())
+                    : new SaveData.EnemyData("", -1, -1));
+        }
+        return generated;
+    }
+
+    private static boolean sameItem(final SaveData.ItemData a, final SaveData.ItemData b) {
+        return a.getType().equals(b.getType()) && a.getValue() == b.getValue()
+                && Objects.equals(a.getName(), b.getName());
+    }
+
+    /**
+     * New state of a generated enemy.
+     *
+     * @param spawnIndex the spawn index of the enemy
+     * @param posX       x position
+     * @param posY       y position
+     * @param hp         the current life points
+     * @param awake      true if the enemy was woken up
+     */
+    public record EnemyChange(int spawnIndex, int posX, int posY, int hp, boolean awake) implements Serializable {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Brings a generated enemy to this state.
+         *
+         * @param enemy the enemy with this spawn index, as generated
+         */
+        void applyTo(final Enemy enemy) {
+            enemy.setPosition(new Position(posX, posY));
+            final int missingHp = enemy.getLifePoint() - hp;
+            if (missingHp > 0) {
+                enemy.damage(missingHp);
+            }
+            if (awake) {
+                enemy.wakeUp();
+            }
+        }
+    }
+}
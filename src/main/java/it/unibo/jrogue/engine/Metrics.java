@@ -0,0 +1,132 @@
+package it.unibo.jrogue.engine;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Timing probes around the hot paths of the game.
+ *
+ * <p>
+ * Each probe feeds a {@link LatencyHistogram}, so measuring is cheap and thread-safe:
+ * levels are generated on a background thread while turns run on the FX thread.
+ * A probe is used as {@code final long start = Metrics.start();} followed by
+ * {@code Metrics.stop(Probe.TURN, start);}.
+ * </p>
+ */
+public final class Metrics {
+
+    private static final String METRICS_FILE_NAME = "metrics.txt";
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private static final Map<Probe, LatencyHistogram> HISTOGRAMS = new EnumMap<>(Probe.class);
+
+    static {
+        for (final Probe probe : Probe.values()) {
+            HISTOGRAMS.put(probe, new LatencyHistogram());
+        }
+    }
+
+    /**
+     * The measured code paths.
+     */
+    public enum Probe {
+        /** A whole player turn, enemies included. */
+        TURN,
+        /** The generation of the terrain of a level. */
+        GENERATE,
+        /** The population of a level with enemies, items and traps. */
+        POPULATE,
+        /** Capturing the snapshot of a turn for the renderer. */
+        RENDER_CAPTURE,
+        /** Drawing the terrain layer of a frame. */
+        DRAW_TERRAIN,
+        /** Drawing the item layer of a frame. */
+        DRAW_ITEMS,
+        /** Drawing the entity layer of a frame. */
+        DRAW_ENTITIES,
+        /** Drawing the fog layer of a frame. */
+        DRAW_FOG,
+        /** Saving the game. */
+        SAVE,
+        /** Loading a save file. */
+        LOAD
+    }
+
+    private Metrics() {
+    }
+
+    /**
+     * Starts a measurement.
+     *
+     * @return the start time to pass to {@link #stop}
+     */
+    public static long start() {
+        return System.nanoTime();
+    }
+
+    /**
+     * Ends a measurement and records it.
+     *
+     * @param probe the measured code path
+     * @param start the value returned by {@link #start}
+     */
+    public static void stop(final Probe probe, final long start) {
+        HISTOGRAMS.get(probe).record(System.nanoTime() - start);
+    }
+
+    /**
+     * Returns the histogram of a probe.
+     *
+     * @param probe the probe
+     * @return its histogram
+     */
+    public static LatencyHistogram histogram(final Probe probe) {
+        return HISTOGRAMS.get(probe);
+    }
+
+    /**
+     * Formats the statistics of every probe that recorded something, one per line, in milliseconds.
+     *
+     * @return the report
+     */
+    public static String report() {
+        final StringBuilder report = new StringBuilder(String.format(Locale.ROOT,
+                "%-15s %8s %9s %9s %9s%n", "probe", "count", "p50 ms", "p99 ms", "max ms"));
+        for (final Probe probe : Probe.values()) {
+            final LatencyHistogram.Summary summary = HISTOGRAMS.get(probe).summarize();
+            if (summary.count() > 0) {
+                report.append(String.format(Locale.ROOT, "%-15s %8d %9.3f %9.3f %9.3f%n",
+                        probe.name().toLowerCase(Locale.ROOT), summary.count(), summary.p50() / NANOS_PER_MILLI,
+                        summary.p99() / NANOS_PER_MILLI, summary.max() / NANOS_PER_MILLI));
+            }
+        }
+        return report.toString();
+    }
+
+    /**
+     * Writes the report to a file, replacing it.
+     *
+     * @param file the destination
+     * @throws IOException if writing fails
+     */
+    public static void dump(final Path file) throws IOException {
+        final Path parent = file.getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Files.writeString(file, report(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns the default file the report is dumped to, next to the save file.
+     *
+     * @return the path of the metrics file
+     */
+    public static Path getDefaultDumpPath() {
+        return SaveManager.getDefaultSavePath().resolveSibling(METRICS_FILE_NAME);
+    }
+}
@@ -4,10 +4,14 @@ import java.io.Serial;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
 
 /**
  * Serializable container for game save data.
  * Stores all information needed to restore a game session.
+ * Saves are written with {@link SaveFormat}; the class stays serializable
+ * so that saves from older versions can still be read.
  */
 public final class SaveData implements Serializable {
 
@@ -21,6 +25,9 @@ public final class SaveData implements Serializable {
     private final List<ItemData> items;
     private final List<Integer> revealedRoomIndices;
     private final List<Integer> revealedHallwayIndices;
+    private final LevelDiff levelDiff;
+    private final long[] revealedCells;
+    private final List<Integer> triggeredTraps;
 
     /**
      * Creates a new SaveData.
@@ -39,6 +46,42 @@ public final class SaveData implements Serializable {
             final List<ItemData> items,
             final List<Integer> revealedRoomIndices,
             final List<Integer> revealedHallwayIndices) {
+        this(seed, currentLevel, playerData, enemies, items, revealedRoomIndices, revealedHallwayIndices, null,
+                new long[0], List.of());
+    }
+
+    /**
+     * Creates a new SaveData that stores the current level as a difference from its generated state.
+     * The enemies and items of the level are then described by the difference only.
+     *
+     * @param seed                    the base seed for level generation
+     * @param currentLevel            the current dungeon level
+     * @param playerData              the player's saved state
+     * @param revealedRoomIndices     indices of revealed rooms
+     * @param revealedHallwayIndices  indices of revealed hallways
+     * @param levelDiff               what changed in the level since it was generated
+     */
+    public SaveData(final long seed, final int currentLevel,
+            final PlayerData playerData,
+            final List<Integer> revealedRoomIndices,
+            final List<Integer> revealedHallwayIndices,
+            final LevelDiff levelDiff) {
+        this(seed, currentLevel, playerData, List.of(), List.of(), revealedRoomIndices, revealedHallwayIndices,
+                Objects.requireNonNull(levelDiff, "levelDiff cannot be null"), new long[0], List.of());
+    }
+
+    private SaveData(final long seed, final int currentLevel,
+            final PlayerData playerData,
+            final List<EnemyData> enemies,
+            final List<ItemData> items,
+            final List<Integer> revealedRoomIndices,
+            final List<Integer> revealedHallwayIndices,
+            final LevelDiff levelDiff,
+            final long[] revealedCells,
+            final List<Integer> triggeredTraps) {
+        this.levelDiff = levelDiff;
+        this.revealedCells = revealedCells.clone();
+        this.triggeredTraps = new ArrayList<>(triggeredTraps);
         this.baseSeed = seed;
         this.currentLevel = currentLevel;
         this.playerData = playerData;
@@ -111,6 +154,65 @@ public final class SaveData implements Serializable {
         return revealedHallwayIndices == null ? null : new ArrayList<>(revealedHallwayIndices);
     }
 
+    /**
+     * Returns the difference between the current level and its generated state,
+     * present for saves that store the level that way.
+     *
+     * @return the level difference, or empty if enemies and items are stored in full
+     */
+    public Optional<LevelDiff> getLevelDiff() {
+        return Optional.ofNullable(levelDiff);
+    }
+
+    /**
+     * Returns the cells of the current level the player has seen, in the layout of
+     * {@link it.unibo.jrogue.entity.world.api.GameMap#getRevealedCells()}.
+     * Old saves only know their revealed rooms and hallways and return no cells.
+     *
+     * @return the revealed cells
+     */
+    public long[] getRevealedCells() {
+        return revealedCells == null ? new long[0] : revealedCells.clone();
+    }
+
+    /**
+     * Returns a copy of this save with the given revealed cells.
+     *
+     * @param cells the revealed cells, see {@link #getRevealedCells()}
+     * @return the new save data
+     */
+    public SaveData withRevealedCells(final long[] cells) {
+        return new SaveData(baseSeed, currentLevel, playerData, enemies, items,
+                Objects.requireNonNullElse(revealedRoomIndices, List.of()),
+                Objects.requireNonNullElse(revealedHallwayIndices, List.of()),
+                levelDiff, cells, getTriggeredTraps());
+    }
+
+    /**
+     * Returns the cells of the triggered traps of the current level, in the layout of
+     * {@link LevelDiff#triggeredTraps(it.unibo.jrogue.entity.world.api.GameMap)}.
+     * Saves that store the level as a difference keep them in the difference instead,
+     * and old saves did not record them.
+     *
+     * @return the cells of the triggered traps
+     */
+    public List<Integer> getTriggeredTraps() {
+        return triggeredTraps == null ? List.of() : new ArrayList<>(triggeredTraps);
+    }
+
+    /**
+     * Returns a copy of this save with the given triggered traps.
+     *
+     * @param cells the cells of the triggered traps, see {@link #getTriggeredTraps()}
+     * @return the new save data
+     */
+    public SaveData withTriggeredTraps(final List<Integer> cells) {
+        return new SaveData(baseSeed, currentLevel, playerData, enemies, items,
+                Objects.requireNonNullElse(revealedRoomIndices, List.of()),
+                Objects.requireNonNullElse(revealedHallwayIndices, List.of()),
+                levelDiff, getRevealedCells(), cells);
+    }
+
     /**
      * Saved state of a player.
      */
@@ -225,18 +327,56 @@ public final class SaveData implements Serializable {
         private final String type;
         private final int posX;
         private final int posY;
+        private final int level;
+        private final int hp;
+        /** Spawn index plus one, so saves written before it was stored read as unknown. */
+        private final int spawnNumber;
+        private final boolean awake;
 
         /**
-         * Creates enemy save data.
+         * Creates enemy save data for an enemy with base stats.
          *
          * @param type the enemy type identifier
          * @param posX x position
          * @param posY y position
          */
         public EnemyData(final String type, final int posX, final int posY) {
+            this(type, posX, posY, 0, 0);
+        }
+
+        /**
+         * Creates enemy save data.
+         *
+         * @param type  the enemy type identifier
+         * @param posX  x position
+         * @param posY  y position
+         * @param level the enemy level, 0 for base stats
+         * @param hp    the current life points, 0 for full health
+         */
+        public EnemyData(final String type, final int posX, final int posY, final int level, final int hp) {
+            this(type, posX, posY, level, hp, -1, false);
+        }
+
+        /**
+         * Creates enemy save data that remembers which spawned enemy it describes.
+         *
+         * @param type       the enemy type identifier
+         * @param posX       x position
+         * @param posY       y position
+         * @param level      the enemy level, 0 for base stats
+         * @param hp         the current life points, 0 for full health
+         * @param spawnIndex the spawn index of the enemy on its map, -1 if unknown
+         * @param awake      true if the enemy was woken up
+         */
+        public EnemyData(final String type, final int posX, final int posY, final int level, final int hp,
+                final int spawnIndex, final boolean awake) {
             this.type = type;
             this.posX = posX;
             this.posY = posY;
+            this.level = level;
+            this.hp = hp;
+            this.spawnNumber = Math.max(0, spawnIndex + 1);
+            this.awake = awake;
         }
 
         /**
@@ -265,6 +405,42 @@ public final class SaveData implements Serializable {
         public int getPosY() {
             return posY;
         }
+
+        /**
+         * Returns the enemy level. Saves written before levels were stored read as 0.
+         *
+         * @return the level, or 0 for base stats
+         */
+        public int getLevel() {
+            return level;
+        }
+
+        /**
+         * Returns the current life points. Saves written before life points were stored read as 0.
+         *
+         * @return the life points, or 0 for full health
+         */
+        public int getHp() {
+            return hp;
+        }
+
+        /**
+         * Returns the spawn index of the enemy on its map, see {@link it.unibo.jrogue.entity.world.api.GameMap#getSpawnIndex}.
+         *
+         * @return the spawn index, or -1 if unknown
+         */
+        public int getSpawnIndex() {
+            return spawnNumber - 1;
+        }
+
+        /**
+         * Returns whether the enemy was woken up. Saves written before it was stored read as false.
+         *
+         * @return true if the enemy is awake
+         */
+        public boolean isAwake() {
+            return awake;
+        }
     }
 
     /**
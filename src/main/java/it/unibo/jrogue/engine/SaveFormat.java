@@ -0,0 +1,360 @@
+package it.unibo.jrogue.engine;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Compact binary encoding of {@link SaveData}.
+ *
+ * <p>
+ * A save starts with a {@value #MAGIC} magic number and a format version, followed
+ * by the fields in a fixed order and a CRC32 of everything before it. Integers are
+ * zigzag varints, so the small positions, levels and counts a save is made of take
+ * one or two bytes each, and enemy and item types are stored as ordinals of the
+ * tables in {@link EntityCodec} rather than as strings. The cells revealed by the
+ * player are stored as the lengths of the alternating runs of hidden and revealed
+ * cells, since sight reveals whole stretches of rooms and corridors at once.
+ * Since version 4 the triggered traps are stored as well.
+ * Decoding walks the buffer directly, without reflection.
+ * </p>
+ *
+ * <p>
+ * Files written with Java serialization, before this format existed, start with
+ * the serialization stream magic and are recognized by {@link #isLegacy(byte[])}.
+ * </p>
+ */
+public final class SaveFormat {
+
+    /** Magic number at the start of every binary save: "JRSV". */
+    public static final int MAGIC = 0x4A52_5356;
+    /** Version of the format written by {@link #encode(SaveData)}. */
+    public static final int VERSION = 4;
+    /** Oldest version {@link #decode(byte[])} still reads. */
+    public static final int MIN_VERSION = 1;
+
+    private static final int LEGACY_MAGIC_HIGH = 0xAC;
+    private static final int LEGACY_MAGIC_LOW = 0xED;
+    private static final int BYTE_MASK = 0xFF;
+    private static final int VARINT_PAYLOAD = 0x7F;
+    private static final int VARINT_CONTINUE = 0x80;
+    private static final int VARINT_SHIFT = 7;
+    private static final int VARINT_MAX_SHIFT = 28;
+    private static final long UNSIGNED_INT_MASK = 0xFFFF_FFFFL;
+    private static final int CHECKSUM_BYTES = Integer.BYTES;
+    private static final int HEADER_BYTES = Integer.BYTES + 1;
+    private static final int INITIAL_CAPACITY = 512;
+    /** Upper bound on the cells of a map, so a corrupted run cannot allocate a huge bitset. */
+    private static final int MAX_CELLS = 1 << 20;
+    /** Type ordinal stored for tags missing from the tables, decoded as an unknown type. */
+    private static final int UNKNOWN_TYPE = 0;
+
+    private SaveFormat() {
+    }
+
+    /**
+     * Checks whether a save was written with Java serialization.
+     *
+     * @param bytes the content of the save file
+     * @return true if the bytes start with the serialization stream magic
+     */
+    public static boolean isLegacy(final byte[] bytes) {
+        return bytes.length >= 2
+                && (bytes[0] & BYTE_MASK) == LEGACY_MAGIC_HIGH
+                && (bytes[1] & BYTE_MASK) == LEGACY_MAGIC_LOW;
+    }
+
+    /**
+     * Encodes a save.
+     *
+     * @param data the save to encode
+     * @return the bytes of the save, checksum included
+     */
+    public static byte[] encode(final SaveData data) {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream(INITIAL_CAPACITY);
+        final CRC32 checksum = new CRC32();
+        try (DataOutputStream out = new DataOutputStream(new CheckedOutputStream(bytes, checksum))) {
+            out.writeInt(MAGIC);
+            out.writeByte(VERSION);
+            out.writeLong(data.getBaseSeed());
+            writeInt(out, data.getCurrentLevel());
+
+            final SaveData.PlayerData player = data.getPlayerData();
+            writeInt(out, player.getPosX());
+            writeInt(out, player.getPosY());
+            writeInt(out, player.getHp());
+            writeInt(out, player.getMaxHp());
+            writeInt(out, player.getLevel());
+            writeInt(out, player.getArmorClass());
+            writeItems(out, player.getInventoryItems());
+
+            writeEnemies(out, data.getEnemies());
+            writeItems(out, data.getItems());
+            writeIndices(out, data.getRevealedRoomIndices());
+            writeIndices(out, data.getRevealedHallwayIndices());
+            writeCells(out, data.getRevealedCells());
+            writeIndices(out, data.getTriggeredTraps());
+            out.writeBoolean(data.getLevelDiff().isPresent());
+            if (data.getLevelDiff().isPresent()) {
+                writeDiff(out, data.getLevelDiff().get());
+            }
+
+            out.flush();
+            out.writeInt((int) checksum.getValue());
+        } catch (final IOException e) {
+            // An in-memory stream never fails
+            throw new IllegalStateException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Decodes a save written by {@link #encode(SaveData)}.
+     *
+     * @param bytes the content of the save file
+     * @return the decoded save
+     * @throws IOException if the bytes are not a binary save, come from a newer version
+     *                     or are corrupted
+     */
+    public static SaveData decode(final byte[] bytes) throws IOException {
+        if (bytes.length < HEADER_BYTES + CHECKSUM_BYTES) {
+            throw new IOException("Save file is truncated");
+        }
+        final ByteBuffer in = ByteBuffer.wrap(bytes);
+        if (in.getInt() != MAGIC) {
+            throw new IOException("Not a save file");
+        }
+        final int version = in.get() & BYTE_MASK;
+        if (version < MIN_VERSION || version > VERSION) {
+            throw new IOException("Unsupported save version " + version);
+        }
+        final CRC32 checksum = new CRC32();
+        checksum.update(bytes, 0, bytes.length - CHECKSUM_BYTES);
+        if ((int) checksum.getValue() != in.getInt(bytes.length - CHECKSUM_BYTES)) {
+            throw new IOException("Save file is corrupted");
+        }
+        in.limit(bytes.length - CHECKSUM_BYTES);
+        try {
+            final long seed = in.getLong();
+            final int currentLevel = readInt(in);
+            final int posX = readInt(in);
+            final int posY = readInt(in);
+            final int hp = readInt(in);
+            final int maxHp = readInt(in);
+            final int level = readInt(in);
+            final int armorClass = readInt(in);
+            final SaveData.PlayerData player = new SaveData.PlayerData(posX, posY, hp, maxHp, level, armorClass,
+                    readItems(in));
+
+            final List<SaveData.EnemyData> enemies = readEnemies(in, version);
+            final List<SaveData.ItemData> items = readItems(in);
+            final List<Integer> rooms = readIndices(in);
+            final List<Integer> hallways = readIndices(in);
+            // Versions before 3 only knew the revealed rooms and hallways
+            final long[] cells = version > 2 ? readCells(in) : new long[0];
+            // Versions before 4 did not record the triggered traps
+            final List<Integer> traps = version > 3 ? readIndices(in) : List.of();
+            if (version > 1 && in.get() != 0) {
+                return new SaveData(seed, currentLevel, player, rooms, hallways, readDiff(in, version))
+                        .withRevealedCells(cells);
+            }
+            return new SaveData(seed, currentLevel, player, enemies, items, rooms, hallways)
+                    .withRevealedCells(cells).withTriggeredTraps(traps);
+        } catch (final BufferUnderflowException e) {
+            throw new IOException("Save file is truncated", e);
+        }
+    }
+
+    private static void writeDiff(final DataOutputStream out, final LevelDiff diff) throws IOException {
+        writeIndices(out, diff.removedEnemies());
+        writeInt(out, diff.changedEnemies().size());
+        for (final LevelDiff.EnemyChange change : diff.changedEnemies()) {
+            writeInt(out, change.spawnIndex());
+            writeInt(out, change.posX());
+            writeInt(out, change.posY());
+            writeInt(out, change.hp());
+            out.writeBoolean(change.awake());
+        }
+        writeEnemies(out, diff.addedEnemies());
+        writeItems(out, diff.pickedItems());
+        writeItems(out, diff.droppedItems());
+        writeIndices(out, diff.triggeredTraps());
+    }
+
+    private static LevelDiff readDiff(final ByteBuffer in, final int version) throws IOException {
+        final List<Integer> removed = readIndices(in);
+        final int count = readCount(in);
+        final List<LevelDiff.EnemyChange> changed = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            final int spawnIndex = readInt(in);
+            final int posX = readInt(in);
+            final int posY = readInt(in);
+            final int hp = readInt(in);
+            changed.add(new LevelDiff.EnemyChange(spawnIndex, posX, posY, hp, in.get() != 0));
+        }
+        final List<SaveData.EnemyData> added = readEnemies(in, VERSION);
+        final List<SaveData.ItemData> picked = readItems(in);
+        final List<SaveData.ItemData> dropped = readItems(in);
+        return new LevelDiff(removed, changed, added, picked, dropped, version > 3 ? readIndices(in) : List.of());
+    }
+
+    private static void writeEnemies(final DataOutputStream out, final List<SaveData.EnemyData> enemies)
+            throws IOException {
+        writeInt(out, enemies.size());
+        for (final SaveData.EnemyData enemy : enemies) {
+            writeInt(out, typeOrdinal(EntityCodec.ENEMY_TYPES, enemy.getType()));
+            writeInt(out, enemy.getPosX());
+            writeInt(out, enemy.getPosY());
+            writeInt(out, enemy.getLevel());
+            writeInt(out, enemy.getHp());
+            writeInt(out, enemy.getSpawnIndex());
+            out.writeBoolean(enemy.isAwake());
+        }
+    }
+
+    private static List<SaveData.EnemyData> readEnemies(final ByteBuffer in, final int version) throws IOException {
+        final int count = readCount(in);
+        final List<SaveData.EnemyData> enemies = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            final String type = typeTag(EntityCodec.ENEMY_TYPES, readInt(in));
+            final int posX = readInt(in);
+            final int posY = readInt(in);
+            final int level = readInt(in);
+            final int hp = readInt(in);
+            // Version 1 did not know which spawned enemy a record describes
+            final int spawnIndex = version > 1 ? readInt(in) : -1;
+            final boolean awake = version > 1 && in.get() != 0;
+            enemies.add(new SaveData.EnemyData(type, posX, posY, level, hp, spawnIndex, awake));
+        }
+        return enemies;
+    }
+
+    private static void writeItems(final DataOutputStream out, final List<SaveData.ItemData> items)
+            throws IOException {
+        writeInt(out, items.size());
+        for (final SaveData.ItemData item : items) {
+            writeInt(out, typeOrdinal(EntityCodec.ITEM_TYPES, item.getType()));
+            writeInt(out, item.getPosX());
+            writeInt(out, item.getPosY());
+            writeInt(out, item.getValue());
+            final byte[] name = item.getName() == null
+                    ? new byte[0]
+                    : item.getName().getBytes(StandardCharsets.UTF_8);
+            writeInt(out, name.length);
+            out.write(name);
+        }
+    }
+
+    private static List<SaveData.ItemData> readItems(final ByteBuffer in) throws IOException {
+        final int count = readCount(in);
+        final List<SaveData.ItemData> items = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            final String type = typeTag(EntityCodec.ITEM_TYPES, readInt(in));
+            final int posX = readInt(in);
+            final int posY = readInt(in);
+            final int value = readInt(in);
+            final byte[] name = new byte[readCount(in)];
+            in.get(name);
+            items.add(new SaveData.ItemData(type, posX, posY, new String(name, StandardCharsets.UTF_8), value));
+        }
+        return items;
+    }
+
+    private static void writeIndices(final DataOutputStream out, final List<Integer> indices) throws IOException {
+        // Legacy saves without fog of war read back as nothing revealed
+        final List<Integer> values = indices == null ? List.of() : indices;
+        writeInt(out, values.size());
+        for (final int index : values) {
+            writeInt(out, index);
+        }
+    }
+
+    private static List<Integer> readIndices(final ByteBuffer in) throws IOException {
+        final int count = readCount(in);
+        final List<Integer> indices = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            indices.add(readInt(in));
+        }
+        return indices;
+    }
+
+    private static void writeCells(final DataOutputStream out, final long[] cells) throws IOException {
+        final BitSet revealed = BitSet.valueOf(cells);
+        final List<Integer> runs = new ArrayList<>();
+        for (int hidden = 0; hidden < revealed.length();) {
+            final int start = revealed.nextSetBit(hidden);
+            final int end = revealed.nextClearBit(start);
+            runs.add(start - hidden);
+            runs.add(end - start);
+            hidden = end;
+        }
+        writeIndices(out, runs);
+    }
+
+    private static long[] readCells(final ByteBuffer in) throws IOException {
+        final List<Integer> runs = readIndices(in);
+        if (runs.size() % 2 != 0) {
+            throw new IOException("Malformed revealed cells in save file");
+        }
+        final BitSet revealed = new BitSet();
+        long cell = 0;
+        for (int i = 0; i < runs.size(); i += 2) {
+            final int hidden = runs.get(i);
+            final int shown = runs.get(i + 1);
+            cell += hidden;
+            if (hidden < 0 || shown < 0 || cell + shown > MAX_CELLS) {
+                throw new IOException("Malformed revealed cells in save file");
+            }
+            revealed.set((int) cell, (int) (cell + shown));
+            cell += shown;
+        }
+        return revealed.toLongArray();
+    }
+
+    private static int typeOrdinal(final List<String> types, final String tag) {
+        return types.indexOf(tag) + 1;
+    }
+
+    private static String typeTag(final List<String> types, final int ordinal) {
+        // Unknown ordinals come from newer versions and decode like unknown tags
+        return ordinal == UNKNOWN_TYPE || ordinal > types.size() ? "" : types.get(ordinal - 1);
+    }
+
+    private static void writeInt(final DataOutputStream out, final int value) throws IOException {
+        long zigzag = ((value << 1) ^ (value >> (Integer.SIZE - 1))) & UNSIGNED_INT_MASK;
+        while ((zigzag & ~VARINT_PAYLOAD) != 0) {
+            out.writeByte((int) (zigzag & VARINT_PAYLOAD) | VARINT_CONTINUE);
+            zigzag >>>= VARINT_SHIFT;
+        }
+        out.writeByte((int) zigzag);
+    }
+
+    private static int readInt(final ByteBuffer in) throws IOException {
+        long zigzag = 0;
+        for (int shift = 0; shift <= VARINT_MAX_SHIFT; shift += VARINT_SHIFT) {
+            final int b = in.get() & BYTE_MASK;
+            zigzag |= (long) (b & VARINT_PAYLOAD) << shift;
+            if ((b & VARINT_CONTINUE) == 0) {
+                final int raw = (int) zigzag;
+                return (raw >>> 1) ^ -(raw & 1);
+            }
+        }
+        throw new IOException("Malformed number in save file");
+    }
+
+    private static int readCount(final ByteBuffer in) throws IOException {
+        final int count = readInt(in);
+        if (count < 0 || count > in.remaining()) {
+            throw new IOException("Malformed count in save file");
+        }
+        return count;
+    }
+}
@@ -1,44 +1,44 @@
 package it.unibo.jrogue.engine;
 
 import it.unibo.jrogue.boundary.DungeonRenderer;
+import it.unibo.jrogue.boundary.api.GameViewRenderer;
+import it.unibo.jrogue.boundary.api.SoundSystem;
 import it.unibo.jrogue.commons.Position;
 import it.unibo.jrogue.controller.DungeonController;
 import it.unibo.jrogue.controller.generation.api.GenerationConfig;
 import it.unibo.jrogue.controller.generation.api.LevelGenerator;
-import it.unibo.jrogue.controller.generation.impl.BSPLevelGenerator;
+import it.unibo.jrogue.controller.generation.api.SpawnConfig;
+import it.unibo.jrogue.controller.generation.impl.PopulatedLevelGenerator;
 import it.unibo.jrogue.entity.entities.api.Enemy;
+import it.unibo.jrogue.entity.entities.api.Entity;
 import it.unibo.jrogue.entity.entities.api.Player;
 import it.unibo.jrogue.entity.entities.impl.player.PlayerImpl;
-import it.unibo.jrogue.entity.entities.impl.enemies.Bat;
-import it.unibo.jrogue.entity.entities.impl.enemies.Dragon;
-import it.unibo.jrogue.entity.entities.impl.enemies.HobGoblin;
 import it.unibo.jrogue.entity.items.api.Inventory;
 import it.unibo.jrogue.entity.items.api.Item;
-import it.unibo.jrogue.entity.GameRandom;
+import it.unibo.jrogue.entity.RandomContext;
 import it.unibo.jrogue.entity.items.impl.Amulet;
-import it.unibo.jrogue.entity.items.impl.Armor;
-import it.unibo.jrogue.entity.items.impl.Food;
-import it.unibo.jrogue.entity.items.impl.Gold;
-import it.unibo.jrogue.entity.items.impl.HealthPotion;
 import it.unibo.jrogue.entity.items.impl.ItemFactoryImpl;
-import it.unibo.jrogue.entity.items.impl.MeleeWeapon;
-import it.unibo.jrogue.entity.items.impl.Ring;
-import it.unibo.jrogue.entity.items.impl.Scroll;
 import it.unibo.jrogue.entity.world.api.GameMap;
 import it.unibo.jrogue.entity.world.api.Hallway;
 import it.unibo.jrogue.entity.world.api.Level;
 import it.unibo.jrogue.entity.world.api.Room;
 import it.unibo.jrogue.entity.world.api.Tile;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.BitSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 
 /**
@@ -46,21 +46,21 @@ import java.util.Optional;
  */
 public final class SaveManager {
 
+    /**
+     * How the enemies and items of the current level are written.
+     */
+    public enum Mode {
+        /** Every enemy and item is written in full. */
+        FULL,
+        /** Only the difference from a copy of the level generated again from its seed is written. */
+        DELTA
+    }
+
     private static final String SAVE_FILE_NAME = "save.dat";
+    private static final String TEMP_SUFFIX = ".tmp";
     private static final int MAP_WIDTH = 80;
     private static final int MAP_HEIGHT = 45;
     private static final int INVENTORY_SCAN_SIZE = 50;
-    private static final int DEFAULT_RING_HEALING = 5;
-    private static final String ENEMY_BAT = "bat";
-    private static final String ENEMY_GOBLIN = "goblin";
-    private static final String ENEMY_DRAGON = "dragon";
-    private static final String ITEM_GOLD = "gold";
-    private static final String ITEM_POTION = "potion";
-    private static final String ITEM_FOOD = "food";
-    private static final String ITEM_RING = "ring";
-    private static final String ITEM_SCROLL = "scroll";
-    private static final String ITEM_WEAPON = "weapon";
-    private static final String ITEM_ARMOR = "armor";
     private static final int AMULET_LEVEL = 10;
 
     private SaveManager() {
@@ -78,6 +78,8 @@ public final class SaveManager {
 
     /**
      * Saves the current game state to the specified file.
+     * The current level is stored as a {@link Mode#DELTA delta}, so the save first generates
+     * a copy of it again on the calling thread.
      *
      * @param dungeonController the dungeon controller to save
      * @param savePath the file path to save to
@@ -85,30 +87,171 @@ public final class SaveManager {
      */
     public static void save(final DungeonController dungeonController,
                             final Path savePath) throws IOException {
-        final SaveData data = extractSaveData(dungeonController);
+        write(snapshot(dungeonController), savePath, 1);
+    }
+
+    /**
+     * Captures the state to save. The result shares nothing with the game,
+     * so it can be written from another thread while the game goes on.
+     *
+     * @param dungeonController the dungeon controller to save
+     * @return the save data
+     */
+    public static SaveData snapshot(final DungeonController dungeonController) {
+        return extractSaveData(dungeonController);
+    }
 
-        final Path parent = savePath.getParent();
-        if (parent != null) {
-            Files.createDirectories(parent);
+    /**
+     * Writes a save without ever leaving a partially written file at the destination.
+     * The data goes to a temporary file that is flushed to disk and then atomically
+     * moved over the destination. Older saves are kept as numbered generations,
+     * {@code save.dat.1} being the most recent of them.
+     * The current level is stored as a {@link Mode#DELTA delta}, which runs a level
+     * generation on the calling thread.
+     *
+     * @param data        the save data
+     * @param savePath    the file path to save to
+     * @param generations how many saves to keep, the new one included
+     * @throws IOException if writing fails, in which case the previous save is left untouched
+     * @throws IllegalArgumentException if generations is not positive
+     */
+    public static void write(final SaveData data, final Path savePath, final int generations) throws IOException {
+        write(data, savePath, generations, Mode.DELTA);
+    }
+
+    /**
+     * Writes a save like {@link #write(SaveData, Path, int)}, choosing how the current level is stored.
+     *
+     * @param data        the save data
+     * @param savePath    the file path to save to
+     * @param generations how many saves to keep, the new one included
+     * @param mode        how the enemies and items of the current level are stored
+     * @throws IOException if writing fails, in which case the previous save is left untouched
+     * @throws IllegalArgumentException if generations is not positive
+     */
+    public static void write(final SaveData data, final Path savePath, final int generations, final Mode mode)
+            throws IOException {
+        if (generations < 1) {
+            throw new IllegalArgumentException("At least one generation must be kept");
         }
-        try (ObjectOutputStream oos = new ObjectOutputStream(
-                Files.newOutputStream(savePath))) {
-            oos.writeObject(data);
+        final long start = Metrics.start();
+        try {
+            final Path parent = savePath.getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            final Path temp = savePath.resolveSibling(savePath.getFileName() + TEMP_SUFFIX);
+            final ByteBuffer bytes = ByteBuffer.wrap(SaveFormat.encode(mode == Mode.DELTA ? toDelta(data) : data));
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                while (bytes.hasRemaining()) {
+                    channel.write(bytes);
+                }
+                channel.force(true);
+            }
+            rotate(savePath, generations);
+            try {
+                Files.move(temp, savePath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (final AtomicMoveNotSupportedException e) {
+                Files.move(temp, savePath, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Metrics.stop(Metrics.Probe.SAVE, start);
         }
     }
 
+    /**
+     * Converts a save that stores enemies and items in full into one that stores only how
+     * the current level differs from a copy generated again from its seed.
+     * The generation runs on the calling thread.
+     *
+     * @param data the save data
+     * @return the equivalent delta save, or the same save if it already is one
+     *         or if the difference would hold more records than the full save
+     */
+    public static SaveData toDelta(final SaveData data) {
+        if (data.getLevelDiff().isPresent()) {
+            return data;
+        }
+        final GameMap pristine = generateLevel(data.getBaseSeed(), data.getCurrentLevel()).getMap();
+        final LevelDiff diff = LevelDiff.between(data.getEnemies(), data.getItems(), data.getTriggeredTraps(),
+                pristine);
+        if (diff.size() > data.getEnemies().size() + data.getItems().size() + data.getTriggeredTraps().size()) {
+            // The level drifted too far from its generation for the difference to be any smaller
+            return data;
+        }
+        return new SaveData(data.getBaseSeed(), data.getCurrentLevel(), data.getPlayerData(),
+                Objects.requireNonNullElse(data.getRevealedRoomIndices(), List.of()),
+                Objects.requireNonNullElse(data.getRevealedHallwayIndices(), List.of()),
+                diff).withRevealedCells(data.getRevealedCells());
+    }
+
+    /**
+     * Returns the path of an older generation of a save.
+     *
+     * @param savePath   the path of the newest save
+     * @param generation 0 for the newest save, then 1, 2, ... for older ones
+     * @return the path of that generation
+     */
+    public static Path generationPath(final Path savePath, final int generation) {
+        return generation == 0 ? savePath : savePath.resolveSibling(savePath.getFileName() + "." + generation);
+    }
+
+    /**
+     * Loads the newest generation of a save that can be read, skipping corrupted ones.
+     *
+     * @param savePath    the path of the newest save
+     * @param generations how many generations to try
+     * @return the loaded save data
+     * @throws IOException if no generation can be read, reporting why the newest failed
+     * @throws ClassNotFoundException if deserialization of an old save fails
+     */
+    public static SaveData loadNewestValid(final Path savePath, final int generations)
+            throws IOException, ClassNotFoundException {
+        IOException newestFailure = null;
+        for (int i = 0; i < generations; i++) {
+            final Path path = generationPath(savePath, i);
+            if (i > 0 && !Files.exists(path)) {
+                continue;
+            }
+            try {
+                return load(path);
+            } catch (final IOException e) {
+                if (newestFailure == null) {
+                    newestFailure = e;
+                }
+            }
+        }
+        throw newestFailure == null ? new IOException("No save found") : newestFailure;
+    }
+
     /**
      * Loads game state from the specified file.
+     * Saves written with Java serialization by older versions are still read, and
+     * are rewritten in the binary format by the next save.
      *
      * @param savePath the file path to load from
      * @return the loaded save data
-     * @throws IOException if reading fails
-     * @throws ClassNotFoundException if deserialization fails
+     * @throws IOException if reading fails or the file is corrupted
+     * @throws ClassNotFoundException if deserialization of an old save fails
      */
     public static SaveData load(final Path savePath) throws IOException, ClassNotFoundException {
-        try (ObjectInputStream ois = new ObjectInputStream(
-                Files.newInputStream(savePath))) {
-            return (SaveData) ois.readObject();
+        final long start = Metrics.start();
+        try {
+            final byte[] bytes = Files.readAllBytes(savePath);
+            return SaveFormat.isLegacy(bytes) ? loadLegacy(bytes) : SaveFormat.decode(bytes);
+        } finally {
+            Metrics.stop(Metrics.Probe.LOAD, start);
+        }
+    }
+
+    private static SaveData loadLegacy(final byte[] bytes) throws IOException, ClassNotFoundException {
+        try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            final Object data = ois.readObject();
+            if (data instanceof SaveData saveData) {
+                return saveData;
+            }
+            throw new IOException("Not a save file");
         }
     }
 
@@ -131,18 +274,31 @@ public final class SaveManager {
      */
     public static DungeonController restore(final SaveData data,
                                             final DungeonRenderer renderer) {
-        final DungeonController controller = new DungeonController(data.getBaseSeed(), renderer);
+        return restore(data, new DungeonController(data.getBaseSeed(), renderer));
+    }
 
-        // Generate terrain
+    /**
+     * Restores saved data into a controller with the given renderer and sound system,
+     * such as headless ones.
+     *
+     * @param data the save data to restore from
+     * @param renderer the renderer to use
+     * @param soundSystem the sound system to use
+     * @return the restored dungeon controller
+     */
+    public static DungeonController restore(final SaveData data, final GameViewRenderer renderer,
+                                            final SoundSystem soundSystem) {
+        return restore(data, new DungeonController(data.getBaseSeed(), renderer, soundSystem));
+    }
+
+    private static DungeonController restore(final SaveData data, final DungeonController controller) {
+
+        // Generate the level as it was when the player first reached it
         final long levelSeed = data.getBaseSeed() + data.getCurrentLevel();
-        final LevelGenerator structureGen = new BSPLevelGenerator();
-        final GenerationConfig config = GenerationConfig.withDefaults(
-                MAP_WIDTH, MAP_HEIGHT, data.getCurrentLevel(), levelSeed
-        );
-        final Level level = structureGen.generate(config);
-        final GameMap map = level.getMap();
+        final GameMap map = generateLevel(data.getBaseSeed(), data.getCurrentLevel()).getMap();
+        final RandomContext random = new RandomContext(levelSeed).stream(RandomContext.Stream.POPULATION);
 
-        // Restore fog of war (revealed rooms and hallways)
+        // Restore fog of war (revealed rooms and hallways, then the cells seen from outside them)
         final List<Integer> revealedRooms = data.getRevealedRoomIndices();
         if (revealedRooms != null) {
             final List<Room> rooms = map.getRooms();
@@ -161,12 +317,14 @@ public final class SaveManager {
                 }
             }
         }
+        map.revealCells(data.getRevealedCells());
 
         // Restore player
         final SaveData.PlayerData pd = data.getPlayerData();
         final Position playerPos = new Position(pd.getPosX(), pd.getPosY());
         final Player player = new PlayerImpl(
-                pd.getMaxHp(), pd.getLevel(), pd.getArmorClass(), playerPos
+                pd.getMaxHp(), pd.getLevel(), pd.getArmorClass(), playerPos,
+                new RandomContext(data.getBaseSeed()).stream(RandomContext.Stream.PLAYER)
         );
 
         // Restore current HP (constructor sets HP to maxHp)
@@ -177,45 +335,90 @@ public final class SaveManager {
 
         // Restore inventory
         for (final SaveData.ItemData itemData : pd.getInventoryItems()) {
-            final Optional<Item> item = createItemFromData(itemData);
+            final Optional<Item> item = EntityCodec.decodeItem(itemData);
             item.ifPresent(i -> player.getInventory().addItem(i));
         }
 
-        // Restore enemies
-        for (final SaveData.EnemyData ed : data.getEnemies()) {
-            final Position ePos = new Position(ed.getPosX(), ed.getPosY());
-            final Enemy enemy = createEnemyFromData(ed.getType(), ePos);
-            map.addEntity(enemy);
-        }
+        if (data.getLevelDiff().isPresent()) {
+            data.getLevelDiff().get().applyTo(map, random);
+        } else {
+            // Saves in full replace what the generation placed
+            for (final Entity entity : List.copyOf(map.getEntities())) {
+                map.removeEntity(entity);
+            }
+            for (final Position pos : List.copyOf(map.getItems().keySet())) {
+                map.removeItemAt(pos);
+            }
 
-        // Restore items on map
-        for (final SaveData.ItemData id : data.getItems()) {
-            final Position iPos = new Position(id.getPosX(), id.getPosY());
-            final Optional<Item> item = createItemFromData(id);
-            item.ifPresent(i -> map.addItem(iPos, i));
-        }
+            // Restore enemies, reusing the generated ones so they keep their spawn indices
+            final BitSet reused = new BitSet();
+            for (final SaveData.EnemyData ed : data.getEnemies()) {
+                final int idx = ed.getSpawnIndex();
+                final Optional<Enemy> generated = map.getSpawned(idx)
+                        .filter(Enemy.class::isInstance)
+                        .map(Enemy.class::cast)
+                        .filter(enemy -> !reused.get(idx) && EntityCodec.enemyType(enemy).equals(ed.getType()));
+                if (generated.isPresent()) {
+                    reused.set(idx);
+                    new LevelDiff.EnemyChange(idx, ed.getPosX(), ed.getPosY(), ed.getHp(), ed.isAwake())
+                            .applyTo(generated.get());
+                    map.addEntity(generated.get());
+                } else {
+                    map.addEntity(EntityCodec.decodeEnemy(ed, random));
+                }
+            }
+
+            // Restore items on map
+            for (final SaveData.ItemData id : data.getItems()) {
+                final Position iPos = new Position(id.getPosX(), id.getPosY());
+                final Optional<Item> item = EntityCodec.decodeItem(id);
+                item.ifPresent(i -> map.addItem(iPos, i));
+            }
+            LevelDiff.triggerTraps(map, data.getTriggeredTraps());
 
-        // Spawn amulet on amulet level
-        if (data.getCurrentLevel() >= AMULET_LEVEL) {
-            spawnAmuletOnMap(map);
+            // Spawn amulet on amulet level
+            if (data.getCurrentLevel() >= AMULET_LEVEL) {
+                spawnAmuletOnMap(map, random);
+            }
         }
 
         controller.restoreState(data.getCurrentLevel(), player, map);
         return controller;
     }
 
-    private static void spawnAmuletOnMap(final GameMap map) {
+    private static Level generateLevel(final long baseSeed, final int levelNumber) {
+        // Same generator and configuration as DungeonController, so the result matches the played level
+        final LevelGenerator generator = new PopulatedLevelGenerator(SpawnConfig.defaults());
+        return generator.generate(GenerationConfig.withDefaults(MAP_WIDTH, MAP_HEIGHT, levelNumber,
+                baseSeed + levelNumber));
+    }
+
+    private static void rotate(final Path savePath, final int generations) throws IOException {
+        if (generations < 2 || !Files.exists(savePath)) {
+            return;
+        }
+        for (int i = generations - 1; i > 1; i--) {
+            final Path older = generationPath(savePath, i - 1);
+            if (Files.exists(older)) {
+                Files.move(older, generationPath(savePath, i), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        // Copied rather than moved, so the destination holds a complete save at every moment
+        Files.copy(savePath, generationPath(savePath, 1), StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private static void spawnAmuletOnMap(final GameMap map, final RandomContext random) {
         final List<Room> rooms = map.getRooms();
         final List<Room> candidateRooms = new ArrayList<>();
         for (int i = 1; i < rooms.size(); i++) {
             candidateRooms.add(rooms.get(i));
         }
-        Collections.shuffle(candidateRooms);
+        random.shuffle(candidateRooms);
         for (final Room room : candidateRooms) {
             final List<Position> positions = getFloorPositions(map, room);
             if (!positions.isEmpty()) {
-                final Position pos = positions.get(GameRandom.nextInt(positions.size()));
-                final Amulet amulet = (Amulet) new ItemFactoryImpl().createAmulet();
+                final Position pos = positions.get(random.nextInt(positions.size()));
+                final Amulet amulet = (Amulet) new ItemFactoryImpl(random).createAmulet();
                 map.addItem(pos, amulet);
                 return;
             }
@@ -227,9 +430,8 @@ public final class SaveManager {
         final Position topLeft = room.getTopLeft();
         for (int y = topLeft.y() + 1; y < topLeft.y() + room.getHeight() - 1; y++) {
             for (int x = topLeft.x() + 1; x < topLeft.x() + room.getWidth() - 1; x++) {
-                final Position pos = new Position(x, y);
-                if (map.getTileAt(pos) == Tile.FLOOR) {
-                    positions.add(pos);
+                if (map.getTileAt(x, y) == Tile.FLOOR) {
+                    positions.add(new Position(x, y));
                 }
             }
         }
@@ -256,11 +458,7 @@ public final class SaveManager {
         final List<SaveData.EnemyData> enemies = new ArrayList<>();
         for (final Enemy enemy : map.getEnemies()) {
             if (enemy.isAlive()) {
-                enemies.add(new SaveData.EnemyData(
-                        getEnemyType(enemy),
-                        enemy.getPosition().x(),
-                        enemy.getPosition().y()
-                ));
+                enemies.add(EntityCodec.encodeEnemy(enemy, map.getSpawnIndex(enemy).orElse(-1)));
             }
         }
 
@@ -268,11 +466,11 @@ public final class SaveManager {
         final List<SaveData.ItemData> items = new ArrayList<>();
         for (final Map.Entry<Position, Item> entry : map.getItems().entrySet()) {
             final Position pos = entry.getKey();
-            final SaveData.ItemData itemData = createItemData(entry.getValue(), pos.x(), pos.y());
+            final SaveData.ItemData itemData = EntityCodec.encodeItem(entry.getValue(), pos.x(), pos.y());
             items.add(itemData);
         }
 
-        // Extract revealed rooms and hallways (fog of war state)
+        // Extract revealed rooms, hallways and cells (fog of war state) and the triggered traps
         final List<Integer> revealedRoomIndices = new ArrayList<>();
         final List<Room> rooms = map.getRooms();
         for (int i = 0; i < rooms.size(); i++) {
@@ -289,7 +487,8 @@ public final class SaveManager {
         }
 
         return new SaveData(dc.getBaseSeed(), dc.getCurrentLevel(), playerData, enemies, items,
-                revealedRoomIndices, revealedHallwayIndices);
+                revealedRoomIndices, revealedHallwayIndices).withRevealedCells(map.getRevealedCells())
+                .withTriggeredTraps(LevelDiff.triggeredTraps(map));
     }
 
     private static List<SaveData.ItemData> extractInventoryItems(final Inventory inventory) {
@@ -298,70 +497,9 @@ public final class SaveManager {
             final Optional<Item> item = inventory.getItem(i);
             if (item.isPresent()) {
                 // -1 -1 are coords for inventory
-                items.add(createItemData(item.get(), -1, -1));
+                items.add(EntityCodec.encodeItem(item.get(), -1, -1));
             }
         }
         return items;
     }
-
-    private static SaveData.ItemData createItemData(final Item item,
-                                                     final int posX, final int posY) {
-        // Only ring + weapons + armors have names
-        if (item instanceof Gold gold) {
-            return new SaveData.ItemData(ITEM_GOLD, posX, posY, "", gold.getAmount());
-        } else if (item instanceof HealthPotion) {
-            return new SaveData.ItemData(ITEM_POTION, posX, posY, "", 0);
-        } else if (item instanceof Food) {
-            return new SaveData.ItemData(ITEM_FOOD, posX, posY, "", 0);
-        } else if (item instanceof Ring ring) {
-            return new SaveData.ItemData(ITEM_RING, posX, posY, ring.getName(), ring.getBonus());
-        } else if (item instanceof Scroll) {
-            return new SaveData.ItemData(ITEM_SCROLL, posX, posY, "", 0);
-        } else if (item instanceof MeleeWeapon weapon) {
-            return new SaveData.ItemData(ITEM_WEAPON, posX, posY, weapon.getName(), weapon.getBonus());
-        } else if (item instanceof Armor armor) {
-            return new SaveData.ItemData(ITEM_ARMOR, posX, posY, armor.getName(), armor.getBonus());
-        }
-        return new SaveData.ItemData(ITEM_GOLD, posX, posY, "", 1);
-    }
-
-    private static Optional<Item> createItemFromData(final SaveData.ItemData data) {
-        // ER = error when the name of the item is required but something went wrong during save so "default" name is used
-        return switch (data.getType()) {
-            case ITEM_GOLD -> Optional.of(new Gold(Math.max(1, data.getValue())));
-            case ITEM_POTION -> Optional.of(new HealthPotion());
-            case ITEM_FOOD -> Optional.of(new Food());
-            case ITEM_RING -> Optional.of(new Ring(
-                    data.getName().isEmpty() ? "Anello (ER)" : data.getName(),
-                    data.getValue() > 0 ? data.getValue() : DEFAULT_RING_HEALING));
-            case ITEM_SCROLL -> Optional.of(new Scroll());
-            case ITEM_WEAPON -> Optional.of(new MeleeWeapon(
-                    data.getName().isEmpty() ? "Arma (ER)" : data.getName(),
-                    data.getValue()));
-            case ITEM_ARMOR -> Optional.of(new Armor(
-                    data.getName().isEmpty() ? "Armatura (ER)" : data.getName(),
-                    data.getValue()));
-            default -> Optional.empty();
-        };
-    }
-
-    private static String getEnemyType(final Enemy enemy) {
-        if (enemy instanceof Bat) {
-            return ENEMY_BAT;
-        } else if (enemy instanceof HobGoblin) {
-            return ENEMY_GOBLIN;
-        } else if (enemy instanceof Dragon) {
-            return ENEMY_DRAGON;
-        }
-        return ENEMY_BAT;
-    }
-
-    private static Enemy createEnemyFromData(final String type, final Position pos) {
-        // goblin -> new HobGoblin, dragon -> new Dragon, bat -> new Bat
-        return switch (type) {
-            case ENEMY_GOBLIN -> new HobGoblin(pos);
-            case ENEMY_DRAGON -> new Dragon(pos);
-            default -> new Bat(pos);
-        };
-    }
 }
@@ -0,0 +1,296 @@
+package it.unibo.jrogue.engine;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.LongSupplier;
+
+import it.unibo.jrogue.commons.Move;
+
+/**
+ * Journal of every input of a game, appended to a memory-mapped file.
+ *
+ * <p>
+ * The file starts with the base seed of the game, followed by one record per input:
+ * a single byte for a turn or the stairs, two bytes for an inventory action. Every few
+ * turns a checkpoint records the hash of the state reached, so a replay can tell where
+ * it diverged. Records are written straight into the mapped pages, so the journal
+ * survives a crash of the game without any explicit flush; the unused tail of the file
+ * is zero filled, which marks the end of the records.
+ * </p>
+ */
+public final class TurnJournal implements TurnRecorder, Closeable {
+
+    /** Default number of turns between two checkpoints. */
+    public static final int DEFAULT_CHECKPOINT_INTERVAL = 100;
+
+    private static final String JOURNAL_FILE_NAME = "journal.bin";
+    private static final int MAGIC = 0x4A524A4C;
+    private static final byte VERSION = 1;
+    private static final int REGION_SIZE = 1 << 16;
+    private static final int MAX_RECORD_SIZE = 1 + Long.BYTES;
+    private static final int MAX_INDEX = 0xFF;
+    private static final int TAG_END = 0;
+    private static final int TAG_MOVE = 1;
+    private static final int TAG_USE = 0x10;
+    private static final int TAG_DROP = 0x11;
+    private static final int TAG_DESCEND = 0x20;
+    private static final int TAG_CHECKPOINT = 0x30;
+    private static final List<Move> MOVES = List.of(Move.values());
+
+    private final FileChannel channel;
+    private final int checkpointInterval;
+    private MappedByteBuffer buffer;
+    private Optional<IOException> error = Optional.empty();
+    private int turns;
+
+    private TurnJournal(final FileChannel channel, final int checkpointInterval) throws IOException {
+        this.channel = channel;
+        this.checkpointInterval = checkpointInterval;
+        this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, REGION_SIZE);
+    }
+
+    /**
+     * Creates a journal for a new game, replacing any previous one at the same path.
+     *
+     * @param path               the journal file
+     * @param seed               the base seed of the game
+     * @param checkpointInterval the number of turns between two checkpoints
+     * @return the journal, ready to record
+     * @throws IOException              if the file cannot be created
+     * @throws IllegalArgumentException if the interval is not positive
+     */
+    public static TurnJournal create(final Path path, final long seed, final int checkpointInterval)
+            throws IOException {
+        if (checkpointInterval <= 0) {
+            throw new IllegalArgumentException("checkpointInterval must be positive");
+        }
+        final Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        final FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            final TurnJournal journal = new TurnJournal(channel, checkpointInterval);
+            journal.buffer.putInt(MAGIC).put(VERSION).putLong(seed);
+            return journal;
+        } catch (final IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the default journal file, next to the save file.
+     *
+     * @return the path of the journal
+     */
+    public static Path getDefaultPath() {
+        return SaveManager.getDefaultSavePath().resolveSibling(JOURNAL_FILE_NAME);
+    }
+
+    @Override
+    public void recordTurn(final Move move, final LongSupplier stateHash) {
+        if (reserve()) {
+            buffer.put((byte) (TAG_MOVE + move.ordinal()));
+            turns++;
+            if (turns % checkpointInterval == 0) {
+                buffer.put((byte) TAG_CHECKPOINT).putLong(stateHash.getAsLong());
+            }
+        }
+    }
+
+    @Override
+    public void recordUse(final int index) {
+        recordItem(TAG_USE, index);
+    }
+
+    @Override
+    public void recordDrop(final int index) {
+        recordItem(TAG_DROP, index);
+    }
+
+    @Override
+    public void recordDescend() {
+        if (reserve()) {
+            buffer.put((byte) TAG_DESCEND);
+        }
+    }
+
+    /**
+     * Returns the error that stopped the recording, if any.
+     * The game goes on when the journal cannot grow, only the recording stops.
+     *
+     * @return the error, or empty if every input was recorded
+     */
+    public Optional<IOException> getError() {
+        return error;
+    }
+
+    /**
+     * Forces the records to the storage device and closes the file.
+     *
+     * @throws IOException if the file cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        if (channel.isOpen()) {
+            buffer.force();
+            channel.close();
+        }
+    }
+
+    /**
+     * Opens a journal for reading.
+     *
+     * @param path the journal file
+     * @return a reader positioned on the first record
+     * @throws IOException if the file cannot be read or is not a journal
+     */
+    public static Reader read(final Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final MappedByteBuffer data = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            try {
+                if (data.getInt() != MAGIC || data.get() != VERSION) {
+                    throw new IOException("Not a turn journal: " + path);
+                }
+                return new Reader(data, data.getLong());
+            } catch (final BufferUnderflowException e) {
+                throw new IOException("Truncated turn journal: " + path, e);
+            }
+        }
+    }
+
+    private void recordItem(final int tag, final int index) {
+        if (index < 0 || index > MAX_INDEX) {
+            throw new IllegalArgumentException("Inventory index out of range: " + index);
+        }
+        if (reserve()) {
+            buffer.put((byte) tag).put((byte) index);
+        }
+    }
+
+    /**
+     * Makes room for the largest record, growing the mapping when the current one is full.
+     */
+    private boolean reserve() {
+        if (error.isPresent() || !channel.isOpen()) {
+            return false;
+        }
+        // Two records at most are written at once, and a zero byte must stay after them
+        if (buffer.remaining() <= 2 * MAX_RECORD_SIZE) {
+            try {
+                final int position = buffer.position();
+                buffer.force();
+                buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, (long) buffer.capacity() + REGION_SIZE);
+                buffer.position(position);
+            } catch (final IOException e) {
+                error = Optional.of(e);
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Kind of a journal record.
+     */
+    public enum Kind {
+        /** A turn played with a move. */
+        TURN,
+        /** An item of the inventory used. */
+        USE,
+        /** An item of the inventory dropped. */
+        DROP,
+        /** The stairs taken down. */
+        DESCEND,
+        /** The hash of the state after the previous turn. */
+        CHECKPOINT
+    }
+
+    /**
+     * A record of the journal.
+     *
+     * @param kind      the kind of record
+     * @param move      the move of a turn, {@link Move#IDLE} for other kinds
+     * @param index     the inventory index of an item action, -1 for other kinds
+     * @param stateHash the hash of a checkpoint, 0 for other kinds
+     */
+    public record Entry(Kind kind, Move move, int index, long stateHash) {
+
+        /**
+         * Creates a record.
+         *
+         * @param kind      the kind of record
+         * @param move      the move of a turn, {@link Move#IDLE} for other kinds
+         * @param index     the inventory index of an item action, -1 for other kinds
+         * @param stateHash the hash of a checkpoint, 0 for other kinds
+         */
+        public Entry {
+            Objects.requireNonNull(kind, "kind cannot be null");
+            Objects.requireNonNull(move, "move cannot be null");
+        }
+    }
+
+    /**
+     * Sequential reader of a journal.
+     */
+    public static final class Reader {
+
+        private final MappedByteBuffer data;
+        private final long seed;
+
+        private Reader(final MappedByteBuffer data, final long seed) {
+            this.data = data;
+            this.seed = seed;
+        }
+
+        /**
+         * Returns the base seed of the recorded game.
+         *
+         * @return the seed
+         */
+        public long getSeed() {
+            return seed;
+        }
+
+        /**
+         * Reads the next record.
+         *
+         * @return the record, or empty at the end of the journal
+         * @throws IOException if the record is malformed
+         */
+        public Optional<Entry> next() throws IOException {
+            if (!data.hasRemaining()) {
+                return Optional.empty();
+            }
+            final int tag = Byte.toUnsignedInt(data.get());
+            try {
+                if (tag == TAG_END) {
+                    return Optional.empty();
+                } else if (tag >= TAG_MOVE && tag < TAG_MOVE + MOVES.size()) {
+                    return Optional.of(new Entry(Kind.TURN, MOVES.get(tag - TAG_MOVE), -1, 0));
+                } else if (tag == TAG_USE || tag == TAG_DROP) {
+                    return Optional.of(new Entry(tag == TAG_USE ? Kind.USE : Kind.DROP, Move.IDLE,
+                            Byte.toUnsignedInt(data.get()), 0));
+                } else if (tag == TAG_DESCEND) {
+                    return Optional.of(new Entry(Kind.DESCEND, Move.IDLE, -1, 0));
+                } else if (tag == TAG_CHECKPOINT) {
+                    return Optional.of(new Entry(Kind.CHECKPOINT, Move.IDLE, -1, data.getLong()));
+                }
+            } catch (final BufferUnderflowException e) {
+                throw new IOException("Truncated journal record", e);
+            }
+            throw new IOException("Unknown journal record: " + tag);
+        }
+    }
+}
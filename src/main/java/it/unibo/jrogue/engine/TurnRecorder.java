@@ -0,0 +1,62 @@
+package it.unibo.jrogue.engine;
+
+import java.util.function.LongSupplier;
+
+import it.unibo.jrogue.commons.Move;
+
+/**
+ * Receives every input that changes the state of a game, in the order it was applied.
+ * Since levels and rolls are seeded, these inputs are enough to play the game again.
+ */
+public interface TurnRecorder {
+
+    /** Recorder that ignores everything. */
+    TurnRecorder NONE = new TurnRecorder() {
+        @Override
+        public void recordTurn(final Move move, final LongSupplier stateHash) {
+            // Nothing is recorded
+        }
+
+        @Override
+        public void recordUse(final int index) {
+            // Nothing is recorded
+        }
+
+        @Override
+        public void recordDrop(final int index) {
+            // Nothing is recorded
+        }
+
+        @Override
+        public void recordDescend() {
+            // Nothing is recorded
+        }
+    };
+
+    /**
+     * Records a turn that was just played.
+     *
+     * @param move      the move of the player
+     * @param stateHash computes the hash of the state reached, only called when the recorder checks it
+     */
+    void recordTurn(Move move, LongSupplier stateHash);
+
+    /**
+     * Records that the player used an item of the inventory.
+     *
+     * @param index the index of the item
+     */
+    void recordUse(int index);
+
+    /**
+     * Records that the player dropped an item of the inventory.
+     *
+     * @param index the index of the item
+     */
+    void recordDrop(int index);
+
+    /**
+     * Records that the player took the stairs down.
+     */
+    void recordDescend();
+}
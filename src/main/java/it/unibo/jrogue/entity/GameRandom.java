@@ -1,13 +1,24 @@
 package it.unibo.jrogue.entity;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.Random;
+import java.util.random.RandomGenerator;
 
 /**
  * Utility class that provides a centralized, deterministic source of randomness.
+ * Each thread owns its own generator, so games played on different threads
+ * never interleave their random streams.
+ *
+ * <p>
+ * This is the legacy entry point kept for code that has no {@link RandomContext}
+ * at hand; game and generation code receives a context instead.
+ * </p>
  */
 public final class GameRandom {
 
-    private static final Random RAND = new Random();
+    private static final ThreadLocal<Random> RAND = ThreadLocal.withInitial(Random::new);
+    private static final RandomGenerator GENERATOR = new ThreadGenerator();
 
     /**
      * Private constructor to prevent instantion of this utility class.
@@ -17,12 +28,12 @@ public final class GameRandom {
     }
 
     /**
-     * Sets the seed for the random number generator.
+     * Sets the seed for the random number generator of the calling thread.
      *
      * @param seed the seed value for random generation.
      */
     public static void setSeed(final long seed) {
-        RAND.setSeed(seed);
+        RAND.get().setSeed(seed);
     }
 
     /**
@@ -31,7 +42,7 @@ public final class GameRandom {
      * @return the next random integer.
      */
     public static int nextInt() {
-        return RAND.nextInt();
+        return RAND.get().nextInt();
     }
 
     /**
@@ -42,7 +53,7 @@ public final class GameRandom {
      * @throws IllegalArgumentExceptions if bounds is not positive.
      */
     public static int nextInt(final int bound) {
-        return RAND.nextInt(bound);
+        return RAND.get().nextInt(bound);
     }
 
     /**
@@ -51,7 +62,7 @@ public final class GameRandom {
      * @return the next random double.
      */
     public static double nextDouble() {
-        return RAND.nextDouble();
+        return RAND.get().nextDouble();
     }
 
     /**
@@ -62,7 +73,7 @@ public final class GameRandom {
      * @throws IllegalArgumentExceptions if bounds is not positive.
      */
     public static double nextDouble(final double bound) {
-        return RAND.nextDouble(bound);
+        return RAND.get().nextDouble(bound);
     }
 
     /**
@@ -71,7 +82,56 @@ public final class GameRandom {
      * @return the next random boolean.
      */
     public static boolean nextBoolean() {
-        return RAND.nextBoolean();
+        return RAND.get().nextBoolean();
     }
 
+    /**
+     * Randomly permutes the given list using the generator of the calling thread.
+     *
+     * @param list the list to shuffle.
+     */
+    public static void shuffle(final List<?> list) {
+        Collections.shuffle(list, RAND.get());
+    }
+
+    /**
+     * Returns a generator view that always draws from the calling thread's generator.
+     * It lets legacy callers pass this class where a {@link RandomGenerator} is expected.
+     *
+     * @return the shared generator view.
+     */
+    public static RandomGenerator generator() {
+        return GENERATOR;
+    }
+
+    /**
+     * Generator view forwarding every call to the generator of the current thread.
+     */
+    private static final class ThreadGenerator implements RandomGenerator {
+
+        @Override
+        public long nextLong() {
+            return RAND.get().nextLong();
+        }
+
+        @Override
+        public int nextInt() {
+            return RAND.get().nextInt();
+        }
+
+        @Override
+        public int nextInt(final int bound) {
+            return RAND.get().nextInt(bound);
+        }
+
+        @Override
+        public double nextDouble() {
+            return RAND.get().nextDouble();
+        }
+
+        @Override
+        public boolean nextBoolean() {
+            return RAND.get().nextBoolean();
+        }
+    }
 }
@@ -0,0 +1,121 @@
+package it.unibo.jrogue.entity;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Deterministic source of randomness owned by a single game or generator.
+ *
+ * <p>
+ * A context is created from a seed and can derive an independent child context
+ * for each subsystem. Derivation depends only on the parent seed and the stream,
+ * never on how many numbers were drawn before, so subsystems can consume their
+ * streams in any order or on different threads and still produce reproducible results.
+ * A context is not thread safe: give each thread its own derived context.
+ * </p>
+ */
+public final class RandomContext implements RandomGenerator {
+
+    /**
+     * Independent random streams used by the game subsystems.
+     */
+    public enum Stream {
+        /**
+         * Placement of items, enemies and traps of a level, and the rolls later
+         * made by the enemies placed there.
+         */
+        POPULATION,
+        /**
+         * Rolls made by the player.
+         */
+        PLAYER
+    }
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+    private static final long MIX_1 = 0xBF58476D1CE4E5B9L;
+    private static final long MIX_2 = 0x94D049BB133111EBL;
+    private static final int SHIFT_1 = 30;
+    private static final int SHIFT_2 = 27;
+    private static final int SHIFT_3 = 31;
+
+    private final long seed;
+    private final SplittableRandom random;
+
+    /**
+     * Creates a context from a seed.
+     *
+     * @param seed the seed of the context
+     */
+    public RandomContext(final long seed) {
+        this.seed = seed;
+        this.random = new SplittableRandom(seed);
+    }
+
+    /**
+     * Returns the seed this context was created from.
+     *
+     * @return the seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Derives the context of a subsystem.
+     *
+     * @param stream the subsystem
+     * @return a new context, always the same for the same seed and stream
+     */
+    public RandomContext stream(final Stream stream) {
+        return new RandomContext(mix(seed + GOLDEN_GAMMA * (stream.ordinal() + 1)));
+    }
+
+    /**
+     * Randomly permutes the given list.
+     *
+     * @param list the list to shuffle
+     */
+    public void shuffle(final List<?> list) {
+        Collections.shuffle(list, this);
+    }
+
+    @Override
+    public long nextLong() {
+        return random.nextLong();
+    }
+
+    @Override
+    public int nextInt() {
+        return random.nextInt();
+    }
+
+    @Override
+    public int nextInt(final int bound) {
+        return random.nextInt(bound);
+    }
+
+    @Override
+    public double nextDouble() {
+        return random.nextDouble();
+    }
+
+    @Override
+    public boolean nextBoolean() {
+        return random.nextBoolean();
+    }
+
+    /**
+     * SplitMix64 finalizer, spreading nearby inputs over the whole range.
+     *
+     * @param value the value to mix
+     * @return the mixed value
+     */
+    private static long mix(final long value) {
+        long z = value;
+        z = (z ^ (z >>> SHIFT_1)) * MIX_1;
+        z = (z ^ (z >>> SHIFT_2)) * MIX_2;
+        return z ^ (z >>> SHIFT_3);
+    }
+}
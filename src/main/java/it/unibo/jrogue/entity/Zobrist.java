@@ -0,0 +1,101 @@
+package it.unibo.jrogue.entity;
+
+import it.unibo.jrogue.entity.items.api.Equipment;
+import it.unibo.jrogue.entity.items.api.Item;
+import it.unibo.jrogue.entity.items.impl.Gold;
+import it.unibo.jrogue.entity.world.api.Trap;
+
+/**
+ * Keys and mixing for Zobrist-style hashes of the game state.
+ *
+ * <p>
+ * The state hash of a map is the XOR of one key per feature (a tile, an item, a trap,
+ * the state hash of an entity), so adding, removing or changing a feature costs one XOR
+ * whatever the size of the map. Instead of tables of random numbers, the key of a feature
+ * is derived by mixing what identifies it, which gives the same keys in every run without
+ * storing one per cell.
+ * </p>
+ */
+public final class Zobrist {
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+    private static final long MIX_1 = 0xBF58476D1CE4E5B9L;
+    private static final long MIX_2 = 0x94D049BB133111EBL;
+    private static final int SHIFT_1 = 30;
+    private static final int SHIFT_2 = 27;
+    private static final int SHIFT_3 = 31;
+
+    /**
+     * Private constructor to prevent instantion of this utility class.
+     */
+    private Zobrist() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    /**
+     * Kind of feature a key describes, so equal values of different features never share a key.
+     */
+    public enum Feature {
+        /** A terrain tile. */
+        TILE,
+        /** An item lying on the floor. */
+        ITEM,
+        /** A trap. */
+        TRAP
+    }
+
+    /**
+     * Returns the key of a feature on a cell.
+     *
+     * @param feature the kind of feature
+     * @param x       the column of the cell
+     * @param y       the row of the cell
+     * @param value   what is on the cell, such as an ordinal or a hash
+     * @return the key
+     */
+    public static long key(final Feature feature, final int x, final int y, final long value) {
+        return combine(combine(combine(feature.ordinal(), x), y), value);
+    }
+
+    /**
+     * Returns the value hashed for an item: its type and its value, the amount of a gold
+     * sack or the bonus of an equipment, together with what its description reveals.
+     * Unidentified rings share a description but not a bonus, so they still hash apart.
+     *
+     * @param item the item
+     * @return the value to use in the key of the item
+     */
+    public static long itemValue(final Item item) {
+        long hash = combine(item.getClass().getSimpleName().hashCode(), item.getDescription().hashCode());
+        if (item instanceof Gold gold) {
+            hash = combine(hash, gold.getAmount());
+        } else if (item instanceof Equipment equipment) {
+            hash = combine(hash, equipment.getBonus());
+        }
+        return hash;
+    }
+
+    /**
+     * Returns the value hashed for a trap: its type and whether it is still active.
+     *
+     * @param trap the trap
+     * @return the value to use in the key of the trap
+     */
+    public static long trapValue(final Trap trap) {
+        return combine(trap.getClass().getSimpleName().hashCode(), trap.isActive() ? 1 : 0);
+    }
+
+    /**
+     * Mixes a value into a hash. Unlike a XOR, the result depends on the order of the values.
+     *
+     * @param hash  the hash so far
+     * @param value the value to add
+     * @return the new hash
+     */
+    public static long combine(final long hash, final long value) {
+        long z = hash * GOLDEN_GAMMA + value + GOLDEN_GAMMA;
+        z = (z ^ (z >>> SHIFT_1)) * MIX_1;
+        z = (z ^ (z >>> SHIFT_2)) * MIX_2;
+        return z ^ (z >>> SHIFT_3);
+    }
+}
@@ -5,12 +5,18 @@ import java.util.Optional;
 import it.unibo.jrogue.commons.Move;
 import it.unibo.jrogue.commons.Position;
 import it.unibo.jrogue.entity.items.api.Item;
+import it.unibo.jrogue.entity.world.api.GameMap;
 
 /**
  * Defines the contract for all enemy entities in the game.
  */
 public interface Enemy extends Entity {
 
+    /**
+     * Speed of an enemy that acts once per turn of the player.
+     */
+    int NORMAL_SPEED = 100;
+
     /**
      * Check whether the enemy is currently sleeping.
      * 
@@ -23,6 +29,22 @@ public interface Enemy extends Entity {
      */
     void wakeUp();
 
+    /**
+     * Returns how fast the enemy acts, relative to {@link #NORMAL_SPEED}:
+     * an enemy with twice the normal speed acts twice per turn of the player.
+     * 
+     * @return the speed of the enemy.
+     */
+    int getSpeed();
+
+    /**
+     * Changes how fast the enemy acts.
+     * 
+     * @param speed the new speed, relative to {@link #NORMAL_SPEED}.
+     * @throws IllegalArgumentException if speed is not positive.
+     */
+    void setSpeed(int speed);
+
     /**
      * Determines the next move for this enemy based on the player's position.
      * 
@@ -31,6 +53,16 @@ public interface Enemy extends Entity {
      */
     Move getNextMove(Position playerPosition);
 
+    /**
+     * Determines the next move for this enemy, using the map to check
+     * whether walls hide the player.
+     * 
+     * @param map            The map the enemy is on.
+     * @param playerPosition The current position of the player.
+     * @return the next move for this enemy.
+     */
+    Move getNextMove(GameMap map, Position playerPosition);
+
     /**
      * Computes whether the enemy should be sleeping.
      * 
@@ -46,6 +78,16 @@ public interface Enemy extends Entity {
      */
     boolean canSeePlayer(Position playerPosition);
 
+    /**
+     * Checks whether the enemy has a clear line of sight to the player
+     * within its visibility range.
+     * 
+     * @param map            The map the enemy is on.
+     * @param playerPosition The current position of the player.
+     * @return true if the enemy can see the player, false otherwise.
+     */
+    boolean canSeePlayer(GameMap map, Position playerPosition);
+
     /**
      * Return the amount of xp that the enemy drop when is killed.
      * 
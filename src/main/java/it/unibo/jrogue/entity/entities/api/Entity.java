@@ -1,5 +1,7 @@
 package it.unibo.jrogue.entity.entities.api;
 
+import java.util.function.LongConsumer;
+
 import it.unibo.jrogue.commons.Move;
 import it.unibo.jrogue.commons.Position;
 
@@ -94,4 +96,19 @@ public interface Entity {
      */
     void levelUp();
 
+    /**
+     * Returns a hash of the whole state of the entity, kept up to date as the entity changes.
+     * 
+     * @return the state hash.
+     */
+    long stateHash();
+
+    /**
+     * Sets who is told how the state hash changes, replacing the previous listener.
+     * The listener receives the XOR of the old and new hash after every change.
+     * 
+     * @param listener the listener.
+     */
+    void setStateListener(LongConsumer listener);
+
 }
@@ -2,6 +2,7 @@ package it.unibo.jrogue.entity.entities.api;
 
 import it.unibo.jrogue.commons.Move;
 import it.unibo.jrogue.commons.Position;
+import it.unibo.jrogue.entity.world.api.GameMap;
 
 /**
  * Interface for enemy movement behavior.
@@ -16,4 +17,18 @@ public interface MovementStrategy {
      * @return The calculated move.
      */
     Move calculateNextMove(Position start, Position target);
+
+    /**
+     * Determines the next move knowing the map the entity is on.
+     * Strategies that care about the terrain override this; by default
+     * the map is ignored.
+     * 
+     * @param map The map the entity is on.
+     * @param start The start position of the entity.
+     * @param target The position of the player.
+     * @return The calculated move.
+     */
+    default Move calculateNextMove(final GameMap map, final Position start, final Position target) {
+        return calculateNextMove(start, target);
+    }
 }
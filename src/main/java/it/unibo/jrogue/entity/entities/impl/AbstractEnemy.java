@@ -1,18 +1,21 @@
 package it.unibo.jrogue.entity.entities.impl;
 
-import java.util.Collections;
-import java.util.LinkedList;
-import java.util.List;
+import java.util.BitSet;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.random.RandomGenerator;
 
 import it.unibo.jrogue.commons.Dice;
 import it.unibo.jrogue.commons.Move;
 import it.unibo.jrogue.commons.Position;
 import it.unibo.jrogue.entity.GameRandom;
+import it.unibo.jrogue.entity.Zobrist;
 import it.unibo.jrogue.entity.entities.api.Enemy;
 import it.unibo.jrogue.entity.entities.api.MovementStrategy;
 import it.unibo.jrogue.entity.items.api.Item;
+import it.unibo.jrogue.entity.world.api.FieldOfView;
+import it.unibo.jrogue.entity.world.api.GameMap;
+import it.unibo.jrogue.entity.world.impl.ShadowcastingFieldOfView;
 
 /**
  * Base implementation for all enemy entities.
@@ -27,10 +30,13 @@ public abstract class AbstractEnemy extends AbstractEntity implements Enemy {
      * The probability (1 out of 10) that an enemy spawns sleeping.
      */
     private static final int SLEEP_CHANCE = 10;
+    private static final FieldOfView FIELD_OF_VIEW = new ShadowcastingFieldOfView();
 
     private final MovementStrategy movementStrategy;
     private final int visibility;
+    private final BitSet sight = new BitSet();
     private boolean sleeping;
+    private int speed = NORMAL_SPEED;
 
     /**
      * Constructos an AbstractEnemy with the specified attributes.
@@ -50,8 +56,31 @@ public abstract class AbstractEnemy extends AbstractEntity implements Enemy {
             final int armorClass,
             final int visibility,
             final MovementStrategy strategy) {
+        this(currentPosition, level, lifePoint, armorClass, visibility, strategy, GameRandom.generator());
+    }
 
-        super(lifePoint, level, armorClass, currentPosition);
+    /**
+     * Constructos an AbstractEnemy with the specified attributes.
+     * 
+     * @param currentPosition The current position of the enemy.
+     * @param level           The level of the enemy.
+     * @param lifePoint       The life points of the enemy.
+     * @param armorClass      The armor class of the enemy.
+     * @param visibility      The visibility range of the enemy.
+     * @param strategy        The strategy of movement of the enemy
+     * @param random          The generator the enemy draws its rolls from.
+     * @throws IllegalArgumentException if visibility range is negative.
+     * @throws NullPointerException if strategy or random is null.
+     */
+    public AbstractEnemy(final Position currentPosition,
+            final int level,
+            final int lifePoint,
+            final int armorClass,
+            final int visibility,
+            final MovementStrategy strategy,
+            final RandomGenerator random) {
+
+        super(lifePoint, level, armorClass, currentPosition, random);
         if (visibility < 0) {
             throw new IllegalArgumentException("Visibility range cannot be negative");
         }
@@ -75,6 +104,34 @@ public abstract class AbstractEnemy extends AbstractEntity implements Enemy {
     @Override
     public void wakeUp() {
         sleeping = false;
+        stateChanged();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final int getSpeed() {
+        return speed;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final void setSpeed(final int speed) {
+        if (speed <= 0) {
+            throw new IllegalArgumentException("Speed must be positive");
+        }
+        this.speed = speed;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected long computeStateHash() {
+        return Zobrist.combine(super.computeStateHash(), sleeping ? 1 : 0);
     }
 
     /**
@@ -82,7 +139,7 @@ public abstract class AbstractEnemy extends AbstractEntity implements Enemy {
      */
     @Override
     public final boolean computeSleeping() {
-        return GameRandom.nextInt(SLEEP_CHANCE) == 0;
+        return getRandom().nextInt(SLEEP_CHANCE) == 0;
     }
 
     /**
@@ -99,29 +156,55 @@ public abstract class AbstractEnemy extends AbstractEntity implements Enemy {
         return Move.IDLE;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Move getNextMove(final GameMap map, final Position playerPosition) {
+        if (isSleeping()) {
+            return Move.IDLE;
+        }
+        if (canSeePlayer(map, playerPosition)) {
+            return movementStrategy.calculateNextMove(map, this.getPosition(), playerPosition);
+        }
+        return Move.IDLE;
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public boolean canSeePlayer(final Position playerPosition) {
-        return playerPosition != null && getVisiblePositions().stream().anyMatch(p -> p.equals(playerPosition));
+        return playerPosition != null && isInRange(playerPosition);
     }
 
     /**
-     * Gets the list of the position that are visible from
-     * the enemy's current position.
-     * 
-     * @return A list of the visible positions.
-     */
-    protected List<Position> getVisiblePositions() {
-        final List<Position> visible = new LinkedList<>();
-        final Position currentPosition = super.getPosition();
-        for (int j = currentPosition.y() - visibility; j <= currentPosition.y() + visibility; j++) {
-            for (int i = currentPosition.x() - visibility; i <= currentPosition.x() + visibility; i++) {
-                visible.add(new Position(i, j));
-            }
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean canSeePlayer(final GameMap map, final Position playerPosition) {
+        if (playerPosition == null || !isInRange(playerPosition)) {
+            return false;
         }
-        return Collections.unmodifiableList(visible);
+        final Position currentPosition = getPosition();
+        sight.clear();
+        FIELD_OF_VIEW.compute(map, currentPosition.x(), currentPosition.y(), visibility, sight);
+        return playerPosition.x() >= 0 && playerPosition.x() < map.getWidth()
+                && playerPosition.y() >= 0 && playerPosition.y() < map.getHeight()
+                && sight.get(playerPosition.y() * map.getWidth() + playerPosition.x());
+    }
+
+    /**
+     * Checks whether a position falls in the square visibility range
+     * around the enemy, ignoring walls.
+     * 
+     * @param target The position to check.
+     * @return true if the position is within range.
+     */
+    private boolean isInRange(final Position target) {
+        final Position currentPosition = getPosition();
+        return Math.abs(target.x() - currentPosition.x()) <= visibility
+                && Math.abs(target.y() - currentPosition.y()) <= visibility;
     }
 
     /**
@@ -134,7 +217,7 @@ public abstract class AbstractEnemy extends AbstractEntity implements Enemy {
         if (isAlive()) {
             throw new IllegalStateException("An alive enemy can't drop xp");
         }
-        return Dice.roll(getLevel(), 4);
+        return Dice.roll(getRandom(), getLevel(), 4);
     }
 
     /**
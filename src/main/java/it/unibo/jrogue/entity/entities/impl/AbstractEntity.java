@@ -1,8 +1,14 @@
 package it.unibo.jrogue.entity.entities.impl;
 
 import java.util.Objects;
+import java.util.function.LongConsumer;
+import java.util.random.RandomGenerator;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import it.unibo.jrogue.commons.Move;
 import it.unibo.jrogue.commons.Position;
+import it.unibo.jrogue.entity.GameRandom;
+import it.unibo.jrogue.entity.Zobrist;
 import it.unibo.jrogue.entity.entities.api.Entity;
 
 /**
@@ -15,15 +21,21 @@ import it.unibo.jrogue.entity.entities.api.Entity;
 public abstract class AbstractEntity implements Entity {
 
     private static final int HP_INCREMENT_PER_LEVEL = 3;
+    private static final LongConsumer NO_LISTENER = delta -> { };
 
     private int maxLifePoint;
     private int lifePoint;
     private int level;
     private final int armorClass;
     private Position currentPosition;
+    private final RandomGenerator random;
+    private LongConsumer stateListener = NO_LISTENER;
+    private long stateHash;
+    private boolean hashed;
 
     /**
-     * Construct an AbstractEntity with the specified attributes.
+     * Construct an AbstractEntity with the specified attributes,
+     * drawing its rolls from the shared {@link GameRandom}.
      * 
      * @param lifePoint     The life points of the entity.
      * @param level         The level of the entity.
@@ -36,6 +48,27 @@ public abstract class AbstractEntity implements Entity {
             final int level,
             final int armorClass,
             final Position startPosition) {
+        this(lifePoint, level, armorClass, startPosition, GameRandom.generator());
+    }
+
+    /**
+     * Construct an AbstractEntity with the specified attributes.
+     * 
+     * @param lifePoint     The life points of the entity.
+     * @param level         The level of the entity.
+     * @param armorClass    The armor class of the entity.
+     * @param startPosition The starting position of the entity.
+     * @param random        The generator the entity draws its rolls from.
+     * @throws IllegalArgumentException if lifePoint or level isn't positive.
+     * @throws IllegalArgumentException if startPosition is null.
+     * @throws NullPointerException if random is null.
+     */
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "The generator is shared on purpose with the game that owns it")
+    public AbstractEntity(final int lifePoint,
+            final int level,
+            final int armorClass,
+            final Position startPosition,
+            final RandomGenerator random) {
 
         if (lifePoint <= 0 || level <= 0) {
             throw new IllegalArgumentException("Life points and level must be positive");
@@ -47,6 +80,17 @@ public abstract class AbstractEntity implements Entity {
         this.level = level;
         this.armorClass = armorClass;
         this.currentPosition = startPosition;
+        this.random = Objects.requireNonNull(random, "Random generator cannot be null");
+    }
+
+    /**
+     * Returns the generator this entity draws its rolls from.
+     * 
+     * @return the random generator.
+     */
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP", justification = "Subclasses must draw from the same stream")
+    protected RandomGenerator getRandom() {
+        return random;
     }
 
     /**
@@ -99,6 +143,7 @@ public abstract class AbstractEntity implements Entity {
         }
 
         currentPosition = move.applyToPosition(currentPosition);
+        stateChanged();
     }
 
     /**
@@ -108,6 +153,7 @@ public abstract class AbstractEntity implements Entity {
     public void setPosition(final Position position) {
         Objects.requireNonNull(position, "Position cannot be null");
         this.currentPosition = position;
+        stateChanged();
     }
 
     /**
@@ -130,6 +176,7 @@ public abstract class AbstractEntity implements Entity {
             throw new IllegalStateException("Can't heal a dead player");
         }
         lifePoint = Math.min(this.lifePoint + amount, maxLifePoint);
+        stateChanged();
     }
 
     /**
@@ -145,6 +192,7 @@ public abstract class AbstractEntity implements Entity {
             throw new IllegalStateException("Can't damage a dead player");
         }
         lifePoint = lifePoint - amount;
+        stateChanged();
     }
 
     /**
@@ -155,6 +203,56 @@ public abstract class AbstractEntity implements Entity {
         this.level++;
         this.maxLifePoint += HP_INCREMENT_PER_LEVEL;
         this.lifePoint += HP_INCREMENT_PER_LEVEL;
+        stateChanged();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final long stateHash() {
+        if (!hashed) {
+            stateHash = computeStateHash();
+            hashed = true;
+        }
+        return stateHash;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final void setStateListener(final LongConsumer listener) {
+        this.stateListener = listener == null ? NO_LISTENER : listener;
+    }
+
+    /**
+     * Computes the state hash from scratch.
+     * Subclasses with more state mix it into the hash of their superclass.
+     * 
+     * @return the hash of the current state.
+     */
+    protected long computeStateHash() {
+        long hash = Zobrist.combine(getClass().getSimpleName().hashCode(), currentPosition.x());
+        hash = Zobrist.combine(hash, currentPosition.y());
+        hash = Zobrist.combine(hash, lifePoint);
+        hash = Zobrist.combine(hash, maxLifePoint);
+        return Zobrist.combine(hash, level);
+    }
+
+    /**
+     * Updates the state hash after a change and tells the listener.
+     * Must be called by every method that changes what {@link #computeStateHash()} reads.
+     */
+    protected final void stateChanged() {
+        if (hashed) {
+            final long updated = computeStateHash();
+            final long delta = stateHash ^ updated;
+            if (delta != 0) {
+                stateHash = updated;
+                stateListener.accept(delta);
+            }
+        }
     }
 
     /**
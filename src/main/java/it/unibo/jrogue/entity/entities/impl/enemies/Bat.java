@@ -2,8 +2,10 @@ package it.unibo.jrogue.entity.entities.impl.enemies;
 
 import java.util.Objects;
 import java.util.Optional;
+import java.util.random.RandomGenerator;
 import it.unibo.jrogue.commons.Dice;
 import it.unibo.jrogue.commons.Position;
+import it.unibo.jrogue.entity.GameRandom;
 import it.unibo.jrogue.entity.entities.impl.AbstractEnemy;
 import it.unibo.jrogue.entity.entities.impl.enemies.movement.BatMovementSTrategy;
 import it.unibo.jrogue.entity.items.api.Item;
@@ -24,6 +26,7 @@ public class Bat extends AbstractEnemy {
     private static final int BAT_AC = 3;
     private static final int AC_SCALING = 3;
     private static final int BAT_VISIBILITY = 6;
+    private static final int BAT_SPEED = NORMAL_SPEED;
     private static final int HP_NUM_DICE = 1;
     private static final int HP_SIDES_DICE = 8;
     private static final int ATK_NUM_DICE = 1;
@@ -41,14 +44,29 @@ public class Bat extends AbstractEnemy {
      * @throws NullPointerException if start position is null.
      */
     public Bat(final Position startPosition, final int level) {
+        this(startPosition, level, GameRandom.generator());
+    }
+
+    /**
+     * Construct a new Bat at the specified starting position,
+     * with stats scaled by dungeon level.
+     * 
+     * @param startPosition The initial position of the bat.
+     * @param level The current dungeon level.
+     * @param random The generator the bat draws its rolls from.
+     * @throws NullPointerException if start position or random is null.
+     */
+    public Bat(final Position startPosition, final int level, final RandomGenerator random) {
         super(
             Objects.requireNonNull(startPosition), 
             level, 
-            Dice.roll(HP_NUM_DICE, HP_SIDES_DICE), 
+            Dice.roll(random, HP_NUM_DICE, HP_SIDES_DICE), 
             BAT_AC + (level / AC_SCALING), 
             BAT_VISIBILITY,
-            new BatMovementSTrategy(CHASE_PLAYER_PERCENT)
+            new BatMovementSTrategy(CHASE_PLAYER_PERCENT, random),
+            random
         );
+        setSpeed(BAT_SPEED);
     }
 
     /**
@@ -59,14 +77,28 @@ public class Bat extends AbstractEnemy {
      * @throws NullPointerException if start position is null.
      */
     public Bat(final Position startPosition) {
+        this(startPosition, GameRandom.generator());
+    }
+
+    /**
+     * Construct a new Bat at the specified starting position,
+     * with base stats.
+     * 
+     * @param startPosition The initial position of the bat.
+     * @param random The generator the bat draws its rolls from.
+     * @throws NullPointerException if start position or random is null.
+     */
+    public Bat(final Position startPosition, final RandomGenerator random) {
         super(
             Objects.requireNonNull(startPosition), 
             BAT_BASE_LEVEL, 
-            Dice.roll(HP_NUM_DICE, HP_SIDES_DICE), 
+            Dice.roll(random, HP_NUM_DICE, HP_SIDES_DICE), 
             BAT_AC, 
             BAT_VISIBILITY,
-            new BatMovementSTrategy(CHASE_PLAYER_PERCENT)
+            new BatMovementSTrategy(CHASE_PLAYER_PERCENT, random),
+            random
         );
+        setSpeed(BAT_SPEED);
     }
 
     /**
@@ -78,7 +110,7 @@ public class Bat extends AbstractEnemy {
      */
     @Override
     public int getAttack() {
-        return Dice.roll(ATK_NUM_DICE, ATK_SIDES_DICE + (getLevel() / ATK_SCALING)) + getLevel();
+        return Dice.roll(getRandom(), ATK_NUM_DICE, ATK_SIDES_DICE + (getLevel() / ATK_SCALING)) + getLevel();
     }
 
     /**
@@ -90,7 +122,7 @@ public class Bat extends AbstractEnemy {
      */
     @Override
     protected int computeXpValue() {
-        return Dice.roll(XP_NUM_DICE, XP_SIDES_DICE);
+        return Dice.roll(getRandom(), XP_NUM_DICE, XP_SIDES_DICE);
     }
 
     /**
@@ -2,9 +2,11 @@ package it.unibo.jrogue.entity.entities.impl.enemies;
 
 import java.util.Objects;
 import java.util.Optional;
+import java.util.random.RandomGenerator;
 
 import it.unibo.jrogue.commons.Dice;
 import it.unibo.jrogue.commons.Position;
+import it.unibo.jrogue.entity.GameRandom;
 import it.unibo.jrogue.entity.entities.impl.AbstractEnemy;
 import it.unibo.jrogue.entity.entities.impl.enemies.movement.ChasingMovementStrategy;
 import it.unibo.jrogue.entity.items.api.Item;
@@ -24,6 +26,7 @@ public class Dragon extends AbstractEnemy {
     private static final int D_LEVEL = 6;
     private static final int D_AC = 12;
     private static final int D_VISIBILITY = 5;
+    private static final int D_SPEED = NORMAL_SPEED;
     private static final int HP_NUM_DICE = 4;
     private static final int HP_SIDES_DICE = 10;
     private static final int ATK_NUM_DICE = 3;
@@ -40,14 +43,29 @@ public class Dragon extends AbstractEnemy {
      * @throws NullPointerException if start position is null.
      */
     public Dragon(final Position startPosition, final int level) {
+        this(startPosition, level, GameRandom.generator());
+    }
+
+    /**
+     * Construct a new Dragon at the specified starting position,
+     * with stats scaled by dungeon level.
+     * 
+     * @param startPosition The initial position of the dragon.
+     * @param level The dungeon level.
+     * @param random The generator the dragon draws its rolls from.
+     * @throws NullPointerException if start position or random is null.
+     */
+    public Dragon(final Position startPosition, final int level, final RandomGenerator random) {
         super(
             Objects.requireNonNull(startPosition), 
             level, 
-            Dice.roll(HP_NUM_DICE, HP_SIDES_DICE), 
+            Dice.roll(random, HP_NUM_DICE, HP_SIDES_DICE), 
             D_AC, 
             D_VISIBILITY, 
-            new ChasingMovementStrategy()
+            new ChasingMovementStrategy(),
+            random
         );
+        setSpeed(D_SPEED);
     }
 
     /**
@@ -58,14 +76,28 @@ public class Dragon extends AbstractEnemy {
      * @throws NullPointerException if start position is null.
      */
     public Dragon(final Position startPosition) {
+        this(startPosition, GameRandom.generator());
+    }
+
+    /**
+     * Construct a new Dragon at the specified starting position,
+     * with base stats.
+     * 
+     * @param startPosition The initial position of the dragon.
+     * @param random The generator the dragon draws its rolls from.
+     * @throws NullPointerException if start position or random is null.
+     */
+    public Dragon(final Position startPosition, final RandomGenerator random) {
         super(
             Objects.requireNonNull(startPosition), 
             D_LEVEL, 
-            Dice.roll(HP_NUM_DICE, HP_SIDES_DICE), 
+            Dice.roll(random, HP_NUM_DICE, HP_SIDES_DICE), 
             D_AC, 
             D_VISIBILITY, 
-            new ChasingMovementStrategy()
+            new ChasingMovementStrategy(),
+            random
         );
+        setSpeed(D_SPEED);
     }
 
     /**
@@ -77,7 +109,7 @@ public class Dragon extends AbstractEnemy {
      */
     @Override
     public int getAttack() {
-        return Dice.roll(ATK_NUM_DICE, ATK_SIDES_DICE) + getLevel();
+        return Dice.roll(getRandom(), ATK_NUM_DICE, ATK_SIDES_DICE) + getLevel();
     }
 
     /**
@@ -89,7 +121,7 @@ public class Dragon extends AbstractEnemy {
      */
     @Override
     protected int computeXpValue() {
-        return Dice.roll(XP_NUM_DICE, XP_SIDES_DICE);
+        return Dice.roll(getRandom(), XP_NUM_DICE, XP_SIDES_DICE);
     }
 
     /**
@@ -101,6 +133,6 @@ public class Dragon extends AbstractEnemy {
      */
     @Override
     protected Optional<Item> generateLoot() {
-        return new ItemFactoryImpl().createRandomItem(getLevel() + 2);
+        return new ItemFactoryImpl(getRandom()).createRandomItem(getLevel() + 2);
     }
 }
@@ -2,9 +2,11 @@ package it.unibo.jrogue.entity.entities.impl.enemies;
 
 import java.util.Objects;
 import java.util.Optional;
+import java.util.random.RandomGenerator;
 
 import it.unibo.jrogue.commons.Dice;
 import it.unibo.jrogue.commons.Position;
+import it.unibo.jrogue.entity.GameRandom;
 import it.unibo.jrogue.entity.entities.impl.AbstractEnemy;
 import it.unibo.jrogue.entity.entities.impl.enemies.movement.ChasingMovementStrategy;
 import it.unibo.jrogue.entity.items.api.Item;
@@ -25,6 +27,7 @@ public class HobGoblin extends AbstractEnemy {
     private static final int HG_AC = 6;
     private static final int AC_SCALING = 2;
     private static final int HG_VISIBILITY = 2;
+    private static final int HG_SPEED = NORMAL_SPEED;
     private static final int HP_NUM_DICE = 2;
     private static final int HP_SIDES_DICE = 9;
     private static final int ATK_NUM_DICE = 2;
@@ -41,14 +44,29 @@ public class HobGoblin extends AbstractEnemy {
      * @throws NullPointerException if start position is null.
      */
     public HobGoblin(final Position startPosition, final int level) {
+        this(startPosition, level, GameRandom.generator());
+    }
+
+    /**
+     * Construct a new HobGoblin at the specified starting position,
+     * with stats scaled by dungeon level.
+     * 
+     * @param startPosition The initial position of the hobgoblin.
+     * @param level The current dungeon level-
+     * @param random The generator the hobgoblin draws its rolls from.
+     * @throws NullPointerException if start position or random is null.
+     */
+    public HobGoblin(final Position startPosition, final int level, final RandomGenerator random) {
         super(
             Objects.requireNonNull(startPosition), 
             level, 
-            Dice.roll(HP_NUM_DICE, HP_SIDES_DICE) + (level * 2), 
+            Dice.roll(random, HP_NUM_DICE, HP_SIDES_DICE) + (level * 2), 
             HG_AC * (level / AC_SCALING),
             HG_VISIBILITY,
-            new ChasingMovementStrategy()
+            new ChasingMovementStrategy(),
+            random
         );
+        setSpeed(HG_SPEED);
     }
 
     /**
@@ -59,14 +77,28 @@ public class HobGoblin extends AbstractEnemy {
      * @throws NullPointerException if start position is null.
      */
     public HobGoblin(final Position startPosition) {
+        this(startPosition, GameRandom.generator());
+    }
+
+    /**
+     * Construct a new HobGoblin at the specified starting position,
+     * with sbase stats.
+     * 
+     * @param startPosition The initial position of the hobgoblin.
+     * @param random The generator the hobgoblin draws its rolls from.
+     * @throws NullPointerException if start position or random is null.
+     */
+    public HobGoblin(final Position startPosition, final RandomGenerator random) {
         super(
             Objects.requireNonNull(startPosition), 
             HG_BASE_LEVEL, 
-            Dice.roll(HP_NUM_DICE, HP_SIDES_DICE), 
+            Dice.roll(random, HP_NUM_DICE, HP_SIDES_DICE), 
             HG_AC,
             HG_VISIBILITY,
-            new ChasingMovementStrategy()
+            new ChasingMovementStrategy(),
+            random
         );
+        setSpeed(HG_SPEED);
     }
 
     /**
@@ -78,7 +110,7 @@ public class HobGoblin extends AbstractEnemy {
      */
     @Override
     public int getAttack() {
-        return Dice.roll(ATK_NUM_DICE, ATK_SIDES_DICE) + getLevel();
+        return Dice.roll(getRandom(), ATK_NUM_DICE, ATK_SIDES_DICE) + getLevel();
     }
 
     /**
@@ -90,7 +122,7 @@ public class HobGoblin extends AbstractEnemy {
      */
     @Override
     protected int computeXpValue() {
-        return Dice.roll(XP_NUM_DICE, XP_SIDES_DICE) + (getLevel() * 2);
+        return Dice.roll(getRandom(), XP_NUM_DICE, XP_SIDES_DICE) + (getLevel() * 2);
     }
 
     /**
@@ -102,6 +134,6 @@ public class HobGoblin extends AbstractEnemy {
      */
     @Override
     protected Optional<Item> generateLoot() {
-        return new ItemFactoryImpl().createRandomItem(getLevel() + 1);
+        return new ItemFactoryImpl(getRandom()).createRandomItem(getLevel() + 1);
     }
 }
@@ -1,5 +1,9 @@
 package it.unibo.jrogue.entity.entities.impl.enemies.factory;
 
+import java.util.Objects;
+import java.util.random.RandomGenerator;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import it.unibo.jrogue.commons.Position;
 import it.unibo.jrogue.entity.GameRandom;
 import it.unibo.jrogue.entity.entities.api.Enemy;
@@ -18,12 +22,31 @@ public class EnemyFactoryImpl implements EnemyFactory {
     private static final int HG_MIN_LEVEL = 2;
     private static final int DRAGON_MIN_LEVEL = 4;
 
+    private final RandomGenerator random;
+
+    /**
+     * Creates a factory drawing from the shared {@link GameRandom}.
+     */
+    public EnemyFactoryImpl() {
+        this(GameRandom.generator());
+    }
+
+    /**
+     * Creates a factory drawing from the given generator.
+     *
+     * @param random the generator used for every roll, shared with the created enemies
+     */
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "The generator is shared on purpose with the level being populated")
+    public EnemyFactoryImpl(final RandomGenerator random) {
+        this.random = Objects.requireNonNull(random);
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public Enemy createBat(final Position position, final int level) {
-        return new Bat(position, level);
+        return new Bat(position, level, random);
     }
 
     /**
@@ -31,7 +54,7 @@ public class EnemyFactoryImpl implements EnemyFactory {
      */
     @Override
     public Enemy createHobGoblin(final Position position, final int level) {
-        return new HobGoblin(position, level);
+        return new HobGoblin(position, level, random);
     }
 
     /**
@@ -39,7 +62,7 @@ public class EnemyFactoryImpl implements EnemyFactory {
      */
     @Override
     public Enemy createDragon(final Position position, final int level) {
-        return new Dragon(position, level);
+        return new Dragon(position, level, random);
     }
 
     /**
@@ -47,7 +70,7 @@ public class EnemyFactoryImpl implements EnemyFactory {
      */
     @Override
     public Enemy createRandomEnemy(final Position position, final int level) {
-        final int roll = GameRandom.nextInt(ROLL_MAX);
+        final int roll = random.nextInt(ROLL_MAX);
         if (level >= DRAGON_MIN_LEVEL && roll >= CHANCHE_BAT) {
             return createDragon(position, level);
         }
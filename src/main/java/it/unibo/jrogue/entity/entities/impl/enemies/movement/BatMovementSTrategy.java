@@ -1,5 +1,9 @@
 package it.unibo.jrogue.entity.entities.impl.enemies.movement;
 
+import java.util.Objects;
+import java.util.random.RandomGenerator;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import it.unibo.jrogue.commons.Move;
 import it.unibo.jrogue.commons.Position;
 import it.unibo.jrogue.entity.GameRandom;
@@ -12,7 +16,8 @@ import it.unibo.jrogue.entity.entities.api.MovementStrategy;
 public class BatMovementSTrategy implements MovementStrategy {
     private final int chasePercentage;
     private final MovementStrategy chaseStrategy = new ChasingMovementStrategy();
-    private final MovementStrategy randomStrategy = new RandomMovementStrategy();
+    private final MovementStrategy randomStrategy;
+    private final RandomGenerator random;
 
     /**
      * Contruct a probabilitic chase strategy with a specific
@@ -21,7 +26,21 @@ public class BatMovementSTrategy implements MovementStrategy {
      * @param percentage The probability to move towards to the player.
      */
     public BatMovementSTrategy(final int percentage) {
+        this(percentage, GameRandom.generator());
+    }
+
+    /**
+     * Contruct a probabilitic chase strategy with a specific
+     * chanche to chase the player, drawing from the given generator.
+     * 
+     * @param percentage The probability to move towards to the player.
+     * @param random The generator used for every choice.
+     */
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "The generator is shared on purpose with the owning enemy")
+    public BatMovementSTrategy(final int percentage, final RandomGenerator random) {
         this.chasePercentage = percentage;
+        this.random = Objects.requireNonNull(random);
+        this.randomStrategy = new RandomMovementStrategy(random);
     }
 
     /**
@@ -34,7 +53,7 @@ public class BatMovementSTrategy implements MovementStrategy {
      */
     @Override
     public Move calculateNextMove(final Position start, final Position target) {
-        if (GameRandom.nextInt(100) >= chasePercentage) {
+        if (random.nextInt(100) >= chasePercentage) {
             return randomStrategy.calculateNextMove(start, target);
         }
         return chaseStrategy.calculateNextMove(start, target);
@@ -3,6 +3,8 @@ package it.unibo.jrogue.entity.entities.impl.enemies.movement;
 import it.unibo.jrogue.commons.Move;
 import it.unibo.jrogue.commons.Position;
 import it.unibo.jrogue.entity.entities.api.MovementStrategy;
+import it.unibo.jrogue.entity.world.api.GameMap;
+import it.unibo.jrogue.entity.world.impl.AStarPathFinder;
 
 /**
  * Class that rapresents a standard behavior, the entity moves towards to the
@@ -30,4 +32,23 @@ public class ChasingMovementStrategy implements MovementStrategy {
         return Move.IDLE;
     }
 
+    /**
+     * {@inheritDoc}
+     * 
+     * <p>
+     * Follows a shortest path around walls. When the target is the player the
+     * step is read from the map's shared distance field; other targets use A*.
+     * If the target cannot be reached it falls back to a straight step.
+     * </p>
+     */
+    @Override
+    public Move calculateNextMove(final GameMap map, final Position start, final Position target) {
+        final boolean targetIsPlayer = map.getPlayer()
+                .map(p -> p.getPosition().equals(target))
+                .orElse(false);
+        final Move step = targetIsPlayer
+                ? map.getPlayerDistanceField().stepTowardsSource(start.x(), start.y())
+                : AStarPathFinder.forCurrentThread().nextStep(map, start, target);
+        return step == Move.IDLE ? calculateNextMove(start, target) : step;
+    }
 }
@@ -1,5 +1,9 @@
 package it.unibo.jrogue.entity.entities.impl.enemies.movement;
 
+import java.util.Objects;
+import java.util.random.RandomGenerator;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import it.unibo.jrogue.commons.Move;
 import it.unibo.jrogue.commons.Position;
 import it.unibo.jrogue.entity.GameRandom;
@@ -9,12 +13,31 @@ import it.unibo.jrogue.entity.entities.api.MovementStrategy;
  * Class that represents a random behavior.
  */
 public class RandomMovementStrategy implements MovementStrategy {
+    private final RandomGenerator random;
+
+    /**
+     * Construct a random strategy drawing from the shared {@link GameRandom}.
+     */
+    public RandomMovementStrategy() {
+        this(GameRandom.generator());
+    }
+
+    /**
+     * Construct a random strategy drawing from the given generator.
+     * 
+     * @param random The generator used to pick the moves.
+     */
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "The generator is shared on purpose with the owning enemy")
+    public RandomMovementStrategy(final RandomGenerator random) {
+        this.random = Objects.requireNonNull(random);
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public Move calculateNextMove(final Position start, final Position target) {
         final Move[] moves = Move.values();
-        return moves[GameRandom.nextInt(moves.length)];
+        return moves[random.nextInt(moves.length)];
     }
 }
@@ -2,11 +2,14 @@ package it.unibo.jrogue.entity.entities.impl.player;
 
 import java.util.Objects;
 import java.util.Optional;
+import java.util.random.RandomGenerator;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import it.unibo.jrogue.commons.Dice;
 import it.unibo.jrogue.commons.Move;
 import it.unibo.jrogue.commons.Position;
+import it.unibo.jrogue.entity.GameRandom;
+import it.unibo.jrogue.entity.Zobrist;
 import it.unibo.jrogue.entity.entities.api.Player;
 import it.unibo.jrogue.entity.entities.impl.AbstractEntity;
 import it.unibo.jrogue.entity.items.api.Equipment;
@@ -43,13 +46,17 @@ public class PlayerImpl extends AbstractEntity implements Player {
      * @param startPosition Starting position of the player.
      */
     public PlayerImpl(final Position startPosition) {
-        super(DEFAULT_START_HP, DEFAULT_START_LEVEL, DEFAULT_START_AC, startPosition);
-        inventory = new SimpleInventory(INVENTORY_SIZE);
-        armor = Optional.empty();
-        weapon = Optional.empty();
-        ring = Optional.empty();
-        gold = 0;
-        xp = 0;
+        this(DEFAULT_START_HP, DEFAULT_START_LEVEL, DEFAULT_START_AC, startPosition);
+    }
+
+    /**
+     * Constructs a new player with default stats drawing its rolls from the given generator.
+     * 
+     * @param startPosition Starting position of the player.
+     * @param random        The generator used for the player's rolls.
+     */
+    public PlayerImpl(final Position startPosition, final RandomGenerator random) {
+        this(DEFAULT_START_HP, DEFAULT_START_LEVEL, DEFAULT_START_AC, startPosition, random);
     }
 
     /**
@@ -64,7 +71,24 @@ public class PlayerImpl extends AbstractEntity implements Player {
      * @throws IllegalArgumentException if startPosition is null.
      */
     public PlayerImpl(final int lifePoint, final int level, final int armorClass, final Position startPosition) {
-        super(lifePoint, level, armorClass, startPosition);
+        this(lifePoint, level, armorClass, startPosition, GameRandom.generator());
+    }
+
+    /**
+     * Construct a player with the specified attributes drawing its rolls from the given generator.
+     * 
+     * @param lifePoint     The initial life points.
+     * @param level         The initial level.
+     * @param armorClass    The base armor class.
+     * @param startPosition The starting position on the map
+     * @param random        The generator used for the player's rolls.
+     * 
+     * @throws IllegalArgumentException if lifePoint or level isn't positive.
+     * @throws IllegalArgumentException if startPosition is null.
+     */
+    public PlayerImpl(final int lifePoint, final int level, final int armorClass, final Position startPosition,
+            final RandomGenerator random) {
+        super(lifePoint, level, armorClass, startPosition, random);
         inventory = new SimpleInventory(INVENTORY_SIZE);
         armor = Optional.empty();
         weapon = Optional.empty();
@@ -114,6 +138,7 @@ public class PlayerImpl extends AbstractEntity implements Player {
             throw new IllegalArgumentException("Amount must be non positive");
         }
         gold = gold + amount;
+        stateChanged();
     }
 
     /**
@@ -143,7 +168,7 @@ public class PlayerImpl extends AbstractEntity implements Player {
             nDice++;
             maxDamage += weapon.get().getBonus();
         }
-        return Dice.roll(nDice, maxDamage) + getLevel();
+        return Dice.roll(getRandom(), nDice, maxDamage) + getLevel();
     }
 
     /**
@@ -198,6 +223,23 @@ public class PlayerImpl extends AbstractEntity implements Player {
                 || equipment.equals(ring.orElse(null));
     }
 
+    /**
+     * {@inheritDoc}
+     * 
+     * <p>
+     * The hash also covers experience, gold, victory and the equipped items.
+     * </p>
+     */
+    @Override
+    protected long computeStateHash() {
+        long hash = Zobrist.combine(super.computeStateHash(), xp);
+        hash = Zobrist.combine(hash, gold);
+        hash = Zobrist.combine(hash, victory ? 1 : 0);
+        hash = Zobrist.combine(hash, armor.map(Zobrist::itemValue).orElse(0L));
+        hash = Zobrist.combine(hash, weapon.map(Zobrist::itemValue).orElse(0L));
+        return Zobrist.combine(hash, ring.map(Zobrist::itemValue).orElse(0L));
+    }
+
     /**
      * Equip the specified armor for the player.
      * 
@@ -207,6 +249,7 @@ public class PlayerImpl extends AbstractEntity implements Player {
     private void equipArmor(final Armor armorToEquip) {
         Objects.requireNonNull(armorToEquip, "Armor to equip must be not null");
         this.armor = Optional.of(armorToEquip);
+        stateChanged();
     }
 
     /**
@@ -219,6 +262,7 @@ public class PlayerImpl extends AbstractEntity implements Player {
             throw new IllegalStateException("You couldn't unequip armor if you don't have an equipped armor");
         }
         this.armor = Optional.empty();
+        stateChanged();
     }
 
     /**
@@ -230,6 +274,7 @@ public class PlayerImpl extends AbstractEntity implements Player {
     private void equipWeapon(final MeleeWeapon weaponToEquip) {
         Objects.requireNonNull(weaponToEquip);
         this.weapon = Optional.of(weaponToEquip);
+        stateChanged();
     }
 
     /**
@@ -242,6 +287,7 @@ public class PlayerImpl extends AbstractEntity implements Player {
             throw new IllegalStateException("You couldn't unequip weapon if you don't have an equipped weapon");
         }
         this.weapon = Optional.empty();
+        stateChanged();
     }
 
     /**
@@ -253,6 +299,7 @@ public class PlayerImpl extends AbstractEntity implements Player {
     private void equipRing(final Ring ringToEquip) {
         Objects.requireNonNull(ringToEquip);
         this.ring = Optional.of(ringToEquip);
+        stateChanged();
     }
 
     /**
@@ -265,6 +312,7 @@ public class PlayerImpl extends AbstractEntity implements Player {
             throw new IllegalStateException("You couldn't unequip ring if you don't have an equipped ring");
         }
         this.ring = Optional.empty();
+        stateChanged();
     }
 
     /**
@@ -301,6 +349,7 @@ public class PlayerImpl extends AbstractEntity implements Player {
             levelUp();
             this.xp -= XP_TO_LEVEL_UP;
         }
+        stateChanged();
     }
 
     /**
@@ -317,6 +366,7 @@ public class PlayerImpl extends AbstractEntity implements Player {
     @Override
     public void setVictory(final boolean victory) {
         this.victory = victory;
+        stateChanged();
     }
 
     /**
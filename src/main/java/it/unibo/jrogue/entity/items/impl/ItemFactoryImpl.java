@@ -1,7 +1,10 @@
 package it.unibo.jrogue.entity.items.impl;
 
+import java.util.Objects;
 import java.util.Optional;
+import java.util.random.RandomGenerator;
 
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import it.unibo.jrogue.entity.GameRandom;
 import it.unibo.jrogue.entity.items.api.Item;
 import it.unibo.jrogue.entity.items.api.ItemFactory;
@@ -42,6 +45,25 @@ public class ItemFactoryImpl implements ItemFactory {
 
     private static final int ARMOR_SELECTION = 70;
 
+    private final RandomGenerator random;
+
+    /**
+     * Creates a factory drawing from the shared {@link GameRandom}.
+     */
+    public ItemFactoryImpl() {
+        this(GameRandom.generator());
+    }
+
+    /**
+     * Creates a factory drawing from the given generator.
+     *
+     * @param random the generator used for every roll
+     */
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "The generator is shared on purpose with the level being populated")
+    public ItemFactoryImpl(final RandomGenerator random) {
+        this.random = Objects.requireNonNull(random);
+    }
+
     /**
      * Calculates the damage of the item generated
      * taking in consideration: level the player
@@ -57,7 +79,7 @@ public class ItemFactoryImpl implements ItemFactory {
     private int calculateDamage(final int baseDamage, final int level) {
         final int growth = level / SCALING_FACTOR;
 
-        final int variance = GameRandom.nextInt(DAMAGE_VARIANCE_BOUND) - 1;
+        final int variance = random.nextInt(DAMAGE_VARIANCE_BOUND) - 1;
 
         return baseDamage + growth + variance;
     }
@@ -82,7 +104,7 @@ public class ItemFactoryImpl implements ItemFactory {
             growth += 1;
         }
 
-        final int variance = GameRandom.nextInt(PROTECTION_VARIANCE_BOUND);
+        final int variance = random.nextInt(PROTECTION_VARIANCE_BOUND);
         return baseProtection + growth + variance;
     }
 
@@ -91,7 +113,7 @@ public class ItemFactoryImpl implements ItemFactory {
      */
     @Override
     public Item createRandomArmor(final int level) {
-        final int armorDice = GameRandom.nextInt(ROLL_MAX);
+        final int armorDice = random.nextInt(ROLL_MAX);
 
         if (armorDice < ARMOR_SELECTION) {
             final int def = calculateProtection(BASE_DEF_LIGHT, level, false);
@@ -107,7 +129,7 @@ public class ItemFactoryImpl implements ItemFactory {
      */
     @Override
     public Optional<Item> createRandomItem(final int level) {
-        final int roll = GameRandom.nextInt(ROLL_MAX);
+        final int roll = random.nextInt(ROLL_MAX);
         if (roll < CHANCE_RESOURCE) {
             return Optional.of(createRandomGold());
         } else if (roll < CHANCE_POTION) {
@@ -153,7 +175,7 @@ public class ItemFactoryImpl implements ItemFactory {
      */
     @Override
     public Item createRandomGold() {
-        final int amount = BASE_GOLD_AMOUNT + GameRandom.nextInt(GOLD_RANDOM_BOUND) + 1;
+        final int amount = BASE_GOLD_AMOUNT + random.nextInt(GOLD_RANDOM_BOUND) + 1;
         return new Gold(amount);
     }
 
@@ -170,7 +192,7 @@ public class ItemFactoryImpl implements ItemFactory {
      */
     @Override
     public Item createRandomRing() {
-        final int healing = BASE_RING_HEALING + GameRandom.nextInt(RING_HEALING_BOUND) + 1;
+        final int healing = BASE_RING_HEALING + random.nextInt(RING_HEALING_BOUND) + 1;
         return new Ring("Healing ring", healing);
     }
 
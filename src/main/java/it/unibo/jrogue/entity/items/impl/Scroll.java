@@ -27,6 +27,10 @@ public class Scroll implements Consumable {
                         continue;
                     }
                     ring.identify();
+                    if (player.isEquipped(ring)) {
+                        // The equipped ring is part of the player state: equipping it again refreshes it
+                        player.equip(ring);
+                    }
                     return true;
                 }
             }
@@ -0,0 +1,32 @@
+package it.unibo.jrogue.entity.world.api;
+
+import it.unibo.jrogue.commons.Move;
+
+/**
+ * Walking distances from every cell of a map to a single source cell.
+ */
+public interface DistanceField {
+
+    /**
+     * Value returned for cells from which the source cannot be reached.
+     */
+    int UNREACHABLE = Integer.MAX_VALUE;
+
+    /**
+     * Returns the number of moves needed to reach the source from a cell.
+     *
+     * @param x the column
+     * @param y the row
+     * @return the distance, or {@link #UNREACHABLE}
+     */
+    int distanceAt(int x, int y);
+
+    /**
+     * Returns a move that brings a cell one step closer to the source.
+     *
+     * @param x the column
+     * @param y the row
+     * @return the move, or {@link Move#IDLE} if the cell is the source or cannot reach it
+     */
+    Move stepTowardsSource(int x, int y);
+}
@@ -0,0 +1,23 @@
+package it.unibo.jrogue.entity.world.api;
+
+import java.util.BitSet;
+
+/**
+ * Computes which cells of a map are visible from a given origin.
+ */
+public interface FieldOfView {
+
+    /**
+     * Marks every cell visible from the origin within the given radius.
+     * Cells are identified by their map index {@code y * map.getWidth() + x}.
+     * Bits already set in {@code visible} are left untouched, so the same set
+     * can accumulate several sweeps; callers clear it when they need a fresh view.
+     *
+     * @param map     the map providing the terrain
+     * @param originX the column of the viewer
+     * @param originY the row of the viewer
+     * @param radius  the maximum distance, measured in king moves
+     * @param visible the set receiving the visible cells
+     */
+    void compute(GameMap map, int originX, int originY, int radius, BitSet visible);
+}
@@ -1,5 +1,6 @@
 package it.unibo.jrogue.entity.world.api;
 
+import it.unibo.jrogue.commons.Move;
 import it.unibo.jrogue.commons.Position;
 import it.unibo.jrogue.entity.entities.api.Enemy;
 import it.unibo.jrogue.entity.entities.api.Entity;
@@ -8,7 +9,9 @@ import it.unibo.jrogue.entity.items.api.Item;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalInt;
 import java.util.Set;
+import java.util.function.IntConsumer;
 
 /**
  * Represents the map of a single dungeon level.
@@ -31,6 +34,16 @@ public interface GameMap {
      */
     boolean isWalkable(Position pos);
 
+    /**
+     * Checks if the cell at the given coordinates is walkable.
+     * Allocation-free variant of {@link #isWalkable(Position)} for hot loops.
+     *
+     * @param x the column
+     * @param y the row
+     * @return true if the cell is inside the map and can be walked on
+     */
+    boolean isWalkable(int x, int y);
+
     /**
      * Returns the map width in tiles.
      *
@@ -53,6 +66,16 @@ public interface GameMap {
      */
     Tile getTileAt(Position pos);
 
+    /**
+     * Returns the tile at the given coordinates.
+     * Allocation-free variant of {@link #getTileAt(Position)} for hot loops.
+     *
+     * @param x the column
+     * @param y the row
+     * @return the tile at that cell, or VOID outside the map
+     */
+    Tile getTileAt(int x, int y);
+
     /**
      * Returns all rooms in this map.
      *
@@ -96,6 +119,16 @@ public interface GameMap {
      */
     Optional<Entity> getEntityAt(Position pos);
 
+    /**
+     * Checks if an entity added to this map stands on the given cell.
+     * The player is not part of the entity list and is never reported.
+     *
+     * @param x the column
+     * @param y the row
+     * @return true if the cell holds an entity
+     */
+    boolean isOccupied(int x, int y);
+
     /**
      * Returns the player on this map.
      *
@@ -103,6 +136,16 @@ public interface GameMap {
      */
     Optional<Player> getPlayer();
 
+    /**
+     * Returns the walking distances from every cell to the player.
+     * The field is recomputed lazily, only when the player has moved or a tile
+     * has changed since the last call, so every enemy of a turn shares one search.
+     * Without a player every cell is unreachable.
+     *
+     * @return the distance field towards the player
+     */
+    DistanceField getPlayerDistanceField();
+
     /**
      * Returns all enemies on this map.
      *
@@ -163,6 +206,15 @@ public interface GameMap {
      */
     Optional<Trap> getTrapAt(Position pos);
 
+    /**
+     * Triggers the trap at the specified position, if any.
+     * Traps must be triggered through the map so that its state hash follows them.
+     *
+     * @param pos the position of the trap.
+     * @return an Optional containing the triggered trap if present, empty otherwise.
+     */
+    Optional<Trap> triggerTrapAt(Position pos);
+
     /**
      * Returns the item at the given position without removing it.
      *
@@ -190,6 +242,7 @@ public interface GameMap {
      * Adds an entity to this map.
      *
      * @param entity the entity to add
+     * @throws IllegalArgumentException if another entity already stands on its cell
      */
     void addEntity(Entity entity);
 
@@ -201,6 +254,44 @@ public interface GameMap {
      */
     boolean removeEntity(Entity entity);
 
+    /**
+     * Returns the order in which an entity was first added to this map.
+     * Entities keep their index after being removed or added again, so on a level
+     * generated from its seed the index names the same entity in every regenerated copy.
+     *
+     * @param entity the entity
+     * @return the spawn index, or empty if the entity was never added
+     */
+    OptionalInt getSpawnIndex(Entity entity);
+
+    /**
+     * Returns the entity that was added to this map with the given spawn index,
+     * whether or not it is still on the map.
+     *
+     * @param index the spawn index
+     * @return the entity, or empty if fewer entities were ever added
+     */
+    Optional<Entity> getSpawned(int index);
+
+    /**
+     * Returns a hash of the state of the map: tiles, items, traps, entities and the player.
+     * The hash is updated at every change, so reading it costs nothing, and two maps in the
+     * same state have the same hash in every run.
+     *
+     * @return the state hash
+     */
+    long stateHash();
+
+    /**
+     * Moves an entity and keeps the map occupancy in sync.
+     * Entities on this map must be moved through here rather than
+     * with {@link Entity#doMove(Move)} directly.
+     *
+     * @param entity the entity to move
+     * @param move   the move to apply
+     */
+    void moveEntity(Entity entity, Move move);
+
     /**
      * Sets a tile at the given position.
      *
@@ -208,4 +299,56 @@ public interface GameMap {
      * @param tile the new tile
      */
     void setTileAt(Position pos, Tile tile);
+
+    /**
+     * Checks whether the player has ever seen a cell.
+     *
+     * @param x the column
+     * @param y the row
+     * @return true if the cell is revealed, false if it is hidden or outside the map
+     */
+    boolean isRevealed(int x, int y);
+
+    /**
+     * Marks a cell as seen by the player. Newly revealed cells are marked dirty in
+     * the {@link MapLayer#FOG} layer.
+     *
+     * @param x the column
+     * @param y the row
+     */
+    void reveal(int x, int y);
+
+    /**
+     * Returns the cells the player has seen, as the words of a bitset over the
+     * cells in row-major order, in the layout of {@link java.util.BitSet#toLongArray()}.
+     *
+     * @return a copy of the revealed cells
+     */
+    long[] getRevealedCells();
+
+    /**
+     * Reveals every cell set in a bitset returned by {@link #getRevealedCells()},
+     * as {@link #reveal(int, int)} would.
+     *
+     * @param cells the revealed cells
+     */
+    void revealCells(long[] cells);
+
+    /**
+     * Records that a cell of a layer changed and must be redrawn.
+     * The map marks its own changes; callers only mark changes it cannot see.
+     *
+     * @param layer the layer that changed
+     * @param x     the column
+     * @param y     the row
+     */
+    void markDirty(MapLayer layer, int x, int y);
+
+    /**
+     * Passes every cell of a layer changed since the previous call to the action, then forgets them.
+     *
+     * @param layer  the layer to drain
+     * @param action receives the index {@code y * width + x} of each changed cell
+     */
+    void drainDirtyCells(MapLayer layer, IntConsumer action);
 }
@@ -0,0 +1,20 @@
+package it.unibo.jrogue.entity.world.api;
+
+/**
+ * The layers of a map that change independently and can be redrawn one cell at a time.
+ * Entities are not a layer: views capture all of them every turn.
+ */
+public enum MapLayer {
+    /**
+     * Tiles and traps.
+     */
+    TERRAIN,
+    /**
+     * Items lying on the floor.
+     */
+    ITEMS,
+    /**
+     * The fog of war, dirty when a cell is revealed.
+     */
+    FOG
+}
@@ -0,0 +1,23 @@
+package it.unibo.jrogue.entity.world.api;
+
+import it.unibo.jrogue.commons.Move;
+import it.unibo.jrogue.commons.Position;
+
+/**
+ * Finds routes between two cells of a map.
+ */
+public interface PathFinder {
+
+    /**
+     * Returns the first step of a shortest walkable route from start to goal.
+     * Routes use the same eight moves as the entities, each costing one turn.
+     * The goal cell is always considered enterable, so the route can end on an occupied cell.
+     *
+     * @param map   the map providing the terrain
+     * @param start the starting cell
+     * @param goal  the cell to reach
+     * @return the first move of the route, or {@link Move#IDLE} if start equals goal
+     *         or the goal cannot be reached
+     */
+    Move nextStep(GameMap map, Position start, Position goal);
+}
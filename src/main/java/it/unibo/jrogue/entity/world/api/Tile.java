@@ -7,32 +7,34 @@ public enum Tile {
     /**
      * A solid wall tile that blocks movement.
      */
-    WALL('#'),
+    WALL('#', false),
     /**
      * A floor tile inside a room.
      */
-    FLOOR('.'),
+    FLOOR('.', true),
     /**
      * A corridor tile connecting rooms.
      */
-    CORRIDOR(','),
+    CORRIDOR(',', true),
     /**
      * Stairs leading up to the next level.
      */
-    STAIRS_UP('<'),
+    STAIRS_UP('<', true),
     /**
      * A trap tile.
      */
-    TRAP('^'),
+    TRAP('^', true),
     /**
      * Empty void (outside the map).
      */
-    VOID(' ');
+    VOID(' ', false);
 
     private final char symbol;
+    private final boolean walkable;
 
-    Tile(final char symbol) {
+    Tile(final char symbol, final boolean walkable) {
         this.symbol = symbol;
+        this.walkable = walkable;
     }
 
     /**
@@ -43,4 +45,23 @@ public enum Tile {
     public char getSymbol() {
         return symbol;
     }
+
+    /**
+     * Checks if entities can stand on this tile.
+     *
+     * @return true if the tile can be walked on
+     */
+    public boolean isWalkable() {
+        return walkable;
+    }
+
+    /**
+     * Checks if this tile stops line of sight.
+     * Every tile that cannot be walked on is also opaque.
+     *
+     * @return true if nothing behind this tile can be seen
+     */
+    public boolean blocksSight() {
+        return !walkable;
+    }
 }
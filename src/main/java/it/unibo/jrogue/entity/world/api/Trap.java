@@ -19,6 +19,13 @@ public interface Trap {
      */
     Position getPosition();
 
+    /**
+     * Tells whether the trap has not been triggered yet.
+     *
+     * @return true if the trap is still active
+     */
+    boolean isActive();
+
     /**
      * Get a description of the trap.
      *
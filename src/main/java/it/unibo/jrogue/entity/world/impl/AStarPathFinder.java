@@ -0,0 +1,206 @@
+package it.unibo.jrogue.entity.world.impl;
+
+import java.util.Arrays;
+
+import it.unibo.jrogue.commons.Move;
+import it.unibo.jrogue.commons.Position;
+import it.unibo.jrogue.entity.world.api.GameMap;
+import it.unibo.jrogue.entity.world.api.PathFinder;
+
+/**
+ * A* search over the map grid using Chebyshev distance as heuristic.
+ *
+ * <p>
+ * Nodes are flat cell indexes and the open set is an indexed binary heap
+ * over int arrays. All scratch arrays are kept between calls and are
+ * invalidated by bumping a generation counter instead of being cleared,
+ * so a search allocates nothing once the arrays fit the map.
+ * An instance is not thread safe; use {@link #forCurrentThread()} to get
+ * one per thread.
+ * </p>
+ */
+public final class AStarPathFinder implements PathFinder {
+
+    private static final Move[] STEPS = Arrays.stream(Move.values())
+            .filter(m -> m != Move.IDLE)
+            .toArray(Move[]::new);
+    private static final ThreadLocal<AStarPathFinder> PER_THREAD = ThreadLocal.withInitial(AStarPathFinder::new);
+    private static final int NONE = -1;
+
+    private int[] seen = new int[0];
+    private int[] closed = new int[0];
+    private int[] gScore = new int[0];
+    private int[] fScore = new int[0];
+    private int[] parent = new int[0];
+    private int[] via = new int[0];
+    private int[] heapPos = new int[0];
+    private int[] heap = new int[0];
+    private int heapSize;
+    private int generation;
+
+    /**
+     * Returns the path finder bound to the calling thread.
+     *
+     * @return the shared instance of this thread
+     */
+    public static AStarPathFinder forCurrentThread() {
+        return PER_THREAD.get();
+    }
+
+    @Override
+    public Move nextStep(final GameMap map, final Position start, final Position goal) {
+        final int width = map.getWidth();
+        final int height = map.getHeight();
+        if (start.equals(goal) || !inside(start, width, height) || !inside(goal, width, height)) {
+            return Move.IDLE;
+        }
+        prepare(width * height);
+        final int startIndex = start.y() * width + start.x();
+        final int goalIndex = goal.y() * width + goal.x();
+
+        open(startIndex, 0, heuristic(start.x(), start.y(), goal), NONE, NONE);
+        while (heapSize > 0) {
+            final int current = pop();
+            if (current == goalIndex) {
+                return firstStep(startIndex, goalIndex);
+            }
+            closed[current] = generation;
+            final int cx = current % width;
+            final int cy = current / width;
+            final int nextG = gScore[current] + 1;
+            for (int i = 0; i < STEPS.length; i++) {
+                final int nx = cx + STEPS[i].getX();
+                final int ny = cy + STEPS[i].getY();
+                if (nx < 0 || nx >= width || ny < 0 || ny >= height) {
+                    continue;
+                }
+                final int next = ny * width + nx;
+                if (closed[next] == generation || next != goalIndex && !map.isWalkable(nx, ny)) {
+                    continue;
+                }
+                if (seen[next] != generation) {
+                    open(next, nextG, nextG + heuristic(nx, ny, goal), current, i);
+                } else if (nextG < gScore[next]) {
+                    fScore[next] -= gScore[next] - nextG;
+                    gScore[next] = nextG;
+                    parent[next] = current;
+                    via[next] = i;
+                    siftUp(heapPos[next]);
+                }
+            }
+        }
+        return Move.IDLE;
+    }
+
+    private static boolean inside(final Position p, final int width, final int height) {
+        return p.x() >= 0 && p.x() < width && p.y() >= 0 && p.y() < height;
+    }
+
+    private static int heuristic(final int x, final int y, final Position goal) {
+        return Math.max(Math.abs(goal.x() - x), Math.abs(goal.y() - y));
+    }
+
+    private Move firstStep(final int startIndex, final int goalIndex) {
+        int cell = goalIndex;
+        while (parent[cell] != startIndex) {
+            cell = parent[cell];
+        }
+        return STEPS[via[cell]];
+    }
+
+    /**
+     * Starts a new search, growing the scratch arrays if the map is larger than before.
+     *
+     * @param cells the number of cells of the map
+     */
+    private void prepare(final int cells) {
+        if (seen.length < cells) {
+            seen = new int[cells];
+            closed = new int[cells];
+            gScore = new int[cells];
+            fScore = new int[cells];
+            parent = new int[cells];
+            via = new int[cells];
+            heapPos = new int[cells];
+            heap = new int[cells];
+            generation = 0;
+        } else if (generation == Integer.MAX_VALUE) {
+            Arrays.fill(seen, 0);
+            Arrays.fill(closed, 0);
+            generation = 0;
+        }
+        generation++;
+        heapSize = 0;
+    }
+
+    private void open(final int node, final int g, final int f, final int from, final int step) {
+        seen[node] = generation;
+        gScore[node] = g;
+        fScore[node] = f;
+        parent[node] = from;
+        via[node] = step;
+        heap[heapSize] = node;
+        heapPos[node] = heapSize;
+        heapSize++;
+        siftUp(heapSize - 1);
+    }
+
+    private int pop() {
+        final int top = heap[0];
+        heapSize--;
+        if (heapSize > 0) {
+            heap[0] = heap[heapSize];
+            heapPos[heap[0]] = 0;
+            siftDown(0);
+        }
+        return top;
+    }
+
+    /**
+     * Orders nodes by f score, preferring the deeper one on ties.
+     *
+     * @param a the first node
+     * @param b the second node
+     * @return true if a should be expanded before b
+     */
+    private boolean before(final int a, final int b) {
+        return fScore[a] < fScore[b] || fScore[a] == fScore[b] && gScore[a] > gScore[b];
+    }
+
+    private void siftUp(final int index) {
+        int child = index;
+        final int node = heap[child];
+        while (child > 0) {
+            final int up = (child - 1) / 2;
+            if (!before(node, heap[up])) {
+                break;
+            }
+            heap[child] = heap[up];
+            heapPos[heap[child]] = child;
+            child = up;
+        }
+        heap[child] = node;
+        heapPos[node] = child;
+    }
+
+    private void siftDown(final int index) {
+        int current = index;
+        final int node = heap[current];
+        while (true) {
+            final int left = current * 2 + 1;
+            if (left >= heapSize) {
+                break;
+            }
+            final int right = left + 1;
+            final int best = right < heapSize && before(heap[right], heap[left]) ? right : left;
+            if (!before(heap[best], node)) {
+                break;
+            }
+            heap[current] = heap[best];
+            heapPos[heap[current]] = current;
+            current = best;
+        }
+        heap[current] = node;
+        heapPos[node] = current;
+    }
+}
@@ -0,0 +1,99 @@
+package it.unibo.jrogue.entity.world.impl;
+
+import java.util.Arrays;
+
+import it.unibo.jrogue.commons.Move;
+import it.unibo.jrogue.entity.world.api.DistanceField;
+import it.unibo.jrogue.entity.world.api.GameMap;
+
+/**
+ * Distance field filled by a breadth-first search over the walkable cells,
+ * using the same eight moves as the entities.
+ * The distance and queue arrays are allocated once and reused by every update.
+ */
+public final class BreadthFirstDistanceField implements DistanceField {
+
+    private static final Move[] STEPS = Arrays.stream(Move.values())
+            .filter(m -> m != Move.IDLE)
+            .toArray(Move[]::new);
+
+    private final int width;
+    private final int height;
+    private final int[] distances;
+    private final int[] queue;
+
+    /**
+     * Creates an empty field where every cell is unreachable.
+     *
+     * @param width  the map width in tiles
+     * @param height the map height in tiles
+     */
+    public BreadthFirstDistanceField(final int width, final int height) {
+        this.width = width;
+        this.height = height;
+        this.distances = new int[width * height];
+        this.queue = new int[width * height];
+        Arrays.fill(distances, UNREACHABLE);
+    }
+
+    /**
+     * Recomputes every distance towards a new source.
+     * A source outside the map leaves every cell unreachable.
+     *
+     * @param map     the map providing the terrain, of the same size as this field
+     * @param sourceX the column of the source
+     * @param sourceY the row of the source
+     */
+    public void update(final GameMap map, final int sourceX, final int sourceY) {
+        Arrays.fill(distances, UNREACHABLE);
+        if (!isInBounds(sourceX, sourceY)) {
+            return;
+        }
+        int head = 0;
+        int tail = 0;
+        final int source = sourceY * width + sourceX;
+        distances[source] = 0;
+        queue[tail++] = source;
+        while (head < tail) {
+            final int current = queue[head++];
+            final int cx = current % width;
+            final int cy = current / width;
+            final int nextDistance = distances[current] + 1;
+            for (final Move step : STEPS) {
+                final int nx = cx + step.getX();
+                final int ny = cy + step.getY();
+                if (!isInBounds(nx, ny)) {
+                    continue;
+                }
+                final int next = ny * width + nx;
+                if (distances[next] == UNREACHABLE && map.isWalkable(nx, ny)) {
+                    distances[next] = nextDistance;
+                    queue[tail++] = next;
+                }
+            }
+        }
+    }
+
+    @Override
+    public int distanceAt(final int x, final int y) {
+        return isInBounds(x, y) ? distances[y * width + x] : UNREACHABLE;
+    }
+
+    @Override
+    public Move stepTowardsSource(final int x, final int y) {
+        final int here = distanceAt(x, y);
+        if (here == UNREACHABLE || here == 0) {
+            return Move.IDLE;
+        }
+        for (final Move step : STEPS) {
+            if (distanceAt(x + step.getX(), y + step.getY()) == here - 1) {
+                return step;
+            }
+        }
+        return Move.IDLE;
+    }
+
+    private boolean isInBounds(final int x, final int y) {
+        return x >= 0 && x < width && y >= 0 && y < height;
+    }
+}
@@ -32,6 +32,11 @@ public final class PitOfSpikesTrap implements Trap {
         return position;
     }
 
+    @Override
+    public boolean isActive() {
+        return active;
+    }
+
     @Override
     public String getDescription() {
         return "You fell on a trap";
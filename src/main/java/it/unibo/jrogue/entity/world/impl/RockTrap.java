@@ -39,6 +39,14 @@ public final class RockTrap implements Trap {
         return position;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isActive() {
+        return active;
+    }
+
     @Override
     public String getDescription() {
         return "You tripped over a rock";
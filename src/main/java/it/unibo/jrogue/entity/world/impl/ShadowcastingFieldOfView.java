@@ -0,0 +1,90 @@
+package it.unibo.jrogue.entity.world.impl;
+
+import java.util.BitSet;
+
+import it.unibo.jrogue.entity.world.api.FieldOfView;
+import it.unibo.jrogue.entity.world.api.GameMap;
+
+/**
+ * Field of view based on recursive shadowcasting.
+ * The area around the viewer is split into eight octants, each scanned row by row
+ * while the slopes hidden behind opaque tiles are skipped. Opaque tiles are
+ * visible themselves, and cells outside the map block sight.
+ * The class is stateless and can be shared between threads.
+ */
+public final class ShadowcastingFieldOfView implements FieldOfView {
+
+    private static final int OCTANTS = 8;
+    private static final double HALF = 0.5;
+    private static final int[] XX = {1, 0, 0, -1, -1, 0, 0, 1};
+    private static final int[] XY = {0, 1, -1, 0, 0, -1, 1, 0};
+    private static final int[] YX = {0, 1, 1, 0, 0, -1, -1, 0};
+    private static final int[] YY = {1, 0, 0, 1, -1, 0, 0, -1};
+
+    @Override
+    public void compute(final GameMap map, final int originX, final int originY,
+            final int radius, final BitSet visible) {
+        if (originX < 0 || originX >= map.getWidth() || originY < 0 || originY >= map.getHeight()) {
+            return;
+        }
+        visible.set(originY * map.getWidth() + originX);
+        for (int octant = 0; octant < OCTANTS; octant++) {
+            castLight(map, originX, originY, radius, 1, 1.0, 0.0, octant, visible);
+        }
+    }
+
+    /**
+     * Scans one octant from the given row outwards between two slopes.
+     *
+     * @param map     the map providing the terrain
+     * @param originX the column of the viewer
+     * @param originY the row of the viewer
+     * @param radius  the maximum distance
+     * @param row     the first row to scan
+     * @param start   the starting (steeper) slope
+     * @param end     the ending (shallower) slope
+     * @param octant  the octant being scanned
+     * @param visible the set receiving the visible cells
+     */
+    private void castLight(final GameMap map, final int originX, final int originY, final int radius,
+            final int row, final double start, final double end, final int octant, final BitSet visible) {
+        if (start < end) {
+            return;
+        }
+        double currentStart = start;
+        double nextStart = 0.0;
+        boolean blocked = false;
+        for (int distance = row; distance <= radius && !blocked; distance++) {
+            final int dy = -distance;
+            for (int dx = -distance; dx <= 0; dx++) {
+                final double leftSlope = (dx - HALF) / (dy + HALF);
+                final double rightSlope = (dx + HALF) / (dy - HALF);
+                if (currentStart < rightSlope) {
+                    continue;
+                }
+                if (end > leftSlope) {
+                    break;
+                }
+                final int x = originX + dx * XX[octant] + dy * XY[octant];
+                final int y = originY + dx * YX[octant] + dy * YY[octant];
+                final boolean inside = x >= 0 && x < map.getWidth() && y >= 0 && y < map.getHeight();
+                if (inside) {
+                    visible.set(y * map.getWidth() + x);
+                }
+                final boolean opaque = !inside || map.getTileAt(x, y).blocksSight();
+                if (blocked) {
+                    if (opaque) {
+                        nextStart = rightSlope;
+                    } else {
+                        blocked = false;
+                        currentStart = nextStart;
+                    }
+                } else if (opaque && distance < radius) {
+                    blocked = true;
+                    castLight(map, originX, originY, radius, distance + 1, currentStart, leftSlope, octant, visible);
+                    nextStart = rightSlope;
+                }
+            }
+        }
+    }
+}
@@ -1,34 +1,57 @@
 package it.unibo.jrogue.entity.world.impl;
 
+import it.unibo.jrogue.commons.Move;
 import it.unibo.jrogue.commons.Position;
+import it.unibo.jrogue.entity.Zobrist;
 import it.unibo.jrogue.entity.entities.api.Enemy;
 import it.unibo.jrogue.entity.entities.api.Entity;
 import it.unibo.jrogue.entity.entities.api.Player;
 import it.unibo.jrogue.entity.items.api.Item;
+import it.unibo.jrogue.entity.world.api.DistanceField;
 import it.unibo.jrogue.entity.world.api.GameMap;
 import it.unibo.jrogue.entity.world.api.Hallway;
+import it.unibo.jrogue.entity.world.api.MapLayer;
 import it.unibo.jrogue.entity.world.api.Room;
 import it.unibo.jrogue.entity.world.api.Tile;
 import it.unibo.jrogue.entity.world.api.Trap;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.OptionalInt;
 import java.util.Set;
+import java.util.function.IntConsumer;
 import java.util.stream.Collectors;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
 /**
  * Simple implementation of a dungeon map.
+ * Terrain is stored in a packed {@link TileGrid}, and entity positions are mirrored
+ * in a dense occupancy grid of slot ids so cell lookups never scan the entity list.
+ * Every change is also recorded per {@link MapLayer}, so views can redraw only the changed cells,
+ * and folded into an incremental {@link Zobrist} hash of the state.
  */
 public final class SimpleGameMap implements GameMap {
 
-    private final Tile[][] tiles;
+    private static final int INITIAL_SLOTS = 16;
+    private static final int EMPTY_CELL = 0;
+
+    private final TileGrid tiles;
+    /** Per-cell slot id plus one, or {@link #EMPTY_CELL}. */
+    private final int[] cellSlots;
+    private Entity[] slots;
+    private int[] freeSlots;
+    private int freeCount;
+    private int slotCount;
     private final int width;
     private final int height;
     private final List<Room> rooms;
@@ -38,8 +61,17 @@ public final class SimpleGameMap implements GameMap {
     private final Position startingPosition;
     private final Position stairsUp;
     private final Map<Position, Item> itemPositions;
+    private final BreadthFirstDistanceField playerDistances;
+    private Position playerDistancesSource;
+    private boolean playerDistancesStale = true;
     private Player player;
     private Set<Position> wallCache;
+    private final BitSet[] dirtyCells;
+    private final BitSet revealedCells;
+    private final List<Entity> spawned = new ArrayList<>();
+    private final Map<Entity, Integer> spawnIndices = new IdentityHashMap<>();
+    private long stateHash;
+    private long playerHash;
 
     /**
      * Creates a new game map.
@@ -56,9 +88,33 @@ public final class SimpleGameMap implements GameMap {
             final List<Hallway> hallways,
             final Position startingPosition,
             final Position stairsUp) {
-        this.height = tiles.length;
-        this.width = tiles.length > 0 ? tiles[0].length : 0;
-        this.tiles = copyTiles(tiles);
+        this(TileGrid.of(tiles), rooms, hallways, startingPosition, stairsUp);
+    }
+
+    /**
+     * Creates a new game map on top of an existing tile grid.
+     * The map takes ownership of the grid, so callers must not modify it afterwards.
+     *
+     * @param tiles            the packed terrain grid
+     * @param rooms            the rooms in this map
+     * @param hallways         the hallways connecting rooms
+     * @param startingPosition the player starting position
+     * @param stairsUp         the position of stairs to next level
+     */
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "The grid is handed over by the generator and owned by the map")
+    public SimpleGameMap(
+            final TileGrid tiles,
+            final List<Room> rooms,
+            final List<Hallway> hallways,
+            final Position startingPosition,
+            final Position stairsUp) {
+        this.tiles = tiles;
+        this.height = tiles.getHeight();
+        this.width = tiles.getWidth();
+        this.cellSlots = new int[width * height];
+        this.slots = new Entity[INITIAL_SLOTS];
+        this.freeSlots = new int[INITIAL_SLOTS];
+        this.playerDistances = new BreadthFirstDistanceField(width, height);
         this.rooms = List.copyOf(rooms);
         this.hallways = List.copyOf(hallways);
         this.entities = new ArrayList<>();
@@ -66,14 +122,16 @@ public final class SimpleGameMap implements GameMap {
         this.startingPosition = startingPosition;
         this.stairsUp = stairsUp;
         this.itemPositions = new HashMap<>();
-    }
-
-    private Tile[][] copyTiles(final Tile[][] original) {
-        final Tile[][] copy = new Tile[original.length][];
-        for (int i = 0; i < original.length; i++) {
-            copy[i] = original[i].clone();
+        this.revealedCells = new BitSet(width * height);
+        this.dirtyCells = new BitSet[MapLayer.values().length];
+        for (int i = 0; i < dirtyCells.length; i++) {
+            dirtyCells[i] = new BitSet(width * height);
+        }
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                stateHash ^= Zobrist.key(Zobrist.Feature.TILE, x, y, tiles.tileAt(x, y).ordinal());
+            }
         }
-        return copy;
     }
 
     @Override
@@ -83,14 +141,12 @@ public final class SimpleGameMap implements GameMap {
 
     @Override
     public boolean isWalkable(final Position pos) {
-        if (!isInBounds(pos)) {
-            return false;
-        }
-        final Tile tile = getTileAt(pos);
-        return tile == Tile.FLOOR
-                || tile == Tile.CORRIDOR
-                || tile == Tile.STAIRS_UP
-                || tile == Tile.TRAP;
+        return tiles.isWalkable(pos.x(), pos.y());
+    }
+
+    @Override
+    public boolean isWalkable(final int x, final int y) {
+        return tiles.isWalkable(x, y);
     }
 
     @Override
@@ -105,10 +161,12 @@ public final class SimpleGameMap implements GameMap {
 
     @Override
     public Tile getTileAt(final Position pos) {
-        if (!isInBounds(pos)) {
-            return Tile.VOID;
-        }
-        return tiles[pos.y()][pos.x()];
+        return tiles.tileAt(pos.x(), pos.y());
+    }
+
+    @Override
+    public Tile getTileAt(final int x, final int y) {
+        return tiles.tileAt(x, y);
     }
 
     @Override
@@ -138,25 +196,96 @@ public final class SimpleGameMap implements GameMap {
 
     @Override
     public Optional<Entity> getEntityAt(final Position pos) {
-        return entities.stream()
-                .filter(e -> e.getPosition().equals(pos))
-                .findFirst();
+        return Optional.ofNullable(occupantAt(pos.x(), pos.y()));
+    }
+
+    @Override
+    public boolean isOccupied(final int x, final int y) {
+        return tiles.isInBounds(x, y) && cellSlots[tiles.indexOf(x, y)] != EMPTY_CELL;
     }
 
     @Override
     public void addEntity(final Entity entity) {
+        final Position pos = entity.getPosition();
+        final boolean inBounds = tiles.isInBounds(pos.x(), pos.y());
+        if (inBounds && cellSlots[tiles.indexOf(pos.x(), pos.y())] != EMPTY_CELL) {
+            throw new IllegalArgumentException("Cell " + pos + " is already occupied");
+        }
         entities.add(entity);
+        if (spawnIndices.putIfAbsent(entity, spawned.size()) == null) {
+            spawned.add(entity);
+        }
+        stateHash ^= entity.stateHash();
+        entity.setStateListener(this::toggleHash);
+        if (inBounds) {
+            cellSlots[tiles.indexOf(pos.x(), pos.y())] = allocateSlot(entity) + 1;
+        }
     }
 
     @Override
     public boolean removeEntity(final Entity entity) {
-        return entities.remove(entity);
+        if (!entities.remove(entity)) {
+            return false;
+        }
+        stateHash ^= entity.stateHash();
+        entity.setStateListener(null);
+        final int slot = findSlot(entity);
+        if (slot >= 0) {
+            final Position pos = entity.getPosition();
+            if (tiles.isInBounds(pos.x(), pos.y()) && cellSlots[tiles.indexOf(pos.x(), pos.y())] == slot + 1) {
+                cellSlots[tiles.indexOf(pos.x(), pos.y())] = EMPTY_CELL;
+            }
+            releaseSlot(slot);
+        }
+        return true;
+    }
+
+    @Override
+    public OptionalInt getSpawnIndex(final Entity entity) {
+        final Integer index = spawnIndices.get(entity);
+        return index == null ? OptionalInt.empty() : OptionalInt.of(index);
+    }
+
+    @Override
+    public Optional<Entity> getSpawned(final int index) {
+        return index >= 0 && index < spawned.size() ? Optional.of(spawned.get(index)) : Optional.empty();
+    }
+
+    @Override
+    public long stateHash() {
+        return stateHash;
+    }
+
+    @Override
+    public void moveEntity(final Entity entity, final Move move) {
+        final Position from = entity.getPosition();
+        final int slot = occupantSlot(from.x(), from.y(), entity);
+        entity.doMove(move);
+        final Position to = entity.getPosition();
+        if (slot < 0) {
+            return;
+        }
+        cellSlots[tiles.indexOf(from.x(), from.y())] = EMPTY_CELL;
+        if (tiles.isInBounds(to.x(), to.y())) {
+            cellSlots[tiles.indexOf(to.x(), to.y())] = slot + 1;
+        }
     }
 
     @Override
     public void setTileAt(final Position pos, final Tile tile) {
-        if (isInBounds(pos)) {
-            tiles[pos.y()][pos.x()] = tile;
+        if (tiles.isInBounds(pos.x(), pos.y())) {
+            stateHash ^= Zobrist.key(Zobrist.Feature.TILE, pos.x(), pos.y(), tiles.tileAt(pos.x(), pos.y()).ordinal())
+                    ^ Zobrist.key(Zobrist.Feature.TILE, pos.x(), pos.y(), tile.ordinal());
+        }
+        tiles.setTileAt(pos.x(), pos.y(), tile);
+        playerDistancesStale = true;
+        markDirty(MapLayer.TERRAIN, pos.x(), pos.y());
+        if (wallCache != null && tiles.isInBounds(pos.x(), pos.y())) {
+            if (tile == Tile.WALL) {
+                wallCache.add(pos);
+            } else {
+                wallCache.remove(pos);
+            }
         }
     }
 
@@ -165,6 +294,22 @@ public final class SimpleGameMap implements GameMap {
         return Optional.ofNullable(player);
     }
 
+    @Override
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP", justification = "The field is a read-only view refreshed by the map")
+    public DistanceField getPlayerDistanceField() {
+        final Position source = player == null ? null : player.getPosition();
+        if (playerDistancesStale || !Objects.equals(source, playerDistancesSource)) {
+            if (source == null) {
+                playerDistances.update(this, -1, -1);
+            } else {
+                playerDistances.update(this, source.x(), source.y());
+            }
+            playerDistancesSource = source;
+            playerDistancesStale = false;
+        }
+        return playerDistances;
+    }
+
     @Override
     public List<Enemy> getEnemies() {
         return entities.stream()
@@ -189,22 +334,46 @@ public final class SimpleGameMap implements GameMap {
     @Override
     @SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "Player is intentionally shared across the game")
     public void setPlayer(final Player player) {
+        stateHash ^= playerHash;
         this.player = player;
+        playerHash = player == null ? 0 : player.stateHash();
+        stateHash ^= playerHash;
+        if (player != null) {
+            player.setStateListener(delta -> {
+                playerHash ^= delta;
+                stateHash ^= delta;
+            });
+        }
     }
 
     @Override
     public void addItem(final Position pos, final Item item) {
-        itemPositions.put(pos, item);
+        final Item replaced = itemPositions.put(pos, item);
+        if (replaced != null) {
+            stateHash ^= itemKey(pos, replaced);
+        }
+        stateHash ^= itemKey(pos, item);
+        markDirty(MapLayer.ITEMS, pos.x(), pos.y());
     }
 
     @Override
     public Optional<Item> removeItemAt(final Position pos) {
-        return Optional.ofNullable(itemPositions.remove(pos));
+        final Optional<Item> removed = Optional.ofNullable(itemPositions.remove(pos));
+        if (removed.isPresent()) {
+            stateHash ^= itemKey(pos, removed.get());
+            markDirty(MapLayer.ITEMS, pos.x(), pos.y());
+        }
+        return removed;
     }
 
     @Override
     public void addTrap(final Position pos, final Trap trap) {
-        traps.put(pos, trap);
+        final Trap replaced = traps.put(pos, trap);
+        if (replaced != null) {
+            stateHash ^= trapKey(pos, replaced);
+        }
+        stateHash ^= trapKey(pos, trap);
+        markDirty(MapLayer.TERRAIN, pos.x(), pos.y());
     }
 
     @Override
@@ -212,9 +381,25 @@ public final class SimpleGameMap implements GameMap {
         return Optional.ofNullable(traps.get(pos));
     }
 
+    @Override
+    public Optional<Trap> triggerTrapAt(final Position pos) {
+        final Optional<Trap> trap = getTrapAt(pos);
+        trap.ifPresent(t -> {
+            stateHash ^= trapKey(pos, t);
+            t.trigger();
+            stateHash ^= trapKey(pos, t);
+        });
+        return trap;
+    }
+
     @Override
     public Optional<Trap> removeTrapAt(final Position pos) {
-        return Optional.ofNullable(traps.remove(pos));
+        final Optional<Trap> removed = Optional.ofNullable(traps.remove(pos));
+        if (removed.isPresent()) {
+            stateHash ^= trapKey(pos, removed.get());
+            markDirty(MapLayer.TERRAIN, pos.x(), pos.y());
+        }
+        return removed;
     }
 
     @Override
@@ -227,6 +412,134 @@ public final class SimpleGameMap implements GameMap {
         return Collections.unmodifiableMap(traps);
     }
 
+    @Override
+    public boolean isRevealed(final int x, final int y) {
+        return tiles.isInBounds(x, y) && revealedCells.get(tiles.indexOf(x, y));
+    }
+
+    @Override
+    public void reveal(final int x, final int y) {
+        if (tiles.isInBounds(x, y) && !revealedCells.get(tiles.indexOf(x, y))) {
+            revealedCells.set(tiles.indexOf(x, y));
+            markDirty(MapLayer.FOG, x, y);
+        }
+    }
+
+    @Override
+    public long[] getRevealedCells() {
+        return revealedCells.toLongArray();
+    }
+
+    @Override
+    public void revealCells(final long[] cells) {
+        final BitSet revealed = BitSet.valueOf(cells);
+        for (int i = revealed.nextSetBit(0); i >= 0 && i < width * height; i = revealed.nextSetBit(i + 1)) {
+            reveal(i % width, i / width);
+        }
+    }
+
+    @Override
+    public void markDirty(final MapLayer layer, final int x, final int y) {
+        if (tiles.isInBounds(x, y)) {
+            dirtyCells[layer.ordinal()].set(tiles.indexOf(x, y));
+        }
+    }
+
+    @Override
+    public void drainDirtyCells(final MapLayer layer, final IntConsumer action) {
+        final BitSet dirty = dirtyCells[layer.ordinal()];
+        for (int i = dirty.nextSetBit(0); i >= 0; i = dirty.nextSetBit(i + 1)) {
+            action.accept(i);
+        }
+        dirty.clear();
+    }
+
+    private void toggleHash(final long delta) {
+        stateHash ^= delta;
+    }
+
+    private static long itemKey(final Position pos, final Item item) {
+        return Zobrist.key(Zobrist.Feature.ITEM, pos.x(), pos.y(), Zobrist.itemValue(item));
+    }
+
+    private static long trapKey(final Position pos, final Trap trap) {
+        return Zobrist.key(Zobrist.Feature.TRAP, pos.x(), pos.y(), Zobrist.trapValue(trap));
+    }
+
+    /**
+     * Returns the indexed entity standing on a cell.
+     *
+     * @param x the column
+     * @param y the row
+     * @return the entity, or null if the cell is empty or out of bounds
+     */
+    private Entity occupantAt(final int x, final int y) {
+        if (!tiles.isInBounds(x, y)) {
+            return null;
+        }
+        final int id = cellSlots[tiles.indexOf(x, y)];
+        return id == EMPTY_CELL ? null : slots[id - 1];
+    }
+
+    /**
+     * Returns the slot of an entity if it is indexed on the given cell.
+     *
+     * @param x      the column
+     * @param y      the row
+     * @param entity the expected occupant
+     * @return the slot, or -1 if the entity is not indexed there
+     */
+    private int occupantSlot(final int x, final int y, final Entity entity) {
+        if (!tiles.isInBounds(x, y)) {
+            return -1;
+        }
+        final int id = cellSlots[tiles.indexOf(x, y)];
+        return id != EMPTY_CELL && slots[id - 1] == entity ? id - 1 : -1;
+    }
+
+    /**
+     * Finds the slot of an entity, looking at its current cell first.
+     *
+     * @param entity the entity to look up
+     * @return the slot, or -1 if the entity holds none
+     */
+    private int findSlot(final Entity entity) {
+        final Position pos = entity.getPosition();
+        final int slot = occupantSlot(pos.x(), pos.y(), entity);
+        if (slot >= 0) {
+            return slot;
+        }
+        for (int i = 0; i < slotCount; i++) {
+            if (slots[i] == entity) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private int allocateSlot(final Entity entity) {
+        final int slot;
+        if (freeCount > 0) {
+            freeCount--;
+            slot = freeSlots[freeCount];
+        } else {
+            if (slotCount == slots.length) {
+                slots = Arrays.copyOf(slots, slotCount * 2);
+                freeSlots = Arrays.copyOf(freeSlots, slotCount * 2);
+            }
+            slot = slotCount;
+            slotCount++;
+        }
+        slots[slot] = entity;
+        return slot;
+    }
+
+    private void releaseSlot(final int slot) {
+        slots[slot] = null;
+        freeSlots[freeCount] = slot;
+        freeCount++;
+    }
+
     /**
      * Builds the wall position cache by scanning all tiles.
      */
@@ -234,15 +547,11 @@ public final class SimpleGameMap implements GameMap {
         wallCache = new HashSet<>();
         for (int y = 0; y < height; y++) {
             for (int x = 0; x < width; x++) {
-                if (tiles[y][x] == Tile.WALL) {
+                if (tiles.tileAt(x, y) == Tile.WALL) {
                     wallCache.add(new Position(x, y));
                 }
             }
         }
     }
 
-    private boolean isInBounds(final Position pos) {
-        return pos.x() >= 0 && pos.x() < width && pos.y() >= 0 && pos.y() < height;
-    }
-
 }
@@ -0,0 +1,161 @@
+package it.unibo.jrogue.entity.world.impl;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import it.unibo.jrogue.entity.world.api.Tile;
+
+/**
+ * Compact terrain grid backed by a flat byte array.
+ * Each cell stores the ordinal of its tile at index {@code y * width + x},
+ * so a whole map costs one byte per tile and lookups need no objects.
+ */
+public final class TileGrid {
+
+    private static final Tile[] TILES = Tile.values();
+
+    private final byte[] cells;
+    private final int width;
+    private final int height;
+
+    /**
+     * Creates a grid filled with the given tile.
+     *
+     * @param width  the grid width in tiles
+     * @param height the grid height in tiles
+     * @param fill   the tile every cell starts with
+     * @throws IllegalArgumentException if width or height is negative
+     */
+    public TileGrid(final int width, final int height, final Tile fill) {
+        if (width < 0 || height < 0) {
+            throw new IllegalArgumentException("Grid size cannot be negative");
+        }
+        Objects.requireNonNull(fill, "fill tile cannot be null");
+        this.width = width;
+        this.height = height;
+        this.cells = new byte[width * height];
+        Arrays.fill(cells, (byte) fill.ordinal());
+    }
+
+    private TileGrid(final TileGrid other) {
+        this.width = other.width;
+        this.height = other.height;
+        this.cells = other.cells.clone();
+    }
+
+    /**
+     * Creates a grid from a 2D tile array indexed as [y][x].
+     *
+     * @param tiles the tiles to pack
+     * @return a new grid holding the same tiles
+     */
+    public static TileGrid of(final Tile[][] tiles) {
+        final int height = tiles.length;
+        final int width = height > 0 ? tiles[0].length : 0;
+        final TileGrid grid = new TileGrid(width, height, Tile.VOID);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                grid.setTileAt(x, y, tiles[y][x]);
+            }
+        }
+        return grid;
+    }
+
+    /**
+     * Returns the grid width in tiles.
+     *
+     * @return the width
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * Returns the grid height in tiles.
+     *
+     * @return the height
+     */
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Checks if the coordinates are inside the grid.
+     *
+     * @param x the column
+     * @param y the row
+     * @return true if the cell exists
+     */
+    public boolean isInBounds(final int x, final int y) {
+        return x >= 0 && x < width && y >= 0 && y < height;
+    }
+
+    /**
+     * Returns the flat index of a cell. Coordinates must be in bounds.
+     *
+     * @param x the column
+     * @param y the row
+     * @return the cell index
+     */
+    public int indexOf(final int x, final int y) {
+        return y * width + x;
+    }
+
+    /**
+     * Returns the tile at the given coordinates.
+     *
+     * @param x the column
+     * @param y the row
+     * @return the tile, or VOID outside the grid
+     */
+    public Tile tileAt(final int x, final int y) {
+        if (!isInBounds(x, y)) {
+            return Tile.VOID;
+        }
+        return TILES[cells[indexOf(x, y)]];
+    }
+
+    /**
+     * Returns the tile stored at a flat index.
+     *
+     * @param index the cell index
+     * @return the tile at that index
+     */
+    public Tile tileAt(final int index) {
+        return TILES[cells[index]];
+    }
+
+    /**
+     * Checks if the cell can be walked on.
+     *
+     * @param x the column
+     * @param y the row
+     * @return true if the cell is inside the grid and walkable
+     */
+    public boolean isWalkable(final int x, final int y) {
+        return isInBounds(x, y) && TILES[cells[indexOf(x, y)]].isWalkable();
+    }
+
+    /**
+     * Replaces the tile at the given coordinates.
+     * Coordinates outside the grid are ignored.
+     *
+     * @param x    the column
+     * @param y    the row
+     * @param tile the new tile
+     */
+    public void setTileAt(final int x, final int y, final Tile tile) {
+        if (isInBounds(x, y)) {
+            cells[indexOf(x, y)] = (byte) tile.ordinal();
+        }
+    }
+
+    /**
+     * Returns an independent copy of this grid.
+     *
+     * @return the copy
+     */
+    public TileGrid copy() {
+        return new TileGrid(this);
+    }
+}
@@ -1,11 +1,14 @@
 package it.unibo.jrogue.entity.world.impl;
 
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import it.unibo.jrogue.commons.Position;
 import it.unibo.jrogue.entity.GameRandom;
 import it.unibo.jrogue.entity.world.api.Trap;
 import it.unibo.jrogue.entity.world.api.TrapFactory;
 
+import java.util.Objects;
 import java.util.Optional;
+import java.util.random.RandomGenerator;
 
 /**
  * Implementation of the TrapFactory.
@@ -16,6 +19,25 @@ public final class TrapFactoryImpl implements TrapFactory {
     private static final int ROLL_MAX = 100;
     private static final int MIN_LEVEL_SPIKES = 6;
 
+    private final RandomGenerator random;
+
+    /**
+     * Creates a factory drawing from the shared {@link GameRandom}.
+     */
+    public TrapFactoryImpl() {
+        this(GameRandom.generator());
+    }
+
+    /**
+     * Creates a factory drawing from the given generator.
+     *
+     * @param random the generator used for every roll
+     */
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "The generator is shared on purpose with the level being populated")
+    public TrapFactoryImpl(final RandomGenerator random) {
+        this.random = Objects.requireNonNull(random);
+    }
+
     @Override
     public Trap createRockTrap(final Position position) {
         return new RockTrap(position);
@@ -28,7 +50,7 @@ public final class TrapFactoryImpl implements TrapFactory {
 
     @Override
     public Optional<Trap> createRandomTrap(final Position position, final int level) {
-        final int roll = GameRandom.nextInt(ROLL_MAX);
+        final int roll = random.nextInt(ROLL_MAX);
               if (level >= MIN_LEVEL_SPIKES && roll >= CHANCE_ROCK) {
             return Optional.of(createPitOfSpikesTrap(position));
         }
@@ -0,0 +1,75 @@
+package it.unibo.jrogue.main;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.function.LongFunction;
+
+import it.unibo.jrogue.engine.TurnJournal;
+import it.unibo.jrogue.simulation.api.BatchReport;
+import it.unibo.jrogue.simulation.api.Bot;
+import it.unibo.jrogue.simulation.api.ReplayResult;
+import it.unibo.jrogue.simulation.impl.BatchSimulator;
+import it.unibo.jrogue.simulation.impl.JournalReplay;
+import it.unibo.jrogue.simulation.impl.RandomBot;
+import it.unibo.jrogue.simulation.impl.StairsBot;
+
+/**
+ * Entry point that plays games without opening any window.
+ *
+ * <p>
+ * Usage: {@code HeadlessMain [firstSeed] [games] [stairs|random] [maxTurns] [threads]}.
+ * The games are played in parallel and an aggregate report is printed.
+ * </p>
+ *
+ * <p>
+ * Usage: {@code HeadlessMain replay [journal]} plays a recorded game again, by default
+ * the last one played in the graphical game, and prints whether every checkpoint matched.
+ * </p>
+ */
+public final class HeadlessMain {
+
+    private static final int DEFAULT_GAMES = 10;
+    private static final int DEFAULT_MAX_TURNS = 5000;
+    private static final int ARG_GAMES = 1;
+    private static final int ARG_BOT = 2;
+    private static final int ARG_MAX_TURNS = 3;
+    private static final int ARG_THREADS = 4;
+    /** The bots that can be chosen by name, built from the seed of each game. */
+    private static final Map<String, LongFunction<Bot>> BOTS = Map.of(
+            "stairs", seed -> new StairsBot(),
+            "random", RandomBot::new);
+
+    private HeadlessMain() {
+    }
+
+    /**
+     * @param args the optional first seed, number of games, bot name, turn limit and thread count.
+     * @throws IOException if a journal to replay cannot be read
+     */
+    public static void main(final String[] args) throws IOException {
+        if (args.length > 0 && "replay".equals(args[0])) {
+            final Path journal = args.length > 1 ? Path.of(args[1]) : TurnJournal.getDefaultPath();
+            final ReplayResult result = new JournalReplay(journal).run();
+            new PrintStream(System.out, true, StandardCharsets.UTF_8)
+                    .println((result.matches() ? "MATCH " : "DIVERGED ") + result);
+            return;
+        }
+        final long firstSeed = args.length > 0 ? Long.parseLong(args[0]) : 0L;
+        final int games = args.length > ARG_GAMES ? Integer.parseInt(args[ARG_GAMES]) : DEFAULT_GAMES;
+        final String botName = args.length > ARG_BOT ? args[ARG_BOT] : "stairs";
+        final int maxTurns = args.length > ARG_MAX_TURNS ? Integer.parseInt(args[ARG_MAX_TURNS]) : DEFAULT_MAX_TURNS;
+        final int threads = args.length > ARG_THREADS
+                ? Integer.parseInt(args[ARG_THREADS])
+                : Runtime.getRuntime().availableProcessors();
+        final LongFunction<Bot> bot = BOTS.get(botName);
+        if (bot == null) {
+            throw new IllegalArgumentException("Unknown bot: " + botName + ", expected one of " + BOTS.keySet());
+        }
+        final BatchReport report = new BatchSimulator(threads, maxTurns).simulate(firstSeed, games, bot);
+        final PrintStream out = new PrintStream(System.out, true, StandardCharsets.UTF_8);
+        out.println(report);
+    }
+}
@@ -1,7 +1,11 @@
 package it.unibo.jrogue.main;
 
+import java.io.IOException;
+
+import it.unibo.jrogue.engine.AutosaveService;
 import it.unibo.jrogue.engine.BaseController;
 import it.unibo.jrogue.engine.GameState;
+import it.unibo.jrogue.engine.Metrics;
 import it.unibo.jrogue.engine.ScalableContentPane;
 import javafx.application.Application;
 import javafx.scene.Scene;
@@ -30,6 +34,20 @@ public final class Launch extends Application {
         primaryStage.show();
     }
 
+    /**
+     * Lets the pending autosave reach the disk and dumps the timings collected
+     * during the session next to the save file.
+     */
+    @Override
+    public void stop() {
+        AutosaveService.flush();
+        try {
+            Metrics.dump(Metrics.getDefaultDumpPath());
+        } catch (final IOException e) {
+            // Timings are a diagnostic aid, losing them must not prevent the game from closing
+        }
+    }
+
     /**
      * Launches the software.
      * 
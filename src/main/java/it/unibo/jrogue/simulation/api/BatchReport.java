@@ -0,0 +1,83 @@
+package it.unibo.jrogue.simulation.api;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * Aggregate statistics of a batch of simulated games.
+ *
+ * @param games         the number of games played
+ * @param outcomes      how many games ended with each outcome
+ * @param deathLevels   how many deaths happened on each dungeon level
+ * @param averageLevel  the mean dungeon level reached
+ * @param averageTurns  the mean number of turns survived
+ * @param maxTurns      the longest game in turns
+ * @param averageGold   the mean gold collected
+ * @param averageKills  the mean number of enemies killed
+ * @param totalKills    the number of enemies killed over all games
+ */
+public record BatchReport(
+    int games,
+    Map<GameOutcome, Integer> outcomes,
+    SortedMap<Integer, Integer> deathLevels,
+    double averageLevel,
+    double averageTurns,
+    int maxTurns,
+    double averageGold,
+    double averageKills,
+    long totalKills
+) {
+
+    /**
+     * Creates a report, keeping read-only copies of the maps.
+     *
+     * @param games         the number of games played
+     * @param outcomes      how many games ended with each outcome
+     * @param deathLevels   how many deaths happened on each dungeon level
+     * @param averageLevel  the mean dungeon level reached
+     * @param averageTurns  the mean number of turns survived
+     * @param maxTurns      the longest game in turns
+     * @param averageGold   the mean gold collected
+     * @param averageKills  the mean number of enemies killed
+     * @param totalKills    the number of enemies killed over all games
+     */
+    public BatchReport {
+        outcomes = Collections.unmodifiableMap(new EnumMap<>(outcomes));
+        deathLevels = Collections.unmodifiableSortedMap(new TreeMap<>(deathLevels));
+    }
+
+    /**
+     * Aggregates the results of single games.
+     *
+     * @param results the results to aggregate
+     * @return the report
+     */
+    public static BatchReport of(final List<GameResult> results) {
+        final Map<GameOutcome, Integer> outcomes = new EnumMap<>(GameOutcome.class);
+        final SortedMap<Integer, Integer> deathLevels = new TreeMap<>();
+        long levels = 0;
+        long turns = 0;
+        long gold = 0;
+        long kills = 0;
+        int longest = 0;
+        for (final GameResult result : results) {
+            outcomes.merge(result.outcome(), 1, Integer::sum);
+            if (result.outcome() == GameOutcome.DIED) {
+                deathLevels.merge(result.level(), 1, Integer::sum);
+            }
+            levels += result.level();
+            turns += result.turns();
+            gold += result.gold();
+            kills += result.kills();
+            longest = Math.max(longest, result.turns());
+        }
+        final int games = results.size();
+        final double divisor = Math.max(1, games);
+        return new BatchReport(games, outcomes, deathLevels, levels / divisor, turns / divisor,
+                longest, gold / divisor, kills / divisor, kills);
+    }
+}
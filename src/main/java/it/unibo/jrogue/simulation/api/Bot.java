@@ -0,0 +1,33 @@
+package it.unibo.jrogue.simulation.api;
+
+import it.unibo.jrogue.commons.Move;
+import it.unibo.jrogue.entity.entities.api.Player;
+import it.unibo.jrogue.entity.world.api.GameMap;
+
+/**
+ * Input source that plays the game in place of a human.
+ */
+@FunctionalInterface
+public interface Bot {
+
+    /**
+     * Chooses the player move for the next turn.
+     * Moving into an enemy attacks it, exactly like keyboard input.
+     *
+     * @param map    the current level map
+     * @param player the player
+     * @return the move to play
+     */
+    Move nextMove(GameMap map, Player player);
+
+    /**
+     * Decides whether to take the stairs when the player stands on them.
+     *
+     * @param map    the current level map
+     * @param player the player
+     * @return true to descend to the next level
+     */
+    default boolean wantsToDescend(final GameMap map, final Player player) {
+        return true;
+    }
+}
@@ -0,0 +1,23 @@
+package it.unibo.jrogue.simulation.api;
+
+/**
+ * How a simulated game ended.
+ */
+public enum GameOutcome {
+    /**
+     * The player was killed.
+     */
+    DIED,
+    /**
+     * The player picked up the amulet.
+     */
+    WON,
+    /**
+     * The player took the stairs of the last level.
+     */
+    FINISHED,
+    /**
+     * The game was stopped after the maximum number of turns.
+     */
+    TURN_LIMIT
+}
@@ -0,0 +1,23 @@
+package it.unibo.jrogue.simulation.api;
+
+/**
+ * Summary of a single simulated game.
+ *
+ * @param seed    the base seed of the game
+ * @param outcome how the game ended
+ * @param level   the dungeon level reached
+ * @param turns   the number of turns played
+ * @param gold    the gold collected
+ * @param xp      the experience collected
+ * @param kills   the number of enemies killed
+ */
+public record GameResult(
+    long seed,
+    GameOutcome outcome,
+    int level,
+    int turns,
+    int gold,
+    int xp,
+    int kills
+) {
+}
@@ -0,0 +1,32 @@
+package it.unibo.jrogue.simulation.api;
+
+import java.util.OptionalInt;
+
+/**
+ * Summary of a journal played again.
+ *
+ * @param seed           the base seed of the recorded game
+ * @param turns          the number of turns replayed
+ * @param level          the dungeon level reached
+ * @param checkpoints    the number of checkpoints compared
+ * @param divergedAtTurn the turn of the first checkpoint whose hash did not match, empty if none
+ * @param elapsedNanos   the time taken by the replay
+ */
+public record ReplayResult(
+    long seed,
+    int turns,
+    int level,
+    int checkpoints,
+    OptionalInt divergedAtTurn,
+    long elapsedNanos
+) {
+
+    /**
+     * Tells whether the replay reached every checkpoint in the recorded state.
+     *
+     * @return true if no checkpoint diverged
+     */
+    public boolean matches() {
+        return divergedAtTurn.isEmpty();
+    }
+}
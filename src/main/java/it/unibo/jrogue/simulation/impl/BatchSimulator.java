@@ -0,0 +1,82 @@
+package it.unibo.jrogue.simulation.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.LongFunction;
+
+import it.unibo.jrogue.simulation.api.BatchReport;
+import it.unibo.jrogue.simulation.api.Bot;
+import it.unibo.jrogue.simulation.api.GameResult;
+
+/**
+ * Plays many seeded headless games in parallel on a fork-join pool.
+ * Every game runs start to finish on a single worker thread, and the game's
+ * randomness is bound to that thread, so results match a sequential run.
+ */
+public final class BatchSimulator {
+
+    private final int parallelism;
+    private final int maxTurns;
+
+    /**
+     * Creates a simulator.
+     *
+     * @param parallelism the number of games played at the same time
+     * @param maxTurns    the turn limit of every game
+     * @throws IllegalArgumentException if a parameter is not positive
+     */
+    public BatchSimulator(final int parallelism, final int maxTurns) {
+        if (parallelism <= 0 || maxTurns <= 0) {
+            throw new IllegalArgumentException("parallelism and maxTurns must be positive");
+        }
+        this.parallelism = parallelism;
+        this.maxTurns = maxTurns;
+    }
+
+    /**
+     * Plays one game for each seed of a consecutive range.
+     *
+     * @param firstSeed the seed of the first game
+     * @param games     the number of games
+     * @param botPolicy creates the bot of a game from its seed
+     * @return the results, ordered by seed
+     * @throws IllegalStateException if a game fails or the batch is interrupted
+     */
+    public List<GameResult> run(final long firstSeed, final int games, final LongFunction<Bot> botPolicy) {
+        Objects.requireNonNull(botPolicy, "botPolicy cannot be null");
+        final List<Callable<GameResult>> tasks = new ArrayList<>(games);
+        for (long seed = firstSeed; seed < firstSeed + games; seed++) {
+            final long gameSeed = seed;
+            tasks.add(() -> new HeadlessGame(gameSeed, botPolicy.apply(gameSeed), maxTurns).run());
+        }
+        try (ForkJoinPool pool = new ForkJoinPool(parallelism)) {
+            final List<GameResult> results = new ArrayList<>(games);
+            for (final Future<GameResult> future : pool.invokeAll(tasks)) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Batch simulation interrupted", e);
+        } catch (final ExecutionException e) {
+            throw new IllegalStateException("A simulated game failed", e.getCause());
+        }
+    }
+
+    /**
+     * Plays a range of seeds and aggregates the results.
+     *
+     * @param firstSeed the seed of the first game
+     * @param games     the number of games
+     * @param botPolicy creates the bot of a game from its seed
+     * @return the aggregate report
+     */
+    public BatchReport simulate(final long firstSeed, final int games, final LongFunction<Bot> botPolicy) {
+        return BatchReport.of(run(firstSeed, games, botPolicy));
+    }
+}
@@ -0,0 +1,78 @@
+package it.unibo.jrogue.simulation.impl;
+
+import java.util.Objects;
+
+import it.unibo.jrogue.boundary.HeadlessRenderer;
+import it.unibo.jrogue.boundary.NullSoundSystem;
+import it.unibo.jrogue.controller.DungeonController;
+import it.unibo.jrogue.entity.entities.api.Player;
+import it.unibo.jrogue.simulation.api.Bot;
+import it.unibo.jrogue.simulation.api.GameOutcome;
+import it.unibo.jrogue.simulation.api.GameResult;
+
+/**
+ * Plays a whole game without any JavaFX dependency, taking input from a bot.
+ * Stairs and victory are handled as in the graphical game: taking the stairs
+ * does not cost a turn, and taking them on the last level ends the game.
+ */
+public final class HeadlessGame {
+
+    private final long seed;
+    private final Bot bot;
+    private final int maxTurns;
+
+    /**
+     * Creates a headless game.
+     *
+     * @param seed     the base seed of the dungeon
+     * @param bot      the input source
+     * @param maxTurns the number of turns after which the game is stopped
+     * @throws IllegalArgumentException if maxTurns is not positive
+     */
+    public HeadlessGame(final long seed, final Bot bot, final int maxTurns) {
+        if (maxTurns <= 0) {
+            throw new IllegalArgumentException("maxTurns must be positive");
+        }
+        this.seed = seed;
+        this.bot = Objects.requireNonNull(bot, "bot cannot be null");
+        this.maxTurns = maxTurns;
+    }
+
+    /**
+     * Plays the game until it ends or the turn limit is reached.
+     *
+     * @return the result of the game
+     */
+    public GameResult run() {
+        final DungeonController dungeon = new DungeonController(seed, new HeadlessRenderer(), new NullSoundSystem());
+        dungeon.startNewGame();
+        final Player player = dungeon.getPlayer();
+        int turns = 0;
+        while (true) {
+            if (!player.isAlive()) {
+                return result(dungeon, GameOutcome.DIED, turns);
+            }
+            if (player.hasWon()) {
+                return result(dungeon, GameOutcome.WON, turns);
+            }
+            if (dungeon.isOnStairs() && bot.wantsToDescend(dungeon.getCurrentMap(), player)) {
+                if (dungeon.getCurrentLevel() >= DungeonController.MAX_LEVEL) {
+                    return result(dungeon, GameOutcome.FINISHED, turns);
+                }
+                dungeon.nextLevel();
+                continue;
+            }
+            if (turns >= maxTurns) {
+                return result(dungeon, GameOutcome.TURN_LIMIT, turns);
+            }
+            dungeon.executeTurn(bot.nextMove(dungeon.getCurrentMap(), player));
+            turns++;
+        }
+    }
+
+    private GameResult result(final DungeonController dungeon, final GameOutcome outcome, final int turns) {
+        final Player player = dungeon.getPlayer();
+        return new GameResult(seed, outcome, dungeon.getCurrentLevel(), turns, player.getGold(), player.getXP(),
+                dungeon.getKillCount());
+    }
+}
@@ -0,0 +1,73 @@
+package it.unibo.jrogue.simulation.impl;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalInt;
+
+import it.unibo.jrogue.boundary.HeadlessRenderer;
+import it.unibo.jrogue.boundary.NullSoundSystem;
+import it.unibo.jrogue.controller.DungeonController;
+import it.unibo.jrogue.controller.InventoryManagerImpl;
+import it.unibo.jrogue.controller.api.InventoryManager;
+import it.unibo.jrogue.engine.TurnJournal;
+import it.unibo.jrogue.simulation.api.ReplayResult;
+
+/**
+ * Plays a recorded game again, without any JavaFX dependency and as fast as possible.
+ * Every checkpoint of the journal is compared with the {@link DungeonController#stateHash()
+ * state hash} of the replay, so a replay that diverges from the recorded game is reported.
+ */
+public final class JournalReplay {
+
+    private final Path journal;
+
+    /**
+     * Creates a replay of a journal.
+     *
+     * @param journal the journal file
+     */
+    public JournalReplay(final Path journal) {
+        this.journal = Objects.requireNonNull(journal, "journal cannot be null");
+    }
+
+    /**
+     * Replays the whole journal.
+     *
+     * @return the result of the replay
+     * @throws IOException if the journal cannot be read or is malformed
+     */
+    public ReplayResult run() throws IOException {
+        final long start = System.nanoTime();
+        final TurnJournal.Reader reader = TurnJournal.read(journal);
+        final DungeonController dungeon = new DungeonController(reader.getSeed(), new HeadlessRenderer(),
+                new NullSoundSystem());
+        dungeon.startNewGame();
+        final InventoryManager inventory = new InventoryManagerImpl(dungeon.getPlayer(), new NullSoundSystem());
+        int turns = 0;
+        int checkpoints = 0;
+        OptionalInt diverged = OptionalInt.empty();
+        for (Optional<TurnJournal.Entry> next = reader.next(); next.isPresent(); next = reader.next()) {
+            final TurnJournal.Entry entry = next.get();
+            switch (entry.kind()) {
+                case TURN -> {
+                    dungeon.executeTurn(entry.move());
+                    turns++;
+                }
+                case USE -> inventory.useItem(entry.index());
+                case DROP -> inventory.dropItem(entry.index());
+                case DESCEND -> dungeon.nextLevel();
+                case CHECKPOINT -> {
+                    checkpoints++;
+                    if (diverged.isEmpty() && dungeon.stateHash() != entry.stateHash()) {
+                        diverged = OptionalInt.of(turns);
+                    }
+                }
+                default -> throw new IllegalStateException("Unknown record: " + entry.kind());
+            }
+        }
+        return new ReplayResult(reader.getSeed(), turns, dungeon.getCurrentLevel(), checkpoints, diverged,
+                System.nanoTime() - start);
+    }
+}
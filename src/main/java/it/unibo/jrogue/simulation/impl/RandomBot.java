@@ -0,0 +1,36 @@
+package it.unibo.jrogue.simulation.impl;
+
+import java.util.Random;
+
+import it.unibo.jrogue.commons.Move;
+import it.unibo.jrogue.entity.entities.api.Player;
+import it.unibo.jrogue.entity.world.api.GameMap;
+import it.unibo.jrogue.simulation.api.Bot;
+
+/**
+ * Bot that wanders by picking a random direction every turn.
+ * It owns its random generator, so it does not disturb the game's own random stream.
+ */
+public final class RandomBot implements Bot {
+
+    private static final Move[] DIRECTIONS = {Move.UP, Move.DOWN, Move.LEFT, Move.RIGHT};
+
+    private final Random random;
+
+    /**
+     * Creates a random bot.
+     *
+     * @param seed the seed of the bot's choices
+     */
+    public RandomBot(final long seed) {
+        this.random = new Random(seed);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Move nextMove(final GameMap map, final Player player) {
+        return DIRECTIONS[random.nextInt(DIRECTIONS.length)];
+    }
+}
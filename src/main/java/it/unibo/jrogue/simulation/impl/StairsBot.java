@@ -0,0 +1,38 @@
+package it.unibo.jrogue.simulation.impl;
+
+import java.util.Map;
+import java.util.Optional;
+
+import it.unibo.jrogue.commons.Move;
+import it.unibo.jrogue.commons.Position;
+import it.unibo.jrogue.entity.entities.api.Player;
+import it.unibo.jrogue.entity.items.impl.Amulet;
+import it.unibo.jrogue.entity.world.api.GameMap;
+import it.unibo.jrogue.entity.world.impl.AStarPathFinder;
+import it.unibo.jrogue.simulation.api.Bot;
+
+/**
+ * Bot that dives through the dungeon: it walks the shortest path to the amulet
+ * when it is on the level, otherwise to the stairs.
+ * Enemies standing on the path are attacked by walking into them.
+ */
+public final class StairsBot implements Bot {
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Move nextMove(final GameMap map, final Player player) {
+        return findGoal(map)
+                .map(goal -> AStarPathFinder.forCurrentThread().nextStep(map, player.getPosition(), goal))
+                .orElse(Move.IDLE);
+    }
+
+    private Optional<Position> findGoal(final GameMap map) {
+        return map.getItems().entrySet().stream()
+                .filter(e -> e.getValue() instanceof Amulet)
+                .map(Map.Entry::getKey)
+                .findFirst()
+                .or(map::getStairsUp);
+    }
+}
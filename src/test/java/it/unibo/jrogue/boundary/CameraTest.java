@@ -0,0 +1,60 @@
+package it.unibo.jrogue.boundary;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import it.unibo.jrogue.commons.Position;
+
+/**
+ * Test class for the camera following the player on maps larger than the viewport.
+ */
+class CameraTest {
+
+    private static final int MAP_SIZE = 500;
+    private static final int VIEW_COLUMNS = 80;
+    private static final int VIEW_ROWS = 45;
+    private static final int MARGIN = 8;
+
+    private Camera camera;
+
+    @BeforeEach
+    void setUp() {
+        camera = new Camera(MARGIN);
+        camera.resize(MAP_SIZE, MAP_SIZE, VIEW_COLUMNS, VIEW_ROWS);
+    }
+
+    @Test
+    void testRecenterIsClampedToMap() {
+        camera.follow(new Position(1, 1), true);
+        assertEquals(0, camera.getX());
+        assertEquals(0, camera.getY());
+        camera.follow(new Position(MAP_SIZE - 1, MAP_SIZE - 1), true);
+        assertEquals(MAP_SIZE - VIEW_COLUMNS, camera.getX());
+        assertEquals(MAP_SIZE - VIEW_ROWS, camera.getY());
+        assertTrue(camera.isVisible(MAP_SIZE - 1, MAP_SIZE - 1));
+        assertFalse(camera.isVisible(0, 0));
+    }
+
+    @Test
+    void testScrollsOnlyNearEdges() {
+        final Position center = new Position(MAP_SIZE / 2, MAP_SIZE / 2);
+        camera.follow(center, true);
+        assertFalse(camera.follow(new Position(center.x() + 1, center.y()), false),
+                "Small moves inside the window do not scroll");
+        final int edge = camera.getX() + VIEW_COLUMNS - MARGIN;
+        assertTrue(camera.follow(new Position(edge, center.y()), false));
+        assertTrue(camera.isVisible(edge + MARGIN, center.y()));
+    }
+
+    @Test
+    void testSmallMapsNeverScroll() {
+        camera.resize(VIEW_COLUMNS, VIEW_ROWS, VIEW_COLUMNS, VIEW_ROWS);
+        assertFalse(camera.follow(new Position(VIEW_COLUMNS - 1, VIEW_ROWS - 1), true));
+        assertEquals(VIEW_COLUMNS, camera.getColumns());
+        assertEquals(VIEW_ROWS, camera.getRows());
+    }
+}
@@ -0,0 +1,59 @@
+package it.unibo.jrogue.boundary;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for the sprite atlas region table.
+ */
+class SpriteIdTest {
+
+    @Test
+    void testRegionsFitInAtlas() throws IOException {
+        try (InputStream resource = SpriteIdTest.class.getResourceAsStream("/tileset/atlas.png")) {
+            assertNotNull(resource, "The atlas must be packaged");
+            final BufferedImage atlas = ImageIO.read(resource);
+            for (final SpriteId sprite : SpriteId.values()) {
+                assertTrue(sprite.getSize() <= SpriteId.CELL, sprite + " overflows its cell");
+                assertTrue(sprite.getAtlasX() + sprite.getSize() <= atlas.getWidth(), sprite + " is outside the atlas");
+                assertTrue(sprite.getAtlasY() + sprite.getSize() <= atlas.getHeight(), sprite + " is outside the atlas");
+            }
+        }
+    }
+
+    @Test
+    void testAtlasIsUpToDate() throws IOException {
+        try (InputStream resource = SpriteIdTest.class.getResourceAsStream("/tileset/atlas.png")) {
+            assertNotNull(resource, "The atlas must be packaged");
+            final BufferedImage atlas = ImageIO.read(resource);
+            final BufferedImage packed = AtlasPacker.pack(Path.of("src", "sprites"));
+            assertEquals(packed.getWidth(), atlas.getWidth());
+            assertEquals(packed.getHeight(), atlas.getHeight());
+            for (final SpriteId sprite : SpriteId.values()) {
+                for (int y = sprite.getAtlasY(); y < sprite.getAtlasY() + sprite.getSize(); y++) {
+                    for (int x = sprite.getAtlasX(); x < sprite.getAtlasX() + sprite.getSize(); x++) {
+                        assertEquals(packed.getRGB(x, y), atlas.getRGB(x, y),
+                                sprite + " differs from its source, run ./gradlew packAtlas");
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void testNamesAreUnique() {
+        assertEquals(SpriteId.values().length,
+                Arrays.stream(SpriteId.values()).map(SpriteId::getSpriteName).distinct().count());
+    }
+}
@@ -0,0 +1,64 @@
+package it.unibo.jrogue.boundary;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import it.unibo.jrogue.commons.Position;
+import it.unibo.jrogue.entity.world.api.Tile;
+import it.unibo.jrogue.entity.world.impl.RockTrap;
+import it.unibo.jrogue.entity.world.impl.SimpleGameMap;
+import it.unibo.jrogue.entity.world.impl.TileGrid;
+
+/**
+ * Test class for the terrain autotiling.
+ */
+class TerrainSpriteTest {
+
+    private static final int SIZE = 5;
+
+    private SimpleGameMap map;
+
+    @BeforeEach
+    void setUp() {
+        final TileGrid grid = new TileGrid(SIZE, SIZE, Tile.WALL);
+        for (int x = 1; x < SIZE - 1; x++) {
+            for (int y = 1; y < SIZE - 1; y++) {
+                grid.setTileAt(x, y, Tile.FLOOR);
+            }
+        }
+        map = new SimpleGameMap(grid, List.of(), List.of(), new Position(2, 2), null);
+    }
+
+    @Test
+    void testFloorFollowsWalls() {
+        assertEquals(TerrainSprite.FLOOR_TOP_LEFT, TerrainSprite.of(map, 1, 1));
+        assertEquals(TerrainSprite.FLOOR_TOP, TerrainSprite.of(map, 2, 1));
+        assertEquals(TerrainSprite.FLOOR_BOTTOM_RIGHT, TerrainSprite.of(map, SIZE - 2, SIZE - 2));
+        assertEquals(TerrainSprite.FLOOR, TerrainSprite.of(map, 2, 2));
+        assertEquals(TerrainSprite.WALL, TerrainSprite.of(map, 0, 0));
+    }
+
+    @Test
+    void testTileChangesAffectNeighbours() {
+        map.setTileAt(new Position(2, 1), Tile.WALL);
+        assertEquals(TerrainSprite.FLOOR_TOP, TerrainSprite.of(map, 2, 2));
+        map.setTileAt(new Position(2, 1), Tile.CORRIDOR);
+        map.setTileAt(new Position(2, 0), Tile.CORRIDOR);
+        map.setTileAt(new Position(1, 1), Tile.WALL);
+        map.setTileAt(new Position(3, 1), Tile.WALL);
+        assertEquals(TerrainSprite.CORRIDOR_VERTICAL, TerrainSprite.of(map, 2, 1));
+    }
+
+    @Test
+    void testTrapsNeedATrap() {
+        final Position pos = new Position(2, 2);
+        map.setTileAt(pos, Tile.TRAP);
+        assertEquals(TerrainSprite.NONE, TerrainSprite.of(map, 2, 2));
+        map.addTrap(pos, new RockTrap(pos));
+        assertEquals(TerrainSprite.TRAP_ROCK, TerrainSprite.of(map, 2, 2));
+    }
+}
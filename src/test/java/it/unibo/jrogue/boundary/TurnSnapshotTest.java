@@ -0,0 +1,72 @@
+package it.unibo.jrogue.boundary;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+import org.junit.jupiter.api.Test;
+
+import it.unibo.jrogue.commons.Position;
+import it.unibo.jrogue.entity.world.api.GameMap;
+import it.unibo.jrogue.entity.world.api.Tile;
+import it.unibo.jrogue.entity.world.impl.SimpleGameMap;
+import it.unibo.jrogue.entity.world.impl.TileGrid;
+
+/**
+ * Test class for merging turn snapshots that were never drawn.
+ */
+class TurnSnapshotTest {
+
+    private static final int SIZE = 8;
+
+    private final GameMap map = newMap();
+
+    @Test
+    void testMergeKeepsChangesOfBoth() {
+        final TurnSnapshot older = new TurnSnapshot.Builder(map, false)
+                .terrain(1).fog(2).item(3, Optional.of(SpriteId.GOLD)).entity(4, SpriteId.BAT).build();
+        final TurnSnapshot newer = new TurnSnapshot.Builder(map, false)
+                .terrain(5).item(3, Optional.empty()).entity(6, SpriteId.BAT)
+                .player(new Position(1, 1)).build();
+
+        assertSame(newer, TurnSnapshot.merge(null, newer), "Nothing pending means nothing to merge");
+        final TurnSnapshot merged = TurnSnapshot.merge(older, newer);
+        assertFalse(merged.isFullRedraw());
+        assertEquals(List.of(1, 5), cells(merged::forEachTerrainCell));
+        assertEquals(List.of(2), cells(merged::forEachFogCell));
+        final List<Optional<SpriteId>> items = new ArrayList<>();
+        merged.forEachItemCell((index, sprite) -> items.add(sprite));
+        assertEquals(List.of(Optional.of(SpriteId.GOLD), Optional.empty()), items,
+                "The newest item of a cell is applied last");
+        final List<Integer> entities = new ArrayList<>();
+        merged.forEachEntity((index, sprite) -> entities.add(index));
+        assertEquals(List.of(6), entities, "Only the newest entity positions are drawn");
+        assertEquals(new Position(1, 1), merged.getPlayerPosition());
+    }
+
+    @Test
+    void testMergeAcrossMapsRedrawsEverything() {
+        final TurnSnapshot older = new TurnSnapshot.Builder(map, false).terrain(1).build();
+        final TurnSnapshot newer = new TurnSnapshot.Builder(newMap(), false).build();
+        final TurnSnapshot merged = TurnSnapshot.merge(older, newer);
+        assertTrue(merged.isFullRedraw());
+        assertTrue(cells(merged::forEachTerrainCell).isEmpty(), "Changes to the old map are dropped");
+    }
+
+    private static List<Integer> cells(final Consumer<IntConsumer> source) {
+        final List<Integer> cells = new ArrayList<>();
+        source.accept(cells::add);
+        return cells;
+    }
+
+    private static GameMap newMap() {
+        return new SimpleGameMap(new TileGrid(SIZE, SIZE, Tile.FLOOR), List.of(), List.of(), new Position(0, 0), null);
+    }
+}
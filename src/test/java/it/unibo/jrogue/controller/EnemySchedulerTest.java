@@ -0,0 +1,140 @@
+package it.unibo.jrogue.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+import it.unibo.jrogue.boundary.HeadlessRenderer;
+import it.unibo.jrogue.boundary.NullSoundSystem;
+import it.unibo.jrogue.commons.Position;
+import it.unibo.jrogue.controller.api.EnemyScheduler;
+import it.unibo.jrogue.controller.generation.api.GenerationConfig;
+import it.unibo.jrogue.controller.generation.api.SpawnConfig;
+import it.unibo.jrogue.controller.generation.impl.PopulatedLevelGenerator;
+import it.unibo.jrogue.entity.RandomContext;
+import it.unibo.jrogue.entity.entities.api.Enemy;
+import it.unibo.jrogue.entity.entities.api.Player;
+import it.unibo.jrogue.entity.entities.impl.enemies.Bat;
+import it.unibo.jrogue.entity.entities.impl.player.PlayerImpl;
+import it.unibo.jrogue.entity.world.api.GameMap;
+import it.unibo.jrogue.simulation.impl.RandomBot;
+
+/**
+ * Test class for the scheduler that decides which enemies act in a turn.
+ */
+class EnemySchedulerTest {
+
+    private static final long SEED = 3L;
+    private static final int PARK_DISTANCE = 4;
+    private static final int FAR = 10;
+    private static final int TURNS = 300;
+    private static final int GAMES = 5;
+    private static final int MAP_WIDTH = 80;
+    private static final int MAP_HEIGHT = 45;
+    private static final int SPEED_TURNS = 4;
+    private static final Position PLAYER = new Position(0, 0);
+
+    private static Enemy awakeBat(final int x) {
+        final Enemy bat = new Bat(new Position(x, 0), new SplittableRandom(SEED));
+        bat.wakeUp();
+        return bat;
+    }
+
+    private static Enemy sleepingBat() {
+        for (long seed = SEED;; seed++) {
+            final Enemy bat = new Bat(new Position(2, 0), new SplittableRandom(seed));
+            if (bat.isSleeping()) {
+                return bat;
+            }
+        }
+    }
+
+    @Test
+    void testSetsFollowEvents() {
+        final Enemy near = awakeBat(1);
+        final Enemy far = awakeBat(FAR);
+        final Enemy asleep = sleepingBat();
+        final EnemyScheduler scheduler = new EnemySchedulerImpl(List.of(near, far, asleep), PLAYER, PARK_DISTANCE);
+        assertEquals(1, scheduler.getActiveCount());
+        assertEquals(1, scheduler.getParkedCount());
+        assertEquals(1, scheduler.getSleepingCount());
+
+        final List<Enemy> acted = new ArrayList<>();
+        scheduler.runTurn(PLAYER, acted::add);
+        assertEquals(List.of(near), acted);
+
+        scheduler.wake(asleep);
+        scheduler.evict(near);
+        acted.clear();
+        scheduler.runTurn(PLAYER, acted::add);
+        assertEquals(List.of(asleep), acted);
+        assertEquals(1, scheduler.getDeadCount());
+        assertEquals(0, scheduler.getSleepingCount());
+
+        // The player walks towards the parked enemy, which acts as soon as it is close enough
+        final int turnsToReach = FAR - PARK_DISTANCE;
+        for (int step = 1; step < turnsToReach; step++) {
+            acted.clear();
+            scheduler.runTurn(new Position(step, 0), acted::add);
+            assertEquals(List.of(asleep), acted);
+        }
+        acted.clear();
+        scheduler.runTurn(new Position(turnsToReach, 0), acted::add);
+        assertEquals(List.of(far, asleep), acted);
+        assertThrows(IllegalArgumentException.class, () -> new EnemySchedulerImpl(List.of(), PLAYER, -1));
+    }
+
+    @Test
+    void testSpeedSetsHowOftenEnemiesAct() {
+        final Enemy fast = awakeBat(1);
+        final Enemy normal = awakeBat(2);
+        final Enemy slow = awakeBat(3);
+        fast.setSpeed(2 * Enemy.NORMAL_SPEED);
+        slow.setSpeed(Enemy.NORMAL_SPEED / 2);
+        final EnemyScheduler scheduler = new EnemySchedulerImpl(List.of(slow, normal, fast), PLAYER, PARK_DISTANCE);
+        final List<Enemy> acted = new ArrayList<>();
+        scheduler.runTurn(PLAYER, acted::add);
+        assertEquals(List.of(slow, normal, fast, fast), acted);
+        for (int i = 1; i < SPEED_TURNS; i++) {
+            scheduler.runTurn(PLAYER, acted::add);
+        }
+        assertEquals(2 * SPEED_TURNS, acted.stream().filter(e -> e == fast).count());
+        assertEquals(SPEED_TURNS, acted.stream().filter(e -> e == normal).count());
+        assertEquals(SPEED_TURNS / 2, acted.stream().filter(e -> e == slow).count());
+        assertThrows(IllegalArgumentException.class, () -> fast.setSpeed(0));
+    }
+
+    private static GameMap level(final long seed) {
+        final GameMap map = new PopulatedLevelGenerator(SpawnConfig.defaults())
+                .generate(GenerationConfig.withDefaults(MAP_WIDTH, MAP_HEIGHT, 1, seed)).getMap();
+        final Player player = new PlayerImpl(map.getStartingPosition(),
+                new RandomContext(seed).stream(RandomContext.Stream.PLAYER));
+        map.setPlayer(player);
+        return map;
+    }
+
+    @Test
+    void testParkingDoesNotChangeTheGame() {
+        for (long seed = SEED; seed < SEED + GAMES; seed++) {
+            final GameMap parked = level(seed);
+            final GameMap unparked = level(seed);
+            final MovementControllerImpl withParking = new MovementControllerImpl(parked, new HeadlessRenderer(),
+                    new NullSoundSystem());
+            final MovementControllerImpl withoutParking = new MovementControllerImpl(unparked,
+                    new HeadlessRenderer(), new NullSoundSystem(), Integer.MAX_VALUE);
+            final RandomBot first = new RandomBot(seed);
+            final RandomBot second = new RandomBot(seed);
+            final Player player = parked.getPlayer().orElseThrow();
+            for (int turn = 0; turn < TURNS && player.isAlive(); turn++) {
+                withParking.executeTurn(first.nextMove(parked, player));
+                withoutParking.executeTurn(second.nextMove(unparked, unparked.getPlayer().orElseThrow()));
+                assertEquals(unparked.stateHash(), parked.stateHash());
+            }
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package it.unibo.jrogue.engine;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import it.unibo.jrogue.boundary.HeadlessRenderer;
+import it.unibo.jrogue.boundary.NullSoundSystem;
+import it.unibo.jrogue.commons.Move;
+import it.unibo.jrogue.controller.DungeonController;
+
+/**
+ * Test class for the background autosave and the rotation of save generations.
+ */
+class AutosaveServiceTest {
+
+    private static final long SEED = 11L;
+    private static final int INTERVAL = 5;
+    private static final int GENERATIONS = 3;
+
+    private Path directory;
+    private Path savePath;
+    private DungeonController dungeon;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        directory = Files.createTempDirectory("jrogue-autosave");
+        savePath = directory.resolve("save.dat");
+        dungeon = new DungeonController(SEED, new HeadlessRenderer(), new NullSoundSystem());
+        dungeon.startNewGame();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (final Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Test
+    void testSavesEveryIntervalAndOnLevelChange() {
+        final AutosaveService autosave = new AutosaveService(savePath, INTERVAL, GENERATIONS);
+        autosave.requestSave(dungeon);
+        assertTrue(AutosaveService.flush());
+        assertTrue(Files.exists(savePath));
+        for (int i = 0; i < INTERVAL - 1; i++) {
+            dungeon.executeTurn(Move.IDLE);
+            autosave.afterTurn(dungeon);
+        }
+        assertTrue(AutosaveService.flush());
+        assertFalse(Files.exists(SaveManager.generationPath(savePath, 1)));
+        dungeon.executeTurn(Move.IDLE);
+        autosave.afterTurn(dungeon);
+        dungeon.nextLevel();
+        autosave.afterTurn(dungeon);
+        assertTrue(AutosaveService.flush());
+        assertTrue(autosave.takeError().isEmpty());
+        assertTrue(Files.exists(SaveManager.generationPath(savePath, 1)));
+    }
+
+    @Test
+    void testGenerationsRotateAndCorruptionFallsBack() throws IOException, ClassNotFoundException {
+        for (int i = 0; i <= GENERATIONS; i++) {
+            SaveManager.write(SaveManager.snapshot(dungeon), savePath, GENERATIONS);
+            dungeon.nextLevel();
+        }
+        assertTrue(Files.exists(SaveManager.generationPath(savePath, GENERATIONS - 1)));
+        assertFalse(Files.exists(SaveManager.generationPath(savePath, GENERATIONS)));
+        assertFalse(Files.exists(savePath.resolveSibling("save.dat.tmp")));
+        assertEquals(GENERATIONS + 1, SaveManager.load(savePath).getCurrentLevel());
+
+        Files.write(savePath, new byte[] {1, 2, 3});
+        assertEquals(GENERATIONS, SaveManager.loadNewestValid(savePath, GENERATIONS).getCurrentLevel());
+    }
+
+    @Test
+    void testFailedWriteIsReportedOnce() throws IOException {
+        // A regular file where the save directory should be makes every write fail
+        final Path blocker = Files.createFile(directory.resolve("blocker"));
+        final AutosaveService autosave = new AutosaveService(blocker.resolve("save.dat"), INTERVAL, GENERATIONS);
+        autosave.requestSave(dungeon);
+        assertTrue(AutosaveService.flush());
+        assertTrue(autosave.takeError().isPresent());
+        assertTrue(autosave.takeError().isEmpty(), "An error is reported only once");
+    }
+}
@@ -0,0 +1,52 @@
+package it.unibo.jrogue.engine;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for the histograms behind the timing overlay.
+ */
+class LatencyHistogramTest {
+
+    private static final int SAMPLES = 1000;
+    private static final long SLOW = 1_000_000L;
+    private static final double TOLERANCE = 1.125;
+
+    @Test
+    void testPercentilesAreWithinBucketPrecision() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= SAMPLES; i++) {
+            histogram.record(i);
+        }
+        assertEquals(SAMPLES, histogram.getCount());
+        assertEquals(SAMPLES, histogram.getMax());
+        final long median = histogram.getPercentile(0.5);
+        assertTrue(median >= SAMPLES / 2 && median <= SAMPLES / 2 * TOLERANCE);
+        assertEquals(SAMPLES, histogram.getPercentile(1));
+    }
+
+    @Test
+    void testOutlierOnlyShowsInTail() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i < SAMPLES; i++) {
+            histogram.record(1);
+        }
+        histogram.record(SLOW);
+        assertTrue(histogram.getPercentile(0.99) <= 1);
+        assertEquals(SLOW, histogram.getMax());
+    }
+
+    @Test
+    void testResetAndInvalidPercentile() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(SLOW);
+        histogram.reset();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMax());
+        assertEquals(0, histogram.getPercentile(0.5));
+        assertThrows(IllegalArgumentException.class, () -> histogram.getPercentile(2));
+    }
+}
@@ -0,0 +1,154 @@
+package it.unibo.jrogue.engine;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import it.unibo.jrogue.boundary.HeadlessRenderer;
+import it.unibo.jrogue.boundary.NullSoundSystem;
+import it.unibo.jrogue.commons.Position;
+import it.unibo.jrogue.controller.DungeonController;
+import it.unibo.jrogue.controller.generation.api.GenerationConfig;
+import it.unibo.jrogue.controller.generation.api.SpawnConfig;
+import it.unibo.jrogue.controller.generation.impl.PopulatedLevelGenerator;
+import it.unibo.jrogue.entity.RandomContext;
+import it.unibo.jrogue.entity.entities.api.Enemy;
+import it.unibo.jrogue.entity.items.impl.Gold;
+import it.unibo.jrogue.entity.world.api.GameMap;
+
+/**
+ * Test class for saves that store only how a level drifted from its generated state.
+ */
+class LevelDiffTest {
+
+    private static final long SEED = 2024L;
+    private static final int MAP_WIDTH = 80;
+    private static final int MAP_HEIGHT = 45;
+    private static final int DROPPED_GOLD = 7;
+
+    private DungeonController dungeon;
+    private GameMap map;
+
+    @BeforeEach
+    void setUp() {
+        dungeon = new DungeonController(SEED, new HeadlessRenderer(), new NullSoundSystem());
+        dungeon.startNewGame();
+        map = dungeon.getCurrentMap();
+    }
+
+    private static GameMap regenerate() {
+        return new PopulatedLevelGenerator(SpawnConfig.defaults())
+                .generate(GenerationConfig.withDefaults(MAP_WIDTH, MAP_HEIGHT, 1, SEED + 1)).getMap();
+    }
+
+    private static Map<String, String> describeItems(final List<SaveData.ItemData> items) {
+        final Map<String, String> described = new TreeMap<>();
+        items.forEach(i -> described.put(i.getPosX() + "," + i.getPosY(), i.getType() + i.getName() + i.getValue()));
+        return described;
+    }
+
+    private static String describe(final SaveData.EnemyData enemy) {
+        return enemy.getType() + "@" + enemy.getPosX() + "," + enemy.getPosY() + " hp=" + enemy.getHp()
+                + " awake=" + enemy.isAwake() + " #" + enemy.getSpawnIndex();
+    }
+
+    private Position freeFloor() {
+        final Position start = map.getStartingPosition();
+        for (int dx = 1;; dx++) {
+            final Position pos = new Position(start.x() + dx, start.y());
+            if (map.isWalkable(pos) && map.getItemAt(pos).isEmpty()) {
+                return pos;
+            }
+        }
+    }
+
+    private SaveData playSomeChanges() {
+        final List<Enemy> enemies = map.getEnemies();
+        final Enemy hurt = enemies.get(0);
+        hurt.damage(1);
+        hurt.wakeUp();
+        map.removeEntity(enemies.get(1));
+        map.removeItemAt(map.getItems().keySet().iterator().next());
+        map.addItem(freeFloor(), new Gold(DROPPED_GOLD));
+        return SaveManager.snapshot(dungeon);
+    }
+
+    @Test
+    void testUntouchedLevelHasEmptyDiff() {
+        final SaveData delta = SaveManager.toDelta(SaveManager.snapshot(dungeon));
+        assertEquals(0, delta.getLevelDiff().orElseThrow().size());
+    }
+
+    @Test
+    void testDiffRecordsOnlyChanges() {
+        final SaveData full = playSomeChanges();
+        final LevelDiff diff = SaveManager.toDelta(full).getLevelDiff().orElseThrow();
+        assertEquals(List.of(1), diff.removedEnemies());
+        assertEquals(1, diff.changedEnemies().size());
+        assertEquals(0, diff.changedEnemies().get(0).spawnIndex());
+        assertTrue(diff.changedEnemies().get(0).awake());
+        assertTrue(diff.addedEnemies().isEmpty());
+        assertEquals(1, diff.pickedItems().size());
+        assertEquals(1, diff.droppedItems().size());
+        assertEquals(DROPPED_GOLD, diff.droppedItems().get(0).getValue());
+    }
+
+    @Test
+    void testFullSaveRoundTripKeepsSpawnIndices() {
+        final SaveData full = playSomeChanges();
+        final DungeonController restored = SaveManager.restore(full, new HeadlessRenderer(),
+                new NullSoundSystem());
+        final LevelDiff expected = SaveManager.toDelta(full).getLevelDiff().orElseThrow();
+        final LevelDiff again = SaveManager.toDelta(SaveManager.snapshot(restored)).getLevelDiff().orElseThrow();
+        assertEquals(expected.removedEnemies(), again.removedEnemies());
+        assertEquals(expected.changedEnemies(), again.changedEnemies());
+        assertTrue(again.addedEnemies().isEmpty());
+        assertEquals(expected.size(), again.size());
+    }
+
+    @Test
+    void testDeltaRebuildsExactStateAndIsSmaller() throws IOException {
+        final SaveData full = playSomeChanges();
+        final byte[] fullBytes = SaveFormat.encode(full);
+        final byte[] deltaBytes = SaveFormat.encode(SaveManager.toDelta(full));
+        assertTrue(deltaBytes.length < fullBytes.length);
+
+        final LevelDiff diff = SaveFormat.decode(deltaBytes).getLevelDiff().orElseThrow();
+        final GameMap rebuilt = diff.applyTo(regenerate(),
+                new RandomContext(SEED + 1).stream(RandomContext.Stream.POPULATION));
+        final List<String> expected = full.getEnemies().stream().map(LevelDiffTest::describe).toList();
+        final List<String> actual = rebuilt.getEnemies().stream()
+                .map(e -> describe(EntityCodec.encodeEnemy(e, rebuilt.getSpawnIndex(e).orElse(-1))))
+                .toList();
+        assertEquals(expected, actual);
+        final List<SaveData.ItemData> items = rebuilt.getItems().entrySet().stream()
+                .map(e -> EntityCodec.encodeItem(e.getValue(), e.getKey().x(), e.getKey().y()))
+                .toList();
+        assertEquals(describeItems(full.getItems()), describeItems(items));
+    }
+
+    @Test
+    void testTriggeredTrapsSurviveSaveAndLoad() throws IOException {
+        final Position trap = map.getTraps().keySet().iterator().next();
+        map.triggerTrapAt(trap);
+        final long hash = map.stateHash();
+        final SaveData full = SaveManager.snapshot(dungeon);
+        final SaveData delta = SaveManager.toDelta(full);
+        assertEquals(1, delta.getLevelDiff().orElseThrow().triggeredTraps().size());
+        for (final SaveData saved : List.of(full, delta)) {
+            final SaveData loaded = SaveFormat.decode(SaveFormat.encode(saved));
+            final GameMap restored = SaveManager.restore(loaded, new HeadlessRenderer(), new NullSoundSystem())
+                    .getCurrentMap();
+            assertFalse(restored.getTrapAt(trap).orElseThrow().isActive());
+            assertEquals(hash, restored.stateHash(), "The restored level hashes as the saved one");
+        }
+    }
+}
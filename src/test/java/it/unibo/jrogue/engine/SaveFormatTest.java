@@ -0,0 +1,121 @@
+package it.unibo.jrogue.engine;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.BitSet;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for the binary save format and the migration of old saves.
+ */
+class SaveFormatTest {
+
+    private static final long SEED = -8_123_456_789L;
+    private static final int LEVEL = 4;
+    private static final int POS_X = 40;
+    private static final int POS_Y = 22;
+    private static final int HP = 17;
+    private static final int MAX_HP = 30;
+    private static final int ARMOR = 6;
+    private static final int GOLD = 1200;
+    private static final int RING_BONUS = 3;
+
+    private static SaveData sample() {
+        final SaveData.PlayerData player = new SaveData.PlayerData(POS_X, POS_Y, HP, MAX_HP, LEVEL, ARMOR,
+                List.of(new SaveData.ItemData("ring", -1, -1, "Anello di rubino", RING_BONUS),
+                        new SaveData.ItemData("potion", -1, -1, "", 0)));
+        return new SaveData(SEED, LEVEL, player,
+                List.of(new SaveData.EnemyData("dragon", 10, 11, LEVEL, HP),
+                        new SaveData.EnemyData("goblin", 12, 13)),
+                List.of(new SaveData.ItemData("gold", 5, 6, "", GOLD)),
+                List.of(0, 3),
+                List.of(2));
+    }
+
+    private static byte[] serialize(final SaveData data) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(data);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static void assertSameSave(final SaveData expected, final SaveData actual) {
+        assertEquals(expected.getBaseSeed(), actual.getBaseSeed());
+        assertEquals(expected.getCurrentLevel(), actual.getCurrentLevel());
+        assertEquals(expected.getPlayerData().getPosX(), actual.getPlayerData().getPosX());
+        assertEquals(expected.getPlayerData().getHp(), actual.getPlayerData().getHp());
+        assertEquals(expected.getPlayerData().getArmorClass(), actual.getPlayerData().getArmorClass());
+        final SaveData.ItemData ring = actual.getPlayerData().getInventoryItems().get(0);
+        assertEquals("ring", ring.getType());
+        assertEquals("Anello di rubino", ring.getName());
+        assertEquals(-1, ring.getPosX());
+        assertEquals(expected.getEnemies().size(), actual.getEnemies().size());
+        assertEquals("dragon", actual.getEnemies().get(0).getType());
+        assertEquals(HP, actual.getEnemies().get(0).getHp());
+        assertEquals(0, actual.getEnemies().get(1).getLevel());
+        assertEquals(GOLD, actual.getItems().get(0).getValue());
+        assertEquals(expected.getRevealedRoomIndices(), actual.getRevealedRoomIndices());
+        assertEquals(expected.getRevealedHallwayIndices(), actual.getRevealedHallwayIndices());
+    }
+
+    @Test
+    void testRoundTripIsSmallerThanSerialization() throws IOException {
+        final SaveData data = sample();
+        final byte[] bytes = SaveFormat.encode(data);
+        assertFalse(SaveFormat.isLegacy(bytes));
+        assertSameSave(data, SaveFormat.decode(bytes));
+        assertTrue(bytes.length * 4 < serialize(data).length);
+    }
+
+    @Test
+    void testRevealedCellsRoundTrip() throws IOException {
+        final BitSet cells = new BitSet();
+        cells.set(POS_X, POS_X + HP);
+        cells.set(MAX_HP * POS_X);
+        final SaveData data = sample().withRevealedCells(cells.toLongArray());
+        assertArrayEquals(cells.toLongArray(), SaveFormat.decode(SaveFormat.encode(data)).getRevealedCells());
+        assertEquals(0, SaveFormat.decode(SaveFormat.encode(sample())).getRevealedCells().length);
+    }
+
+    @Test
+    void testCorruptionIsDetected() {
+        final byte[] bytes = SaveFormat.encode(sample());
+        bytes[bytes.length / 2] ^= 1;
+        assertThrows(IOException.class, () -> SaveFormat.decode(bytes));
+        final byte[] truncated = new byte[bytes.length / 2];
+        System.arraycopy(SaveFormat.encode(sample()), 0, truncated, 0, truncated.length);
+        assertThrows(IOException.class, () -> SaveFormat.decode(truncated));
+    }
+
+    @Test
+    void testUnknownTypesDecodeAsUnknown() throws IOException {
+        final SaveData data = new SaveData(SEED, 1, new SaveData.PlayerData(0, 0, 1, 1, 1, 1, List.of()),
+                List.of(), List.of(new SaveData.ItemData("wand", 1, 1, "", 0)), List.of(), List.of());
+        assertEquals("", SaveFormat.decode(SaveFormat.encode(data)).getItems().get(0).getType());
+    }
+
+    @Test
+    void testLegacySaveIsStillLoaded() throws IOException, ClassNotFoundException {
+        final Path file = Files.createTempFile("jrogue-legacy", ".dat");
+        try {
+            final byte[] legacy = serialize(sample());
+            assertTrue(SaveFormat.isLegacy(legacy));
+            Files.write(file, legacy);
+            assertSameSave(sample(), SaveManager.load(file));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
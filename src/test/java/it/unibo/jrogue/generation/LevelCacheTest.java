@@ -0,0 +1,105 @@
+package it.unibo.jrogue.generation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import it.unibo.jrogue.commons.Position;
+import it.unibo.jrogue.controller.generation.api.GenerationConfig;
+import it.unibo.jrogue.controller.generation.impl.LevelCache;
+import it.unibo.jrogue.controller.generation.impl.PopulatedLevelGenerator;
+import it.unibo.jrogue.entity.entities.api.Enemy;
+import it.unibo.jrogue.entity.world.api.GameMap;
+
+/**
+ * Tests for the cache of visited levels.
+ */
+class LevelCacheTest {
+    private static final int MAP_WIDTH = 80;
+    private static final int MAP_HEIGHT = 45;
+    private static final long TEST_SEED = 4321L;
+    private static final int LEVEL = 5;
+    /** Too small for a live level, large enough for its delta. */
+    private static final long COMPACTING_BUDGET = 16L * 1024L;
+
+    private final PopulatedLevelGenerator generator = new PopulatedLevelGenerator();
+
+    private GameMap generate(final int level) {
+        return generator.generate(GenerationConfig.withDefaults(MAP_WIDTH, MAP_HEIGHT, level, TEST_SEED + level))
+                .getMap();
+    }
+
+    private static List<Integer> spawnIndices(final GameMap map) {
+        return map.getEnemies().stream().map(e -> map.getSpawnIndex(e).orElse(-1)).toList();
+    }
+
+    @Test
+    void testLiveLevelIsReturnedAsIs() {
+        final LevelCache cache = new LevelCache(TEST_SEED, this::generate);
+        final GameMap map = generate(LEVEL);
+        cache.put(LEVEL, map);
+        assertTrue(cache.contains(LEVEL));
+        assertSame(map, cache.take(LEVEL).orElseThrow());
+        assertFalse(cache.contains(LEVEL), "Taking a level removes it from the cache");
+    }
+
+    @Test
+    void testCompactedLevelKeepsChanges() {
+        final LevelCache cache = new LevelCache(TEST_SEED, this::generate, COMPACTING_BUDGET);
+        final GameMap map = generate(LEVEL);
+        assertFalse(map.getEnemies().isEmpty(), "The test level must contain enemies");
+        final Enemy killed = map.getEnemies().get(0);
+        map.removeEntity(killed);
+        map.getItems().keySet().stream().findFirst().ifPresent(map::removeItemAt);
+        map.getRooms().get(1).reveal();
+        final Position seen = map.getHallways().get(0).getPath().get(0);
+        map.reveal(seen.x(), seen.y());
+        final Position trap = map.getTraps().keySet().iterator().next();
+        map.triggerTrapAt(trap);
+        final int enemies = map.getEnemies().size();
+        final int items = map.getItems().size();
+        final List<Integer> spawnIndices = spawnIndices(map);
+
+        cache.put(LEVEL, map);
+        assertEquals(0, cache.liveCount());
+        assertEquals(1, cache.compactedCount());
+
+        final GameMap restored = cache.take(LEVEL).orElseThrow();
+        assertNotSame(map, restored);
+        assertEquals(enemies, restored.getEnemies().size());
+        assertEquals(spawnIndices, spawnIndices(restored), "Compacted enemies keep their spawn indices");
+        assertEquals(items, restored.getItems().size());
+        assertTrue(restored.getEntityAt(killed.getPosition()).isEmpty());
+        assertFalse(restored.getRooms().get(1).isHidden());
+        assertTrue(restored.isRevealed(seen.x(), seen.y()), "Cells seen from outside a region stay revealed");
+        assertFalse(restored.getTrapAt(trap).orElseThrow().isActive(), "Triggered traps stay triggered");
+    }
+
+    @Test
+    void testLevelsWithinBudgetAreNotRegenerated() {
+        final int[] generated = {0};
+        final LevelCache cache = new LevelCache(TEST_SEED, level -> {
+            generated[0]++;
+            return generate(level);
+        });
+        for (int level = 1; level <= LEVEL; level++) {
+            cache.put(level, generate(level));
+        }
+        assertEquals(LEVEL, cache.liveCount());
+        assertEquals(0, generated[0], "Storing levels that fit the budget must not generate any");
+    }
+
+    @Test
+    void testBudgetEvictsOldestLevels() {
+        final LevelCache cache = new LevelCache(TEST_SEED, this::generate, 0);
+        cache.put(1, generate(1));
+        assertFalse(cache.contains(1), "Nothing fits a zero budget");
+        assertTrue(cache.take(1).isEmpty());
+    }
+}
@@ -0,0 +1,103 @@
+package it.unibo.jrogue.generation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import it.unibo.jrogue.controller.generation.api.GenerationConfig;
+import it.unibo.jrogue.controller.generation.api.LevelGenerator;
+import it.unibo.jrogue.controller.generation.impl.LevelPrefetcher;
+import it.unibo.jrogue.controller.generation.impl.PopulatedLevelGenerator;
+import it.unibo.jrogue.entity.world.api.GameMap;
+import it.unibo.jrogue.entity.world.api.Level;
+
+/**
+ * Tests for the background level prefetcher.
+ */
+class LevelPrefetcherTest {
+    private static final int MAP_WIDTH = 80;
+    private static final int MAP_HEIGHT = 45;
+    private static final long TEST_SEED = 99L;
+    private static final int BLOCKING_LEVEL = 2;
+
+    private final LevelGenerator generator = new PopulatedLevelGenerator();
+
+    private GenerationConfig configFor(final int level) {
+        return GenerationConfig.withDefaults(MAP_WIDTH, MAP_HEIGHT, level, TEST_SEED + level);
+    }
+
+    private String describe(final GameMap map) {
+        return map.getRooms().size() + ":" + map.getEntities().stream()
+                .map(e -> e.getClass().getSimpleName() + e.getPosition() + e.getLifePoint())
+                .collect(Collectors.joining(";"));
+    }
+
+    @Test
+    void testPrefetchedLevelMatchesDirectGeneration() {
+        final LevelPrefetcher prefetcher = new LevelPrefetcher(generator, true);
+        prefetcher.prefetch(configFor(2));
+        final Level prefetched = prefetcher.take(configFor(2));
+        assertEquals(describe(generator.generate(configFor(2)).getMap()), describe(prefetched.getMap()));
+        assertNotSame(prefetched, prefetcher.take(configFor(2)), "A prefetched level is handed out only once");
+    }
+
+    @Test
+    void testMismatchFallsBackToSynchronousGeneration() {
+        final LevelPrefetcher prefetcher = new LevelPrefetcher(generator, true);
+        prefetcher.prefetch(configFor(2));
+        final Level level = prefetcher.take(configFor(1));
+        assertEquals(1, level.getLevel());
+        assertEquals(describe(generator.generate(configFor(1)).getMap()), describe(level.getMap()));
+    }
+
+    @Test
+    void testMismatchCancelsPendingPrefetch() throws InterruptedException {
+        final CountDownLatch release = new CountDownLatch(1);
+        final Set<Integer> generated = ConcurrentHashMap.newKeySet();
+        final LevelGenerator blocking = new LevelGenerator() {
+            @Override
+            public Level generate(final GenerationConfig config) {
+                if (config.levelNumber() == BLOCKING_LEVEL) {
+                    try {
+                        release.await();
+                    } catch (final InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                generated.add(config.levelNumber());
+                return generator.generate(config);
+            }
+
+            @Override
+            public void setSeed(final long seed) {
+                generator.setSeed(seed);
+            }
+        };
+        final LevelPrefetcher busy = new LevelPrefetcher(blocking, true);
+        final LevelPrefetcher queued = new LevelPrefetcher(blocking, true);
+        busy.prefetch(configFor(BLOCKING_LEVEL));
+        queued.prefetch(configFor(3));
+        queued.take(configFor(1));
+        release.countDown();
+        busy.take(configFor(BLOCKING_LEVEL));
+        // The worker runs tasks in order, so once this one is done the cancelled one would have run
+        queued.prefetch(configFor(4));
+        queued.take(configFor(4));
+        assertFalse(generated.contains(3), "A mismatched prefetch must not keep the worker busy");
+    }
+
+    @Test
+    void testDisabledPrefetcherGeneratesOnDemand() {
+        final LevelPrefetcher prefetcher = new LevelPrefetcher(generator, false);
+        prefetcher.prefetch(configFor(3));
+        assertEquals(describe(generator.generate(configFor(3)).getMap()),
+                describe(prefetcher.take(configFor(3)).getMap()));
+    }
+}
@@ -0,0 +1,64 @@
+package it.unibo.jrogue.generation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import it.unibo.jrogue.controller.generation.api.GenerationConfig;
+import it.unibo.jrogue.controller.generation.impl.PopulatedLevelGenerator;
+import it.unibo.jrogue.entity.GameRandom;
+import it.unibo.jrogue.entity.RandomContext;
+import it.unibo.jrogue.entity.world.api.GameMap;
+
+/**
+ * Tests for the per-game random context and the generation built on it.
+ */
+class RandomContextTest {
+    private static final int MAP_WIDTH = 80;
+    private static final int MAP_HEIGHT = 45;
+    private static final int LEVEL_NUMBER = 5;
+    private static final long TEST_SEED = 4321L;
+    private static final int DRAWS = 16;
+    private static final int BOUND = 1000;
+
+    private List<Integer> draw(final RandomContext random) {
+        return random.ints(DRAWS, 0, BOUND).boxed().toList();
+    }
+
+    private String describe(final GameMap map) {
+        return map.getEntities().stream()
+                .map(e -> e.getClass().getSimpleName() + e.getPosition() + e.getLifePoint())
+                .collect(Collectors.joining(";"))
+                + map.getItems().keySet().stream()
+                .map(Object::toString)
+                .sorted()
+                .collect(Collectors.joining(";"));
+    }
+
+    @Test
+    void testStreamsDoNotDependOnDrawOrder() {
+        final RandomContext first = new RandomContext(TEST_SEED);
+        final RandomContext second = new RandomContext(TEST_SEED);
+        draw(second);
+        assertEquals(draw(first.stream(RandomContext.Stream.PLAYER)),
+                draw(second.stream(RandomContext.Stream.PLAYER)),
+                "Derived streams only depend on the seed");
+        assertNotEquals(draw(first.stream(RandomContext.Stream.PLAYER)),
+                draw(first.stream(RandomContext.Stream.POPULATION)));
+    }
+
+    @Test
+    void testGenerationIgnoresSharedRandom() {
+        final GenerationConfig config = GenerationConfig.withDefaults(MAP_WIDTH, MAP_HEIGHT, LEVEL_NUMBER, TEST_SEED);
+        final PopulatedLevelGenerator generator = new PopulatedLevelGenerator();
+        final String expected = describe(generator.generate(config).getMap());
+        GameRandom.setSeed(TEST_SEED + 1);
+        GameRandom.nextInt(BOUND);
+        assertEquals(expected, describe(generator.generate(config).getMap()),
+                "The shared GameRandom must not leak into level generation");
+    }
+}
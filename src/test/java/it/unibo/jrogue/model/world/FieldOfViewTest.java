@@ -0,0 +1,73 @@
+package it.unibo.jrogue.model.world;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.BitSet;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import it.unibo.jrogue.commons.Position;
+import it.unibo.jrogue.entity.entities.impl.enemies.HobGoblin;
+import it.unibo.jrogue.entity.world.api.FieldOfView;
+import it.unibo.jrogue.entity.world.api.Tile;
+import it.unibo.jrogue.entity.world.impl.ShadowcastingFieldOfView;
+import it.unibo.jrogue.entity.world.impl.SimpleGameMap;
+import it.unibo.jrogue.entity.world.impl.TileGrid;
+
+/**
+ * Test class for the shadowcasting field of view.
+ */
+class FieldOfViewTest {
+
+    private static final int SIZE = 15;
+    private static final int CENTER = 7;
+    private static final int WALL_X = 9;
+    private static final int RADIUS = 5;
+
+    private final FieldOfView fov = new ShadowcastingFieldOfView();
+    private SimpleGameMap map;
+
+    @BeforeEach
+    void setUp() {
+        final TileGrid grid = new TileGrid(SIZE, SIZE, Tile.FLOOR);
+        for (int y = 0; y < SIZE; y++) {
+            grid.setTileAt(WALL_X, y, Tile.WALL);
+        }
+        map = new SimpleGameMap(grid, List.of(), List.of(), new Position(CENTER, CENTER), null);
+    }
+
+    private boolean isVisible(final BitSet visible, final int x, final int y) {
+        return visible.get(y * SIZE + x);
+    }
+
+    @Test
+    void testOpenAreaWithinRadius() {
+        final BitSet visible = new BitSet();
+        fov.compute(map, CENTER, CENTER, RADIUS, visible);
+        assertTrue(isVisible(visible, CENTER, CENTER));
+        assertTrue(isVisible(visible, CENTER - RADIUS, CENTER - RADIUS));
+        assertTrue(isVisible(visible, CENTER, CENTER + RADIUS));
+        assertFalse(isVisible(visible, CENTER - RADIUS - 1, CENTER), "Cells beyond the radius are not visible");
+    }
+
+    @Test
+    void testWallsBlockSight() {
+        final BitSet visible = new BitSet();
+        fov.compute(map, CENTER, CENTER, RADIUS, visible);
+        assertTrue(isVisible(visible, WALL_X, CENTER), "The blocking wall itself is visible");
+        assertFalse(isVisible(visible, WALL_X + 1, CENTER), "Cells behind a wall are hidden");
+    }
+
+    @Test
+    void testEnemySightRespectsWalls() {
+        final HobGoblin goblin = new HobGoblin(new Position(WALL_X - 1, CENTER));
+        final Position behindWall = new Position(WALL_X + 1, CENTER);
+        final Position inTheOpen = new Position(WALL_X - 2, CENTER + 1);
+        assertTrue(goblin.canSeePlayer(behindWall), "Without a map only the range is checked");
+        assertFalse(goblin.canSeePlayer(map, behindWall));
+        assertTrue(goblin.canSeePlayer(map, inTheOpen));
+    }
+}
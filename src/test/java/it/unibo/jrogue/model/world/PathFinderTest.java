@@ -0,0 +1,88 @@
+package it.unibo.jrogue.model.world;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import it.unibo.jrogue.commons.Move;
+import it.unibo.jrogue.commons.Position;
+import it.unibo.jrogue.entity.world.api.GameMap;
+import it.unibo.jrogue.entity.world.api.PathFinder;
+import it.unibo.jrogue.entity.world.api.Tile;
+import it.unibo.jrogue.entity.world.impl.AStarPathFinder;
+import it.unibo.jrogue.entity.world.impl.SimpleGameMap;
+import it.unibo.jrogue.entity.world.impl.TileGrid;
+
+/**
+ * Test class for the A* path finder.
+ */
+class PathFinderTest {
+
+    private static final int SIZE = 9;
+    private static final int WALL_X = 4;
+    private static final int GAP_Y = 7;
+
+    private final PathFinder pathFinder = new AStarPathFinder();
+
+    /**
+     * Builds a map with a vertical wall that can only be crossed near the bottom.
+     *
+     * @return the map
+     */
+    private GameMap wallWithGap() {
+        final TileGrid grid = new TileGrid(SIZE, SIZE, Tile.FLOOR);
+        for (int y = 0; y < SIZE; y++) {
+            if (y != GAP_Y) {
+                grid.setTileAt(WALL_X, y, Tile.WALL);
+            }
+        }
+        return new SimpleGameMap(grid, List.of(), List.of(), new Position(0, 0), null);
+    }
+
+    /**
+     * Follows the path finder until the goal is reached.
+     *
+     * @param map   the map to walk on
+     * @param start the starting cell
+     * @param goal  the cell to reach
+     * @return the number of steps taken
+     */
+    private int walk(final GameMap map, final Position start, final Position goal) {
+        Position current = start;
+        int steps = 0;
+        while (!current.equals(goal) && steps < SIZE * SIZE) {
+            current = pathFinder.nextStep(map, current, goal).applyToPosition(current);
+            assertTrue(map.isWalkable(current), "The path must never enter a wall");
+            steps++;
+        }
+        return steps;
+    }
+
+    @Test
+    void testStraightLine() {
+        final GameMap map = wallWithGap();
+        assertEquals(Move.RIGHT, pathFinder.nextStep(map, new Position(0, 1), new Position(2, 1)));
+        assertEquals(Move.IDLE, pathFinder.nextStep(map, new Position(1, 1), new Position(1, 1)));
+    }
+
+    @Test
+    void testGoesAroundWalls() {
+        final GameMap map = wallWithGap();
+        final Position start = new Position(WALL_X - 1, 1);
+        final Position goal = new Position(WALL_X + 1, 1);
+        assertEquals((GAP_Y - 1) * 2, walk(map, start, goal), "The route through the gap is the shortest one");
+    }
+
+    @Test
+    void testUnreachableGoal() {
+        final TileGrid grid = new TileGrid(SIZE, SIZE, Tile.FLOOR);
+        for (int y = 0; y < SIZE; y++) {
+            grid.setTileAt(WALL_X, y, Tile.WALL);
+        }
+        final GameMap map = new SimpleGameMap(grid, List.of(), List.of(), new Position(0, 0), null);
+        assertEquals(Move.IDLE, pathFinder.nextStep(map, new Position(0, 0), new Position(SIZE - 1, 0)));
+    }
+}
@@ -0,0 +1,138 @@
+package it.unibo.jrogue.model.world;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import it.unibo.jrogue.commons.Move;
+import it.unibo.jrogue.commons.Position;
+import it.unibo.jrogue.entity.entities.impl.enemies.Bat;
+import it.unibo.jrogue.entity.entities.impl.player.PlayerImpl;
+import it.unibo.jrogue.entity.items.impl.Gold;
+import it.unibo.jrogue.entity.world.api.DistanceField;
+import it.unibo.jrogue.entity.world.api.MapLayer;
+import it.unibo.jrogue.entity.world.api.Tile;
+import it.unibo.jrogue.entity.world.impl.SimpleGameMap;
+import it.unibo.jrogue.entity.world.impl.TileGrid;
+
+/**
+ * Test class for the entity occupancy index, player distance field, dirty cells and fog of SimpleGameMap.
+ */
+class SimpleGameMapTest {
+
+    private static final int SIZE = 10;
+    private static final Position START_POS = new Position(2, 2);
+
+    private SimpleGameMap map;
+
+    @BeforeEach
+    void setUp() {
+        map = new SimpleGameMap(new TileGrid(SIZE, SIZE, Tile.FLOOR), List.of(), List.of(), START_POS, null);
+    }
+
+    @Test
+    void testAddAndLookup() {
+        final Bat bat = new Bat(START_POS);
+        map.addEntity(bat);
+        assertTrue(map.isOccupied(START_POS.x(), START_POS.y()));
+        assertEquals(bat, map.getEntityAt(START_POS).orElseThrow());
+        assertFalse(map.isOccupied(0, 0));
+        assertFalse(map.isOccupied(-1, SIZE), "Cells outside the map are never occupied");
+        final Bat intruder = new Bat(START_POS);
+        assertThrows(IllegalArgumentException.class, () -> map.addEntity(intruder));
+        assertEquals(bat, map.getEntityAt(START_POS).orElseThrow());
+        assertEquals(1, map.getEntities().size());
+    }
+
+    @Test
+    void testMoveKeepsIndexInSync() {
+        final Bat bat = new Bat(START_POS);
+        map.addEntity(bat);
+        map.moveEntity(bat, Move.RIGHT);
+        final Position moved = Move.RIGHT.applyToPosition(START_POS);
+        assertEquals(moved, bat.getPosition());
+        assertFalse(map.isOccupied(START_POS.x(), START_POS.y()));
+        assertEquals(bat, map.getEntityAt(moved).orElseThrow());
+    }
+
+    @Test
+    void testRemoveFreesCellAndSlot() {
+        final Bat first = new Bat(START_POS);
+        final Bat second = new Bat(new Position(0, 0));
+        map.addEntity(first);
+        map.addEntity(second);
+        assertTrue(map.removeEntity(first));
+        assertFalse(map.removeEntity(first));
+        assertTrue(map.getEntityAt(START_POS).isEmpty());
+        final Bat third = new Bat(START_POS);
+        map.addEntity(third);
+        assertEquals(third, map.getEntityAt(START_POS).orElseThrow());
+        assertEquals(second, map.getEntityAt(new Position(0, 0)).orElseThrow());
+        assertEquals(2, map.getEntities().size());
+    }
+
+    @Test
+    void testPlayerDistanceFieldFollowsPlayer() {
+        assertEquals(DistanceField.UNREACHABLE, map.getPlayerDistanceField().distanceAt(0, 0),
+                "Without a player nothing is reachable");
+        final PlayerImpl player = new PlayerImpl(START_POS);
+        map.setPlayer(player);
+        final DistanceField field = map.getPlayerDistanceField();
+        assertEquals(0, field.distanceAt(START_POS.x(), START_POS.y()));
+        assertEquals(SIZE - 1 - START_POS.x(), field.distanceAt(SIZE - 1, START_POS.y()));
+        assertEquals(Move.TOP_LEFT, field.stepTowardsSource(START_POS.x() + 1, START_POS.y() + 1));
+
+        player.doMove(Move.RIGHT);
+        assertEquals(1, map.getPlayerDistanceField().distanceAt(START_POS.x(), START_POS.y()));
+
+        for (int y = 0; y < SIZE; y++) {
+            map.setTileAt(new Position(START_POS.x() + 2, y), Tile.WALL);
+        }
+        assertEquals(DistanceField.UNREACHABLE, map.getPlayerDistanceField().distanceAt(SIZE - 1, 0),
+                "Changing a tile refreshes the field");
+    }
+
+    @Test
+    void testDirtyCellsTrackChanges() {
+        map.addItem(new Position(0, 1), new Gold(1));
+        assertTrue(map.removeItemAt(new Position(1, 1)).isEmpty());
+        assertEquals(Set.of(index(new Position(0, 1))), drain(MapLayer.ITEMS),
+                "Removing a missing item changes nothing");
+        assertTrue(drain(MapLayer.ITEMS).isEmpty(), "Draining forgets the cells");
+
+        map.setTileAt(new Position(SIZE - 1, SIZE - 1), Tile.WALL);
+        map.markDirty(MapLayer.TERRAIN, SIZE, 0);
+        assertEquals(Set.of(index(new Position(SIZE - 1, SIZE - 1))), drain(MapLayer.TERRAIN),
+                "Cells outside the map are ignored");
+    }
+
+    @Test
+    void testRevealMarksFogOnce() {
+        assertFalse(map.isRevealed(1, 1));
+        map.reveal(1, 1);
+        map.reveal(SIZE, SIZE);
+        assertTrue(map.isRevealed(1, 1));
+        assertFalse(map.isRevealed(SIZE, SIZE), "Cells outside the map are never revealed");
+        assertEquals(Set.of(index(new Position(1, 1))), drain(MapLayer.FOG));
+        map.reveal(1, 1);
+        assertTrue(drain(MapLayer.FOG).isEmpty(), "Revealing a cell again changes nothing");
+    }
+
+    private static int index(final Position pos) {
+        return pos.y() * SIZE + pos.x();
+    }
+
+    private Set<Integer> drain(final MapLayer layer) {
+        final Set<Integer> cells = new HashSet<>();
+        map.drainDirtyCells(layer, cells::add);
+        return cells;
+    }
+}
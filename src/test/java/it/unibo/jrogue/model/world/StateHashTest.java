@@ -0,0 +1,160 @@
+package it.unibo.jrogue.model.world;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import it.unibo.jrogue.boundary.HeadlessRenderer;
+import it.unibo.jrogue.boundary.NullSoundSystem;
+import it.unibo.jrogue.commons.Move;
+import it.unibo.jrogue.commons.Position;
+import it.unibo.jrogue.controller.DungeonController;
+import it.unibo.jrogue.entity.Zobrist;
+import it.unibo.jrogue.entity.entities.api.Entity;
+import it.unibo.jrogue.entity.entities.impl.enemies.HobGoblin;
+import it.unibo.jrogue.entity.entities.impl.player.PlayerImpl;
+import it.unibo.jrogue.entity.items.api.Item;
+import it.unibo.jrogue.entity.items.impl.Gold;
+import it.unibo.jrogue.entity.items.impl.Ring;
+import it.unibo.jrogue.entity.items.impl.Scroll;
+import it.unibo.jrogue.entity.world.api.GameMap;
+import it.unibo.jrogue.entity.world.api.Tile;
+import it.unibo.jrogue.entity.world.api.Trap;
+import it.unibo.jrogue.entity.world.impl.RockTrap;
+import it.unibo.jrogue.entity.world.impl.SimpleGameMap;
+import it.unibo.jrogue.entity.world.impl.TileGrid;
+import it.unibo.jrogue.simulation.impl.RandomBot;
+
+/**
+ * Test class for the incremental state hash of maps and entities.
+ */
+class StateHashTest {
+
+    private static final int SIZE = 10;
+    private static final long SEED = 99L;
+    private static final int TURNS = 200;
+    private static final int GOLD = 5;
+    private static final String RING = "Ring of regeneration";
+    private static final Position CENTER = new Position(5, 5);
+    private static final Position CORNER = new Position(1, 1);
+
+    private SimpleGameMap map;
+
+    @BeforeEach
+    void setUp() {
+        map = new SimpleGameMap(new TileGrid(SIZE, SIZE, Tile.FLOOR), List.of(), List.of(), CENTER, null);
+    }
+
+    /**
+     * Computes the hash of a map from scratch, as the map should have kept it.
+     */
+    private static long rescan(final GameMap map) {
+        long hash = 0;
+        for (int y = 0; y < map.getHeight(); y++) {
+            for (int x = 0; x < map.getWidth(); x++) {
+                hash ^= Zobrist.key(Zobrist.Feature.TILE, x, y, map.getTileAt(x, y).ordinal());
+            }
+        }
+        for (final Map.Entry<Position, Item> item : map.getItems().entrySet()) {
+            hash ^= Zobrist.key(Zobrist.Feature.ITEM, item.getKey().x(), item.getKey().y(),
+                    Zobrist.itemValue(item.getValue()));
+        }
+        for (final Map.Entry<Position, Trap> trap : map.getTraps().entrySet()) {
+            hash ^= Zobrist.key(Zobrist.Feature.TRAP, trap.getKey().x(), trap.getKey().y(),
+                    Zobrist.trapValue(trap.getValue()));
+        }
+        for (final Entity entity : map.getEntities()) {
+            hash ^= entity.stateHash();
+        }
+        return map.getPlayer().map(Entity::stateHash).orElse(0L) ^ hash;
+    }
+
+    @Test
+    void testChangesAreUndoneByTheirInverse() {
+        final long empty = map.stateHash();
+        map.addItem(CORNER, new Gold(GOLD));
+        map.addTrap(CENTER, new RockTrap(CENTER));
+        map.setTileAt(CORNER, Tile.WALL);
+        assertNotEquals(empty, map.stateHash());
+        assertEquals(rescan(map), map.stateHash());
+        map.removeItemAt(CORNER);
+        map.removeTrapAt(CENTER);
+        map.setTileAt(CORNER, Tile.FLOOR);
+        assertEquals(empty, map.stateHash());
+    }
+
+    @Test
+    void testItemAndTrapStateIsHashed() {
+        map.addItem(CORNER, new Ring(RING, GOLD));
+        final long weakRing = map.stateHash();
+        map.addItem(CORNER, new Ring(RING, GOLD + 1));
+        assertNotEquals(weakRing, map.stateHash(), "Unidentified rings with different bonuses hash apart");
+
+        map.addTrap(CENTER, new RockTrap(CENTER));
+        final long armed = map.stateHash();
+        map.triggerTrapAt(CENTER);
+        assertNotEquals(armed, map.stateHash());
+        assertEquals(rescan(map), map.stateHash());
+    }
+
+    @Test
+    void testIdentifyingTheEquippedRingReachesTheMap() {
+        final PlayerImpl player = new PlayerImpl(CENTER, new SplittableRandom(SEED));
+        final Ring ring = new Ring(RING, GOLD);
+        player.getInventory().addItem(ring);
+        player.equip(ring);
+        map.setPlayer(player);
+        final long unidentified = map.stateHash();
+        assertTrue(new Scroll().consume(player));
+        assertNotEquals(unidentified, map.stateHash());
+        assertEquals(rescan(map), map.stateHash());
+    }
+
+    @Test
+    void testEntityChangesReachTheMap() {
+        final HobGoblin goblin = new HobGoblin(CORNER, new SplittableRandom(SEED));
+        map.addEntity(goblin);
+        final long added = map.stateHash();
+        map.moveEntity(goblin, Move.RIGHT);
+        assertNotEquals(added, map.stateHash());
+        map.moveEntity(goblin, Move.LEFT);
+        assertEquals(added, map.stateHash());
+        goblin.damage(1);
+        assertNotEquals(added, map.stateHash());
+        assertEquals(rescan(map), map.stateHash());
+
+        final PlayerImpl player = new PlayerImpl(CENTER, new SplittableRandom(SEED));
+        map.setPlayer(player);
+        final long withPlayer = map.stateHash();
+        player.collectGold(GOLD);
+        assertNotEquals(withPlayer, map.stateHash());
+        assertEquals(rescan(map), map.stateHash());
+
+        map.removeEntity(goblin);
+        goblin.damage(1);
+        assertEquals(rescan(map), map.stateHash());
+    }
+
+    @Test
+    void testSameGameSameHash() {
+        final DungeonController first = new DungeonController(SEED, new HeadlessRenderer(), new NullSoundSystem());
+        final DungeonController second = new DungeonController(SEED, new HeadlessRenderer(), new NullSoundSystem());
+        first.startNewGame();
+        second.startNewGame();
+        final RandomBot firstBot = new RandomBot(SEED);
+        final RandomBot secondBot = new RandomBot(SEED);
+        for (int i = 0; i < TURNS && first.getPlayer().isAlive(); i++) {
+            first.executeTurn(firstBot.nextMove(first.getCurrentMap(), first.getPlayer()));
+            second.executeTurn(secondBot.nextMove(second.getCurrentMap(), second.getPlayer()));
+            assertEquals(first.stateHash(), second.stateHash());
+        }
+        assertEquals(rescan(first.getCurrentMap()), first.getCurrentMap().stateHash());
+    }
+}
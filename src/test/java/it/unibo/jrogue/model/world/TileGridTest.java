@@ -0,0 +1,72 @@
+package it.unibo.jrogue.model.world;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import it.unibo.jrogue.commons.Position;
+import it.unibo.jrogue.entity.world.api.Tile;
+import it.unibo.jrogue.entity.world.impl.SimpleGameMap;
+import it.unibo.jrogue.entity.world.impl.TileGrid;
+
+/**
+ * Test to verify the packed tile grid and the map built on it.
+ */
+class TileGridTest {
+    private static final int WIDTH = 5;
+    private static final int HEIGHT = 4;
+
+    @Test
+    void testFillAndSet() {
+        final TileGrid grid = new TileGrid(WIDTH, HEIGHT, Tile.WALL);
+        assertEquals(Tile.WALL, grid.tileAt(WIDTH - 1, HEIGHT - 1));
+        grid.setTileAt(2, 1, Tile.FLOOR);
+        assertEquals(Tile.FLOOR, grid.tileAt(2, 1));
+        assertEquals(Tile.FLOOR, grid.tileAt(grid.indexOf(2, 1)));
+        assertTrue(grid.isWalkable(2, 1));
+        assertFalse(grid.isWalkable(1, 1));
+    }
+
+    @Test
+    void testOutOfBounds() {
+        final TileGrid grid = new TileGrid(WIDTH, HEIGHT, Tile.FLOOR);
+        assertEquals(Tile.VOID, grid.tileAt(-1, 0), "Cells outside the grid are void");
+        assertEquals(Tile.VOID, grid.tileAt(WIDTH, 0));
+        assertFalse(grid.isWalkable(0, HEIGHT));
+        grid.setTileAt(WIDTH, HEIGHT, Tile.WALL);
+        assertEquals(Tile.FLOOR, grid.tileAt(WIDTH - 1, HEIGHT - 1));
+    }
+
+    @Test
+    void testCopyIsIndependent() {
+        final TileGrid grid = new TileGrid(WIDTH, HEIGHT, Tile.FLOOR);
+        final TileGrid copy = grid.copy();
+        copy.setTileAt(0, 0, Tile.WALL);
+        assertEquals(Tile.FLOOR, grid.tileAt(0, 0));
+        assertEquals(Tile.WALL, copy.tileAt(0, 0));
+    }
+
+    @Test
+    void testMapFromArrayMatchesGrid() {
+        final Tile[][] tiles = new Tile[HEIGHT][WIDTH];
+        for (int y = 0; y < HEIGHT; y++) {
+            for (int x = 0; x < WIDTH; x++) {
+                tiles[y][x] = (x + y) % 2 == 0 ? Tile.FLOOR : Tile.WALL;
+            }
+        }
+        final SimpleGameMap map = new SimpleGameMap(tiles, List.of(), List.of(), new Position(0, 0), null);
+        tiles[0][0] = Tile.VOID;
+        for (int y = 0; y < HEIGHT; y++) {
+            for (int x = 0; x < WIDTH; x++) {
+                final Tile expected = (x + y) % 2 == 0 ? Tile.FLOOR : Tile.WALL;
+                assertEquals(expected, map.getTileAt(x, y));
+                assertEquals(expected, map.getTileAt(new Position(x, y)));
+                assertEquals(expected.isWalkable(), map.isWalkable(x, y));
+            }
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package it.unibo.jrogue.simulation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import it.unibo.jrogue.commons.Move;
+import it.unibo.jrogue.simulation.api.BatchReport;
+import it.unibo.jrogue.simulation.api.GameOutcome;
+import it.unibo.jrogue.simulation.api.GameResult;
+import it.unibo.jrogue.simulation.impl.BatchSimulator;
+import it.unibo.jrogue.simulation.impl.HeadlessGame;
+import it.unibo.jrogue.simulation.impl.RandomBot;
+import it.unibo.jrogue.simulation.impl.StairsBot;
+
+/**
+ * Test class for games played without a JavaFX toolkit.
+ */
+class HeadlessGameTest {
+
+    private static final long SEED = 42L;
+    private static final int MAX_TURNS = 500;
+    private static final int BATCH_GAMES = 6;
+    private static final int THREADS = 3;
+
+    @Test
+    void testSameSeedSameResult() {
+        final GameResult first = new HeadlessGame(SEED, new StairsBot(), MAX_TURNS).run();
+        final GameResult second = new HeadlessGame(SEED, new StairsBot(), MAX_TURNS).run();
+        assertEquals(first, second, "A seeded game must be reproducible");
+        assertTrue(first.level() >= 1);
+    }
+
+    @Test
+    void testTurnLimit() {
+        final GameResult result = new HeadlessGame(SEED, (map, player) -> Move.IDLE, 1).run();
+        assertTrue(result.turns() <= 1);
+        assertTrue(result.outcome() == GameOutcome.TURN_LIMIT || result.outcome() == GameOutcome.DIED);
+        assertEquals(SEED, new HeadlessGame(SEED, new RandomBot(SEED), MAX_TURNS).run().seed());
+    }
+
+    @Test
+    void testInvalidTurnLimit() {
+        assertThrows(IllegalArgumentException.class, () -> new HeadlessGame(SEED, new StairsBot(), 0));
+    }
+
+    @Test
+    void testParallelBatchMatchesSequentialGames() {
+        final List<GameResult> batch = new BatchSimulator(THREADS, MAX_TURNS).run(SEED, BATCH_GAMES, s -> new StairsBot());
+        assertEquals(BATCH_GAMES, batch.size());
+        for (int i = 0; i < BATCH_GAMES; i++) {
+            assertEquals(new HeadlessGame(SEED + i, new StairsBot(), MAX_TURNS).run(), batch.get(i),
+                    "Concurrent games must not share their random streams");
+        }
+        final BatchReport report = BatchReport.of(batch);
+        assertEquals(BATCH_GAMES, report.games());
+        assertEquals(BATCH_GAMES, report.outcomes().values().stream().mapToInt(Integer::intValue).sum());
+    }
+}
@@ -0,0 +1,126 @@
+package it.unibo.jrogue.simulation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import it.unibo.jrogue.boundary.HeadlessRenderer;
+import it.unibo.jrogue.boundary.NullSoundSystem;
+import it.unibo.jrogue.commons.Move;
+import it.unibo.jrogue.controller.DungeonController;
+import it.unibo.jrogue.controller.InventoryManagerImpl;
+import it.unibo.jrogue.controller.api.InventoryManager;
+import it.unibo.jrogue.engine.TurnJournal;
+import it.unibo.jrogue.simulation.api.Bot;
+import it.unibo.jrogue.simulation.api.ReplayResult;
+import it.unibo.jrogue.simulation.impl.JournalReplay;
+import it.unibo.jrogue.simulation.impl.RandomBot;
+
+/**
+ * Test class for the turn journal and the replay of recorded games.
+ */
+class JournalReplayTest {
+
+    private static final long SEED = 7L;
+    private static final int TURNS = 300;
+    private static final int CHECKPOINT_INTERVAL = 10;
+    private static final int USE_EVERY = 37;
+    private static final int MANY_RECORDS = 40_000;
+    private static final long WRONG_HASH = 42L;
+
+    private Path directory;
+    private Path journalPath;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        directory = Files.createTempDirectory("jrogue-journal");
+        journalPath = directory.resolve("journal.bin");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (final Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    private DungeonController recordGame() throws IOException {
+        final DungeonController dungeon = new DungeonController(SEED, new HeadlessRenderer(), new NullSoundSystem());
+        try (TurnJournal journal = TurnJournal.create(journalPath, SEED, CHECKPOINT_INTERVAL)) {
+            dungeon.setRecorder(journal);
+            dungeon.startNewGame();
+            final InventoryManager inventory = new InventoryManagerImpl(dungeon.getPlayer(), new NullSoundSystem(),
+                    journal);
+            final Bot bot = new RandomBot(SEED);
+            for (int turn = 1; turn <= TURNS && dungeon.getPlayer().isAlive(); turn++) {
+                if (dungeon.isOnStairs()) {
+                    dungeon.nextLevel();
+                }
+                if (turn % USE_EVERY == 0) {
+                    inventory.useItem(0);
+                }
+                dungeon.executeTurn(bot.nextMove(dungeon.getCurrentMap(), dungeon.getPlayer()));
+            }
+            assertTrue(journal.getError().isEmpty());
+        }
+        return dungeon;
+    }
+
+    @Test
+    void testReplayReachesRecordedState() throws IOException {
+        final DungeonController recorded = recordGame();
+        final ReplayResult result = new JournalReplay(journalPath).run();
+        assertTrue(result.matches());
+        assertEquals(SEED, result.seed());
+        assertEquals(recorded.getCurrentLevel(), result.level());
+        assertEquals(result.turns() / CHECKPOINT_INTERVAL, result.checkpoints());
+        assertTrue(result.checkpoints() > 0);
+    }
+
+    @Test
+    void testReplayReportsDivergence() throws IOException {
+        try (TurnJournal journal = TurnJournal.create(journalPath, SEED, CHECKPOINT_INTERVAL)) {
+            for (int i = 0; i < CHECKPOINT_INTERVAL; i++) {
+                journal.recordTurn(Move.IDLE, () -> WRONG_HASH);
+            }
+        }
+        final ReplayResult result = new JournalReplay(journalPath).run();
+        assertFalse(result.matches());
+        assertEquals(OptionalInt.of(CHECKPOINT_INTERVAL), result.divergedAtTurn());
+    }
+
+    @Test
+    void testJournalGrowsAndRejectsOtherFiles() throws IOException {
+        try (TurnJournal journal = TurnJournal.create(journalPath, SEED, CHECKPOINT_INTERVAL)) {
+            for (int i = 0; i < MANY_RECORDS; i++) {
+                journal.recordDrop(i % Byte.MAX_VALUE);
+            }
+        }
+        final TurnJournal.Reader reader = TurnJournal.read(journalPath);
+        int records = 0;
+        for (Optional<TurnJournal.Entry> entry = reader.next(); entry.isPresent(); entry = reader.next()) {
+            assertEquals(TurnJournal.Kind.DROP, entry.get().kind());
+            assertEquals(records % Byte.MAX_VALUE, entry.get().index());
+            records++;
+        }
+        assertEquals(MANY_RECORDS, records);
+
+        Files.write(journalPath, new byte[] {1, 2, 3});
+        assertThrows(IOException.class, () -> TurnJournal.read(journalPath));
+    }
+}
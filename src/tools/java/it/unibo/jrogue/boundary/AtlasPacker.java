@@ -0,0 +1,81 @@
+package it.unibo.jrogue.boundary;
+
+import java.awt.Graphics2D;
+import java.awt.Image;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import javax.imageio.ImageIO;
+
+/**
+ * Packs the source sprites into the atlas read by {@link SpriteAtlas}.
+ *
+ * <p>
+ * The source images live under {@code src/sprites}, one per {@link SpriteId}, at the path
+ * given by its sprite name. They are the files to edit: the atlas is derived from them and
+ * from the declaration order of {@link SpriteId}, and is regenerated with
+ * {@code ./gradlew packAtlas}. Images larger than their region are scaled down to fit it.
+ * </p>
+ */
+public final class AtlasPacker {
+
+    private static final String EXTENSION = ".png";
+    private static final String FORMAT = "png";
+
+    private AtlasPacker() {
+    }
+
+    /**
+     * Packs the atlas.
+     *
+     * @param args the folder of the source sprites and the atlas file to write
+     * @throws IOException if a source sprite cannot be read or the atlas cannot be written
+     */
+    public static void main(final String[] args) throws IOException {
+        if (args.length != 2) {
+            throw new IllegalArgumentException("Usage: AtlasPacker <sprites folder> <atlas file>");
+        }
+        final Path atlasFile = Path.of(args[1]);
+        final Path parent = atlasFile.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        if (!ImageIO.write(pack(Path.of(args[0])), FORMAT, atlasFile.toFile())) {
+            throw new IOException("No writer for " + FORMAT + " images");
+        }
+    }
+
+    /**
+     * Draws every sprite into its region of a new atlas.
+     *
+     * @param sources the folder of the source sprites
+     * @return the atlas
+     * @throws IOException if a source sprite is missing or cannot be read
+     */
+    static BufferedImage pack(final Path sources) throws IOException {
+        final int rows = (SpriteId.values().length + SpriteId.COLUMNS - 1) / SpriteId.COLUMNS;
+        final BufferedImage atlas = new BufferedImage(SpriteId.COLUMNS * SpriteId.CELL, rows * SpriteId.CELL,
+                BufferedImage.TYPE_INT_ARGB);
+        final Graphics2D graphics = atlas.createGraphics();
+        try {
+            for (final SpriteId sprite : SpriteId.values()) {
+                final Path file = sources.resolve(sprite.getSpriteName() + EXTENSION);
+                final BufferedImage image = ImageIO.read(file.toFile());
+                if (image == null) {
+                    throw new IOException("Not an image: " + file);
+                }
+                if (image.getWidth() > sprite.getSize() || image.getHeight() > sprite.getSize()) {
+                    graphics.drawImage(image.getScaledInstance(sprite.getSize(), sprite.getSize(),
+                            Image.SCALE_AREA_AVERAGING), sprite.getAtlasX(), sprite.getAtlasY(), null);
+                } else {
+                    graphics.drawImage(image, sprite.getAtlasX(), sprite.getAtlasY(), null);
+                }
+            }
+        } finally {
+            graphics.dispose();
+        }
+        return atlas;
+    }
+}